@@ -0,0 +1,20 @@
+-- =========================================
+-- 기존 DB 반영용 마이그레이션
+-- - schema.sql은 CREATE TABLE IF NOT EXISTS라 이미 만들어진 DB에는 새 인덱스가 생기지 않는다.
+-- - 새로 init하는 환경은 schema.sql에 이미 포함되어 있으므로 실행하지 않는다.
+-- =========================================
+USE meeting_room;
+
+-- ✅ 예약 목록 커서 페이징(start_time DESC, id DESC)
+ALTER TABLE reservation
+    ADD INDEX idx_reservation_room_start (room_id, start_time),
+    ADD INDEX idx_reservation_user_start (user_id, start_time);
+
+-- ✅ 검색(q) ngram FULLTEXT
+-- - FULLTEXT 인덱스는 테이블당 1개씩 나눠 추가(InnoDB는 한 번에 여러 개 추가 불가)
+-- - stopword 끄고 생성: 기본 목록이 켜져 있으면 stopword를 포함한 ngram 토큰이 빠져 영문 검색이 누락된다.
+--   (이미 stopword 켠 채로 만든 DB는 007_fulltext_without_stopwords.sql로 다시 만든다)
+SET SESSION innodb_ft_enable_stopword = OFF;
+ALTER TABLE reservation ADD FULLTEXT INDEX ft_reservation_title (title) WITH PARSER ngram;
+ALTER TABLE room ADD FULLTEXT INDEX ft_room_name (name) WITH PARSER ngram;
+ALTER TABLE room ADD FULLTEXT INDEX ft_room_name_location (name, location) WITH PARSER ngram;
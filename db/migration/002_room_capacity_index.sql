@@ -0,0 +1,8 @@
+-- =========================================
+-- 기존 DB 반영용 마이그레이션
+-- - 새로 init하는 환경은 schema.sql에 이미 포함되어 있으므로 실행하지 않는다.
+-- =========================================
+USE meeting_room;
+
+-- ✅ 빈 회의실 찾기(is_active = 1 AND capacity >= ? ORDER BY capacity)
+ALTER TABLE room ADD INDEX idx_room_active_capacity (is_active, capacity);
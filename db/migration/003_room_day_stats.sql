@@ -0,0 +1,33 @@
+-- =========================================
+-- 기존 DB 반영용 마이그레이션
+-- - 새로 init하는 환경은 schema.sql에 이미 포함되어 있으므로 테이블 생성은 건너뛴다.
+-- - 백필은 기존 예약 전체를 한 번 집계한다(이후에는 예약 트랜잭션이 증감).
+-- =========================================
+USE meeting_room;
+
+CREATE TABLE IF NOT EXISTS `room_day_stats` (
+    room_id INT NOT NULL,
+    stat_date DATE NOT NULL COMMENT '예약 시작일',
+    booked_count INT NOT NULL DEFAULT 0,
+    booked_minutes INT NOT NULL DEFAULT 0,
+
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (room_id, stat_date),
+    KEY idx_room_day_stats_date (stat_date),
+
+    CONSTRAINT fk_room_day_stats_room
+    FOREIGN KEY (room_id) REFERENCES `room`(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+    ) ENGINE=InnoDB
+    DEFAULT CHARSET=utf8mb4
+    COLLATE=utf8mb4_unicode_ci;
+
+-- ✅ 백필(앱 배포 전 1회)
+DELETE FROM room_day_stats;
+INSERT INTO room_day_stats (room_id, stat_date, booked_count, booked_minutes)
+SELECT room_id, DATE(start_time), COUNT(*), SUM(TIMESTAMPDIFF(MINUTE, start_time, end_time))
+FROM reservation
+WHERE status = 'BOOKED'
+GROUP BY room_id, DATE(start_time);
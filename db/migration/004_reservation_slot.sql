@@ -0,0 +1,43 @@
+-- =========================================
+-- 기존 DB 반영용 마이그레이션
+-- - 새로 init하는 환경은 schema.sql에 이미 포함되어 있으므로 테이블 생성은 건너뛴다.
+-- - 백필은 conflictMode=slot으로 전환할 때마다 실행한다(다른 모드 동안에는 점유 행을 유지하지 않음).
+-- - grain은 -Dmeeting.reservation.slotGrainMinutes(기본 5)와 같아야 한다(아래 5를 함께 변경).
+-- =========================================
+USE meeting_room;
+
+CREATE TABLE IF NOT EXISTS `reservation_slot` (
+    room_id INT NOT NULL,
+    slot_start DATETIME NOT NULL,
+    reservation_id INT NOT NULL,
+
+    PRIMARY KEY (room_id, slot_start),
+    KEY idx_reservation_slot_reservation (reservation_id),
+
+    CONSTRAINT fk_reservation_slot_reservation
+    FOREIGN KEY (reservation_id) REFERENCES `reservation`(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+    ) ENGINE=InnoDB
+    DEFAULT CHARSET=utf8mb4
+    COLLATE=utf8mb4_unicode_ci;
+
+-- ✅ 백필(앱을 slot 모드로 띄우기 전, 예약 쓰기가 없을 때 1회)
+-- - BOOKED 예약마다 [start(grain 내림), end + 회의실 buffer) 칸 생성
+DELETE FROM reservation_slot;
+INSERT INTO reservation_slot (room_id, slot_start, reservation_id)
+WITH RECURSIVE s AS (
+    SELECT r.id AS reservation_id,
+           r.room_id,
+           CAST(DATE_SUB(DATE_FORMAT(r.start_time, '%Y-%m-%d %H:%i:00'),
+                         INTERVAL MOD(MINUTE(r.start_time), 5) MINUTE) AS DATETIME) AS slot_start,
+           DATE_ADD(r.end_time, INTERVAL rm.buffer_minutes MINUTE) AS claim_end
+    FROM reservation r
+    JOIN room rm ON rm.id = r.room_id
+    WHERE r.status = 'BOOKED'
+    UNION ALL
+    SELECT reservation_id, room_id, slot_start + INTERVAL 5 MINUTE, claim_end
+    FROM s
+    WHERE slot_start + INTERVAL 5 MINUTE < claim_end
+)
+SELECT room_id, slot_start, reservation_id FROM s;
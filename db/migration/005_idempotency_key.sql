@@ -0,0 +1,22 @@
+-- =========================================
+-- 기존 DB 반영용 마이그레이션
+-- - 새로 init하는 환경은 schema.sql에 이미 포함되어 있으므로 실행하지 않는다.
+-- - 멱등 키를 DB에 저장할 때만 필요(-Dmeeting.idempotency.persist=true)
+-- =========================================
+USE meeting_room;
+
+CREATE TABLE IF NOT EXISTS `idempotency_key` (
+    scope_key VARCHAR(255) NOT NULL,
+    fingerprint CHAR(64) NOT NULL COMMENT '요청 파라미터 SHA-256',
+    status_code INT NULL,
+    content_type VARCHAR(100) NULL,
+    response_body MEDIUMTEXT NULL,
+
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at DATETIME NOT NULL,
+
+    PRIMARY KEY (scope_key),
+    KEY idx_idempotency_key_expires (expires_at)
+    ) ENGINE=InnoDB
+    DEFAULT CHARSET=utf8mb4
+    COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,32 @@
+-- =========================================
+-- 기존 DB 반영용 마이그레이션
+-- - 새로 init하는 환경은 schema.sql에 이미 포함되어 있으므로 실행하지 않는다.
+-- - chat_thread 목록용 비정규화 컬럼 + 정렬 인덱스 추가 후 1회 백필
+-- - 배포 후 어긋남 확인/재계산: GET/POST /admin/db/chat-thread-summary
+-- =========================================
+USE meeting_room;
+
+ALTER TABLE chat_thread
+    ADD COLUMN last_message_id BIGINT NULL AFTER last_message_at,
+    ADD COLUMN last_message_preview VARCHAR(200) NULL COMMENT '최근 메시지 1줄 요약(최대 200자)' AFTER last_message_id,
+    ADD COLUMN message_count INT NOT NULL DEFAULT 0 AFTER last_message_preview,
+    ADD COLUMN activity_at DATETIME NOT NULL DEFAULT '1000-01-01 00:00:00' AFTER message_count,
+    ADD INDEX idx_chat_thread_activity (activity_at, id),
+    ADD INDEX idx_chat_thread_status_activity (status, activity_at, id);
+
+-- ✅ 백필(앱 배포 전 1회) - ChatThreadDAO.rebuildSummaries와 같은 규칙
+UPDATE chat_thread t
+LEFT JOIN (
+    SELECT thread_id, COUNT(*) AS cnt, MAX(id) AS max_id
+    FROM chat_message
+    GROUP BY thread_id
+) s ON s.thread_id = t.id
+LEFT JOIN chat_message m ON m.id = s.max_id
+SET t.message_count = COALESCE(s.cnt, 0),
+    t.last_message_id = s.max_id,
+    t.last_message_preview = CASE
+        WHEN m.id IS NULL THEN NULL
+        ELSE COALESCE(NULLIF(LEFT(TRIM(REGEXP_REPLACE(m.content, '[[:space:]]+', ' ')), 200), ''), '-')
+    END,
+    t.last_message_at = COALESCE(m.created_at, t.last_message_at),
+    t.activity_at = COALESCE(m.created_at, '1000-01-01 00:00:00');
@@ -0,0 +1,24 @@
+-- =========================================
+-- 기존 DB 반영용 마이그레이션
+-- - 001에서 기본 stopword가 켜진 채로 만든 ngram FULLTEXT 인덱스를 stopword 없이 다시 만든다.
+-- - 새로 init하는 환경(schema.sql)과 이 변경 이후 001을 적용한 DB는 실행하지 않아도 된다.
+--
+-- 이유:
+-- - ngram 파서는 stopword를 "포함한" 토큰을 버린다(예: "a", "i", "in" → "da", "ta", "ai", "in" 등).
+--   그래서 "data", "main" 같은 영문 검색어는 SearchQuery(+"term")로 찾지 못했다(LIKE '%q%'는 찾던 행).
+-- - stopword 설정은 인덱스를 만드는 시점에 고정되므로 설정만 바꿔서는 반영되지 않는다.
+-- - 서버 설정도 함께 끈다(--innodb-ft-enable-stopword=OFF): 이후 테이블 재구성/replica 적용 시 같은 결과
+-- =========================================
+USE meeting_room;
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+-- FULLTEXT 인덱스는 테이블당 1개씩 나눠 다시 추가(InnoDB는 한 번에 여러 개 추가 불가)
+ALTER TABLE reservation DROP INDEX ft_reservation_title;
+ALTER TABLE reservation ADD FULLTEXT INDEX ft_reservation_title (title) WITH PARSER ngram;
+
+ALTER TABLE room DROP INDEX ft_room_name;
+ALTER TABLE room ADD FULLTEXT INDEX ft_room_name (name) WITH PARSER ngram;
+
+ALTER TABLE room DROP INDEX ft_room_name_location;
+ALTER TABLE room ADD FULLTEXT INDEX ft_room_name_location (name, location) WITH PARSER ngram;
@@ -0,0 +1,14 @@
+-- =========================================================
+-- 읽기 replica 초기화(docker compose --profile replica 전용)
+-- - schema.sql/data.sql 적재 후 primary(mysql 서비스)를 GTID 기준으로 복제 시작
+-- - primary의 초기화 스크립트는 binlog 없이 실행되므로 두 인스턴스는 같은 초기 상태에서 출발한다.
+-- =========================================================
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = '1234',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+
+START REPLICA;
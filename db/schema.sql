@@ -19,6 +19,12 @@ CREATE DATABASE IF NOT EXISTS meeting_room
 
 USE meeting_room;
 
+-- ✅ ngram FULLTEXT 인덱스는 만들 때의 stopword 설정을 그대로 쓴다.
+-- - 기본 stopword 목록(a, i, in, ...)이 켜져 있으면 그 글자를 포함한 ngram 토큰("ai", "in" 등)이 색인되지 않아
+--   영문 검색어("data", "main")가 LIKE '%q%'로는 찾던 행을 놓친다 → 이 세션에서 끄고 테이블을 만든다.
+-- - 서버(docker-compose)도 --innodb-ft-enable-stopword=OFF (인덱스 재구성/replica 적용 시 같은 설정)
+SET SESSION innodb_ft_enable_stopword = OFF;
+
 -- =========================================
 -- TABLE: user
 -- =========================================
@@ -76,6 +82,14 @@ CREATE TABLE IF NOT EXISTS `room` (
 
     UNIQUE KEY uk_room_name (name),
 
+    -- ✅ 빈 회의실 찾기(활성 + 최소 인원, 인원 오름차순)
+    KEY idx_room_active_capacity (is_active, capacity),
+
+    -- ✅ 검색(q)용 ngram FULLTEXT(한글 2글자 단위 토큰)
+    -- - 예약 목록 검색: MATCH(name) / 회의실 목록 검색: MATCH(name, location)
+    FULLTEXT INDEX ft_room_name (name) WITH PARSER ngram,
+    FULLTEXT INDEX ft_room_name_location (name, location) WITH PARSER ngram,
+
     -- ✅ 최소 제약(너무 딥하게 고정하지 않음)
     CONSTRAINT ck_room_capacity CHECK (capacity >= 1),
     CONSTRAINT ck_room_buffer_minutes CHECK (buffer_minutes IN (0, 10, 30, 60)),
@@ -194,6 +208,14 @@ CREATE TABLE IF NOT EXISTS `reservation` (
     INDEX `idx_reservation_user_time` (`user_id`, `start_time`, `end_time`) USING BTREE,
     INDEX `idx_reservation_status_time` (`status`, `start_time`) USING BTREE,
 
+    -- ✅ 커서 페이징용(ORDER BY start_time DESC, id DESC를 filesort 없이)
+    -- - InnoDB 보조 인덱스는 PK(id)를 뒤에 포함하므로 (owner, start_time)만으로 (owner, start_time, id) 순서가 된다.
+    INDEX `idx_reservation_room_start` (`room_id`, `start_time`) USING BTREE,
+    INDEX `idx_reservation_user_start` (`user_id`, `start_time`) USING BTREE,
+
+    -- ✅ 제목 검색용 ngram FULLTEXT(LIKE '%q%' 전체 스캔 대체)
+    FULLTEXT INDEX `ft_reservation_title` (`title`) WITH PARSER ngram,
+
     CONSTRAINT `fk_reservation_room`
     FOREIGN KEY (`room_id`) REFERENCES `room` (`id`)
                                                              ON UPDATE CASCADE
@@ -209,6 +231,54 @@ CREATE TABLE IF NOT EXISTS `reservation` (
     DEFAULT CHARSET=utf8mb4
     COLLATE=utf8mb4_unicode_ci;
 
+-- =========================================
+-- TABLE: reservation_slot
+-- =========================================
+-- 예약 시간 칸 점유(충돌 판단 slot 모드, -Dmeeting.reservation.conflictMode=slot)
+-- - 예약 1건 = [start, end + buffer)를 grain(기본 5분) 칸으로 나눈 행 N개
+-- - PK(room_id, slot_start) 유니크 → 겹치는 예약 INSERT는 duplicate key로 실패(범위 잠금 없음)
+-- - 취소/수정 시 reservation_id로 삭제, 예약 삭제 시 CASCADE
+CREATE TABLE IF NOT EXISTS `reservation_slot` (
+    room_id INT NOT NULL,
+    slot_start DATETIME NOT NULL,
+    reservation_id INT NOT NULL,
+
+    PRIMARY KEY (room_id, slot_start),
+    KEY idx_reservation_slot_reservation (reservation_id),
+
+    CONSTRAINT fk_reservation_slot_reservation
+    FOREIGN KEY (reservation_id) REFERENCES `reservation`(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+    ) ENGINE=InnoDB
+    DEFAULT CHARSET=utf8mb4
+    COLLATE=utf8mb4_unicode_ci;
+
+-- =========================================
+-- TABLE: room_day_stats
+-- =========================================
+-- 회의실 × 날짜별 BOOKED 예약 롤업(달력/매트릭스 조회용)
+-- - 예약 생성/수정/취소 트랜잭션 안에서 증감(ReservationDAO)
+-- - 어긋나면 /admin/db/room-day-stats 로 검증/재계산
+CREATE TABLE IF NOT EXISTS `room_day_stats` (
+    room_id INT NOT NULL,
+    stat_date DATE NOT NULL COMMENT '예약 시작일',
+    booked_count INT NOT NULL DEFAULT 0,
+    booked_minutes INT NOT NULL DEFAULT 0,
+
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (room_id, stat_date),
+    KEY idx_room_day_stats_date (stat_date),
+
+    CONSTRAINT fk_room_day_stats_room
+    FOREIGN KEY (room_id) REFERENCES `room`(id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+    ) ENGINE=InnoDB
+    DEFAULT CHARSET=utf8mb4
+    COLLATE=utf8mb4_unicode_ci;
+
 -- =========================
 -- 1:1 채팅(문의) - MVP
 -- =========================
@@ -220,6 +290,13 @@ CREATE TABLE IF NOT EXISTS chat_thread (
                                            status VARCHAR(20) NOT NULL DEFAULT 'OPEN',
     last_message_at DATETIME NULL,
 
+    -- ✅ 목록용 비정규화(메시지 저장 트랜잭션에서 함께 갱신, 백필: /admin/db/chat-thread-summary)
+    last_message_id BIGINT NULL,
+    last_message_preview VARCHAR(200) NULL COMMENT '최근 메시지 1줄 요약(최대 200자)',
+    message_count INT NOT NULL DEFAULT 0,
+    -- 정렬 키: 최근 메시지 시각, 메시지가 없으면 1000-01-01(맨 뒤)
+    activity_at DATETIME NOT NULL DEFAULT '1000-01-01 00:00:00',
+
     created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
@@ -229,6 +306,10 @@ CREATE TABLE IF NOT EXISTS chat_thread (
     INDEX idx_chat_thread_updated_at (updated_at),
     INDEX idx_chat_thread_last_message_at (last_message_at),
 
+    -- ✅ 관리자 목록: ORDER BY activity_at DESC, id DESC (상태 필터 있으면 status 포함 인덱스)
+    INDEX idx_chat_thread_activity (activity_at, id),
+    INDEX idx_chat_thread_status_activity (status, activity_at, id),
+
     -- ✅ user 삭제 정책을 어떻게 가져갈지에 따라 CASCADE/RESTRICT 선택
     -- 현재는 reservation이 NO ACTION이므로, 동일하게 NO ACTION 유지
     CONSTRAINT fk_chat_thread_user
@@ -265,3 +346,26 @@ CREATE TABLE IF NOT EXISTS chat_message (
 -- - (thread_id) 단일 인덱스가 이미 있더라도, (thread_id, id) 복합은 별도 효용이 있음
 CREATE INDEX idx_chat_message_thread_id_id
     ON chat_message(thread_id, id);
+
+-- =========================================
+-- TABLE: idempotency_key
+-- =========================================
+-- 쓰기 API 멱등 키(-Dmeeting.idempotency.persist=true 일 때만 사용, 서버 여러 대 공유)
+-- - scope_key = "{로그인 사용자 id}:{경로}:{Idempotency-Key}"
+-- - status_code NULL = 처리 중(선점), 값이 있으면 최초 응답 저장 완료
+-- - 만료 행은 앱이 조금씩 삭제(expires_at 인덱스)
+CREATE TABLE IF NOT EXISTS `idempotency_key` (
+    scope_key VARCHAR(255) NOT NULL,
+    fingerprint CHAR(64) NOT NULL COMMENT '요청 파라미터 SHA-256',
+    status_code INT NULL,
+    content_type VARCHAR(100) NULL,
+    response_body MEDIUMTEXT NULL,
+
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at DATETIME NOT NULL,
+
+    PRIMARY KEY (scope_key),
+    KEY idx_idempotency_key_expires (expires_at)
+    ) ENGINE=InnoDB
+    DEFAULT CHARSET=utf8mb4
+    COLLATE=utf8mb4_unicode_ci;
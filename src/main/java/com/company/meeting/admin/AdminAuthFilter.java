@@ -22,7 +22,7 @@ import java.io.IOException;
  * 예외:
  *  - /admin/auth/login
  */
-@WebFilter("/admin/*")
+@WebFilter(urlPatterns = "/admin/*", asyncSupported = true)
 public class AdminAuthFilter implements Filter {
 
     @Override
@@ -0,0 +1,38 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.chat.live.ChatInboxStream;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * AdminChatInboxStreamServlet
+ * - 관리자 대화관리(채팅문의) 목록 실시간 갱신(Server-Sent Events)
+ *
+ * URL:
+ * - GET /admin/chat/threads/stream  (EventSource)
+ *
+ * 이벤트:
+ * - ready  : 연결 직후 1회(재연결 시 클라이언트가 목록을 다시 조회하는 기준)
+ * - thread : 메시지 저장 시 thread 변경분
+ *            { threadId, lastMessageId, senderRole, userLoginId?, lastMessagePreview, lastMessageAt }
+ *
+ * 비활성/연결 상한 초과: 503 → 목록 화면은 실시간 갱신 없이 동작
+ * 인증: AdminAuthFilter(/admin/*)
+ */
+@WebServlet(urlPatterns = "/admin/chat/threads/stream", asyncSupported = true)
+public class AdminChatInboxStreamServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!ChatInboxStream.open(request, response)) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+}
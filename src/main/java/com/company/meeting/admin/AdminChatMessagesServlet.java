@@ -2,6 +2,7 @@ package com.company.meeting.admin;
 
 import com.company.meeting.admin.chat.service.AdminChatMessageService;
 import com.company.meeting.admin.chat.service.AdminChatMessageService.MessageListResult;
+import com.company.meeting.chat.live.ChatLongPoll;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
@@ -18,8 +19,10 @@ import java.util.Map;
  * - 관리자 채팅 메시지 조회
  *
  * GET /admin/chat/messages?threadId=2&sinceId=0&limit=50
+ * - wait=1: 롱폴링(sinceId 이후 메시지가 없으면 새 메시지/시간 초과까지 대기, ChatLongPoll)
+ *   - 응답 data.longPoll=true면 바로 다시 조회, false면 2초 후 다시 조회
  */
-@WebServlet("/admin/chat/messages")
+@WebServlet(urlPatterns = "/admin/chat/messages", asyncSupported = true)
 public class AdminChatMessagesServlet extends HttpServlet {
 
     private static final ObjectMapper OM = new ObjectMapper();
@@ -35,20 +38,23 @@ public class AdminChatMessagesServlet extends HttpServlet {
         long sinceId = parseLongOrDefault(request.getParameter("sinceId"), 0);
         int limit = parseIntOrDefault(request.getParameter("limit"), 50);
 
+        boolean wait = "1".equals(request.getParameter("wait"));
+
         try {
-            MessageListResult result = service.getMessages(threadId, sinceId, limit);
+            // ✅ 롱폴링: 이 서버가 아는 최신 id가 sinceId 이하이고 최근(timeoutMs 안)에 DB로 확인했으면 바로 대기
+            if (wait && threadId > 0 && !ChatLongPoll.mayHaveNewer(threadId, sinceId)) {
+                if (park(request, response, threadId, sinceId, limit)) return;
+            }
 
-            Map<String, Object> data = new LinkedHashMap<>();
-            data.put("items", result.getItems());
-            data.put("nextSinceId", result.getNextSinceId());
+            MessageListResult result = service.getMessages(threadId, sinceId, limit);
 
-            Map<String, Object> root = new LinkedHashMap<>();
-            root.put("ok", true);
-            root.put("message", "");
-            root.put("data", data);
+            if (wait && result.getItems().isEmpty()) {
+                ChatLongPoll.observed(threadId, sinceId);
+                if (park(request, response, threadId, sinceId, limit)) return;
+            }
 
-            response.setStatus(200);
-            OM.writeValue(response.getWriter(), root);
+            // 대기하지 못했으면(비활성/대기 상한) longPoll=false → 클라이언트가 잠시 쉬었다가 다시 조회
+            writeResult(response, result, wait && !result.getItems().isEmpty());
 
         } catch (IllegalArgumentException e) {
             response.setStatus(400);
@@ -60,6 +66,40 @@ public class AdminChatMessagesServlet extends HttpServlet {
         }
     }
 
+    /**
+     * 새 메시지/시간 초과까지 대기(깨어나면/시간 초과면 DB 조회, 다른 서버에서 저장된 메시지 포함)
+     */
+    private boolean park(HttpServletRequest request, HttpServletResponse response,
+                         int threadId, long sinceId, int limit) {
+        return ChatLongPoll.park(request, response, threadId, sinceId, (resp, signalled) -> {
+            try {
+                MessageListResult result = service.getMessages(threadId, sinceId, limit);
+                writeResult(resp, result, true);
+
+            } catch (Exception e) {
+                resp.setStatus(500);
+                OM.writeValue(resp.getWriter(), errorBody("메시지 조회 중 오류가 발생했습니다."));
+            }
+        });
+    }
+
+    private static void writeResult(HttpServletResponse response, MessageListResult result, boolean longPoll)
+            throws IOException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("items", result.getItems());
+        data.put("nextSinceId", result.getNextSinceId());
+        data.put("longPoll", longPoll);
+
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("ok", true);
+        root.put("message", "");
+        root.put("data", data);
+
+        response.setContentType("application/json; charset=UTF-8");
+        response.setStatus(200);
+        OM.writeValue(response.getWriter(), root);
+    }
+
     private static int parseIntOrDefault(String s, int def) {
         try {
             if (s == null) return def;
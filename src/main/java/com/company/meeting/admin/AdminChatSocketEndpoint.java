@@ -0,0 +1,126 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.admin.chat.dto.AdminChatMessageItem;
+import com.company.meeting.admin.chat.service.AdminChatMessageService;
+import com.company.meeting.chat.live.ChatSocketConfigurator;
+import com.company.meeting.chat.live.ChatSocketHub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.OnClose;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * AdminChatSocketEndpoint
+ * - WS /admin/chat/ws?threadId=2 : 관리자 채팅 팝업 소켓(관리자 로그인 세션 필요)
+ * - 연결 시 해당 thread를 구독 → 메시지가 저장되는 즉시 { type:"message", item(AdminChatMessageItem) } 수신
+ *
+ * 클라이언트 → 서버:
+ * - { type:"send", clientId, content } → 저장 후 { type:"ack", clientId, item } 또는 { type:"error", clientId, message }
+ * - { type:"ping" } → 무시(유휴 시간 초과 방지)
+ *
+ * 소켓을 쓸 수 없으면 클라이언트는 기존 GET /admin/chat/messages(롱폴링), POST /admin/chat/send로 동작한다.
+ */
+@ServerEndpoint(value = "/admin/chat/ws", configurator = ChatSocketConfigurator.class)
+public class AdminChatSocketEndpoint {
+
+    private static final ObjectMapper OM = new ObjectMapper();
+    private static final long IDLE_TIMEOUT_MS = readLong("meeting.chat.ws.idleTimeoutMs", 120_000L);
+
+    private final AdminChatMessageService service = new AdminChatMessageService();
+
+    private ChatSocketHub.Subscriber subscriber;
+    private int threadId;
+
+    @OnOpen
+    public void onOpen(Session session, EndpointConfig config) throws IOException {
+        HttpSession hs = (HttpSession) config.getUserProperties().get(ChatSocketConfigurator.HTTP_SESSION);
+        Object login = null;
+        try {
+            login = (hs == null) ? null : hs.getAttribute("LOGIN_ADMIN");
+        } catch (IllegalStateException ignore) {
+            // 세션 만료
+        }
+        if (login == null) {
+            session.close(new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "login required"));
+            return;
+        }
+
+        List<String> p = session.getRequestParameterMap().get("threadId");
+        threadId = parseIntOrDefault((p == null || p.isEmpty()) ? null : p.get(0), 0);
+
+        try {
+            service.requireThread(threadId);
+        } catch (IllegalArgumentException e) {
+            session.close(new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "invalid threadId"));
+            return;
+        }
+
+        session.setMaxIdleTimeout(IDLE_TIMEOUT_MS);
+        subscriber = ChatSocketHub.join(threadId, session, true);
+    }
+
+    @OnMessage
+    public void onMessage(String text) {
+        if (subscriber == null) return;
+
+        String clientId = null;
+        try {
+            JsonNode node = OM.readTree(text);
+            String type = node.path("type").asText("");
+            clientId = node.hasNonNull("clientId") ? node.get("clientId").asText() : null;
+
+            if ("ping".equals(type)) return;
+            if (!"send".equals(type)) {
+                subscriber.send(ChatSocketHub.errorFrame(clientId, "지원하지 않는 요청입니다."));
+                return;
+            }
+
+            // ✅ POST /admin/chat/send와 같은 처리(관리자ID는 아직 null)
+            AdminChatMessageItem saved = service.sendAdminMessage(threadId, null, node.path("content").asText(""));
+            subscriber.send(ChatSocketHub.frame("ack", clientId, saved));
+
+        } catch (IllegalArgumentException e) {
+            subscriber.send(ChatSocketHub.errorFrame(clientId, e.getMessage()));
+        } catch (Exception e) {
+            subscriber.send(ChatSocketHub.errorFrame(clientId, "메시지 전송 중 오류가 발생했습니다."));
+        }
+    }
+
+    @OnClose
+    public void onClose() {
+        ChatSocketHub.leave(subscriber);
+    }
+
+    @OnError
+    public void onError(Throwable t) {
+        ChatSocketHub.leave(subscriber);
+    }
+
+    private static int parseIntOrDefault(String s, int def) {
+        try {
+            if (s == null) return def;
+            return Integer.parseInt(s.trim());
+        } catch (Exception e) {
+            return def;
+        }
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Math.max(1_000L, Long.parseLong(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
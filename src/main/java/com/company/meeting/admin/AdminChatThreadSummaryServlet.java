@@ -0,0 +1,100 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.admin.chat.dao.ChatThreadDAO;
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AdminChatThreadSummaryServlet
+ * - GET  /admin/db/chat-thread-summary : chat_thread 비정규화 값(message_count, last_message_id) ↔ 원본 메시지 비교(검증)
+ *   - limit(불일치 최대 개수, 기본 100)
+ * - POST /admin/db/chat-thread-summary : 전체 재계산(백필, thread id 구간별로 나눠 갱신)
+ *   - batchSize(구간 크기, 기본 500)
+ *
+ * 응답:
+ * - GET : ApiResponse.ok({ mismatchCount, mismatches:[{threadId,messageCount,lastMessageId,rawCount,rawLastMessageId}] })
+ * - POST: ApiResponse.ok({ batchSize, rows })
+ */
+@WebServlet("/admin/db/chat-thread-summary")
+public class AdminChatThreadSummaryServlet extends HttpServlet {
+
+    private final ChatThreadDAO dao = new ChatThreadDAO();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            if (!isAdmin(req, resp)) return;
+
+            int limit = parseInt(req.getParameter("limit"), 100);
+
+            List<Map<String, Object>> mismatches = dao.verifySummaries(limit);
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("mismatchCount", mismatches.size());
+            data.put("mismatches", mismatches);
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "채팅 목록 요약 검증 실패" : e.getMessage()));
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            if (!isAdmin(req, resp)) return;
+
+            int batchSize = parseInt(req.getParameter("batchSize"), 500);
+            if (batchSize < 1 || batchSize > 10_000) {
+                resp.setStatus(400);
+                JsonUtil.writeJson(resp, ApiResponse.fail("batchSize는 1~10000 사이여야 합니다."));
+                return;
+            }
+
+            int rows = dao.rebuildSummaries(batchSize);
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("batchSize", batchSize);
+            data.put("rows", rows);
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "채팅 목록 요약 재계산 실패" : e.getMessage()));
+        }
+    }
+
+    /**
+     * 관리자 로그인 체크 (필터가 있어도 방어적으로)
+     */
+    private boolean isAdmin(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        Object loginAdmin = req.getSession().getAttribute("LOGIN_ADMIN");
+        if (loginAdmin == null) {
+            resp.setStatus(401);
+            JsonUtil.writeJson(resp, ApiResponse.fail("관리자 로그인이 필요합니다."));
+            return false;
+        }
+        return true;
+    }
+
+    private int parseInt(String s, int def) {
+        try {
+            return (s == null || s.isBlank()) ? def : Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+import com.company.meeting.reservation.conflict.ConflictBenchmark;
+import com.company.meeting.reservation.conflict.ConflictStrategies;
+import com.company.meeting.reservation.conflict.ConflictStrategy;
+import com.company.meeting.user.dto.UserDTO;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AdminConflictBenchServlet
+ * - POST /admin/db/conflict-bench : 충돌 판단 전략별 동시 예약 벤치마크(ConflictBenchmark)
+ *   - strategies: 콤마 구분(기본: range,room,named,slot)
+ *   - threads(기본 16, 최대 64), seconds(전략당, 기본 10, 최대 60)
+ *   - coldRooms(기본 20, 최대 200), hotPercent(기본 50), cancelPercent(기본 10)
+ *
+ * 주의:
+ * - 실제 DB에 임시 회의실/예약을 만들고 지운다 → -Dmeeting.bench.enabled=true 인 환경에서만 실행
+ * - 요청이 끝날 때까지(전략 수 × seconds) 응답하지 않는다.
+ *
+ * 응답:
+ * ApiResponse.ok({
+ *   configured: "range",
+ *   results: [ { strategy, threads, elapsedMillis, ops, booked, conflicts, canceled, deadlocks, lockTimeouts,
+ *                errors, throughputOps, p50Millis, p99Millis, maxMillis, hotBooked, doubleBookings, sampleError } ]
+ * })
+ */
+@WebServlet("/admin/db/conflict-bench")
+public class AdminConflictBenchServlet extends HttpServlet {
+
+    private static final boolean ENABLED =
+            "true".equalsIgnoreCase(System.getProperty("meeting.bench.enabled", "false").trim());
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            Object loginAdmin = req.getSession().getAttribute("LOGIN_ADMIN");
+            if (!(loginAdmin instanceof UserDTO)) {
+                resp.setStatus(401);
+                JsonUtil.writeJson(resp, ApiResponse.fail("관리자 로그인이 필요합니다."));
+                return;
+            }
+            if (!ENABLED) {
+                resp.setStatus(403);
+                JsonUtil.writeJson(resp, ApiResponse.fail("벤치마크가 비활성화되어 있습니다. (-Dmeeting.bench.enabled=true)"));
+                return;
+            }
+
+            List<ConflictStrategy> strategies = new ArrayList<>();
+            String names = req.getParameter("strategies");
+            for (String n : (names == null || names.isBlank()) ? ConflictStrategies.names() : List.of(names.split(","))) {
+                if (!n.isBlank()) strategies.add(ConflictStrategies.of(n));
+            }
+
+            ConflictBenchmark.Options opt = new ConflictBenchmark.Options();
+            opt.setUserId(((UserDTO) loginAdmin).getId());
+            opt.setThreads(clamp(parseInt(req.getParameter("threads"), 16), 1, 64));
+            opt.setSeconds(clamp(parseInt(req.getParameter("seconds"), 10), 1, 60));
+            opt.setColdRooms(clamp(parseInt(req.getParameter("coldRooms"), 20), 0, 200));
+            opt.setHotPercent(clamp(parseInt(req.getParameter("hotPercent"), 50), 0, 100));
+            opt.setCancelPercent(clamp(parseInt(req.getParameter("cancelPercent"), 10), 0, 100));
+
+            ConflictBenchmark bench = new ConflictBenchmark();
+            List<ConflictBenchmark.Result> results = new ArrayList<>();
+            for (ConflictStrategy s : strategies) {
+                results.add(bench.run(s, opt));
+            }
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("configured", ConflictStrategies.configured().name());
+            data.put("results", results);
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+
+        } catch (IllegalArgumentException e) {
+            resp.setStatus(400);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage()));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail("벤치마크가 중단되었습니다."));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "벤치마크 실패" : e.getMessage()));
+        }
+    }
+
+    private int parseInt(String s, int def) {
+        try {
+            return (s == null || s.isBlank()) ? def : Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    private int clamp(int v, int min, int max) {
+        return Math.max(min, Math.min(max, v));
+    }
+}
@@ -0,0 +1,87 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.common.db.SqlMetrics;
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AdminDbSqlStatsServlet
+ * - GET  /admin/db/sql : 정규화 SQL별 실행 집계(JSON)
+ *   - sort: total(기본) | avg | p99 | calls | errors | rows
+ *   - limit: 최대 개수(기본 50, 0이면 전체)
+ * - POST /admin/db/sql : 집계 초기화
+ *
+ * 응답:
+ * ApiResponse.ok({
+ *   enabled: true,
+ *   items: [ { sql, calls, errors, rows, totalMillis, avgMillis, maxMillis,
+ *              p50Millis, p95Millis, p99Millis }, ... ]
+ * })
+ */
+@WebServlet("/admin/db/sql")
+public class AdminDbSqlStatsServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            if (!isAdmin(req, resp)) return;
+
+            String sort = req.getParameter("sort");
+            int limit = parseInt(req.getParameter("limit"), 50);
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("enabled", SqlMetrics.isEnabled());
+            data.put("items", SqlMetrics.snapshot(sort, limit));
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "SQL 집계 조회 실패" : e.getMessage()));
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            if (!isAdmin(req, resp)) return;
+
+            SqlMetrics.reset();
+            JsonUtil.writeJson(resp, ApiResponse.ok(null));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "SQL 집계 초기화 실패" : e.getMessage()));
+        }
+    }
+
+    /**
+     * 관리자 로그인 체크 (필터가 있어도 방어적으로)
+     */
+    private boolean isAdmin(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        Object loginAdmin = req.getSession().getAttribute("LOGIN_ADMIN");
+        if (loginAdmin == null) {
+            resp.setStatus(401);
+            JsonUtil.writeJson(resp, ApiResponse.fail("관리자 로그인이 필요합니다."));
+            return false;
+        }
+        return true;
+    }
+
+    private int parseInt(String s, int def) {
+        try {
+            return (s == null || s.isBlank()) ? def : Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
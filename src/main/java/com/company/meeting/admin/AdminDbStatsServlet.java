@@ -0,0 +1,70 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.common.db.DBConnection;
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+import com.company.meeting.chat.dao.ChatMessageBuffer;
+import com.company.meeting.chat.live.ChatInboxStream;
+import com.company.meeting.chat.live.ChatLongPoll;
+import com.company.meeting.chat.live.ChatSocketHub;
+import com.company.meeting.reservation.conflict.RoomWriteQueue;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AdminDbStatsServlet
+ * - GET /admin/db/stats : DB 커넥션 풀(primary/replica)/statement 캐시 상태(JSON)
+ *
+ * 응답:
+ * ApiResponse.ok({
+ *   pool: { name, total, active, idle, waiters, minIdle, maxSize,
+ *           borrowCount, timeoutCount, createdCount, destroyedCount, leakCount,
+ *           avgWaitMillis, maxWaitMillis },
+ *   replicas: [ { ...pool과 동일 }, ... ],
+ *   statementCache: { hits, misses, evictions, hitRatio },
+ *   roomWriteQueue: { enabled, maxDepth, waitMs, activeRooms, rejected }
+ *   chatLongPoll: { enabled, timeoutMs, maxWaiters, waiting, threads, signalled, timedOut }
+ *   chatSocket: { connected, threads, maxPending, pushed, dropped }
+ *   chatBuffer: { enabled, size, maxThreads, threads, hits, misses }
+ *   chatInboxStream: { enabled, connected, maxClients, maxPending, timeoutMs, published, dropped }
+ * })
+ */
+@WebServlet("/admin/db/stats")
+public class AdminDbStatsServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            // ✅ 관리자 로그인 체크 (필터가 있어도 방어적으로)
+            Object loginAdmin = req.getSession().getAttribute("LOGIN_ADMIN");
+            if (loginAdmin == null) {
+                resp.setStatus(401);
+                JsonUtil.writeJson(resp, ApiResponse.fail("관리자 로그인이 필요합니다."));
+                return;
+            }
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("pool", DBConnection.getPoolStats());
+            data.put("replicas", DBConnection.getReplicaPoolStats());
+            data.put("statementCache", DBConnection.getStatementCacheStats());
+            data.put("roomWriteQueue", RoomWriteQueue.stats());
+            data.put("chatLongPoll", ChatLongPoll.stats());
+            data.put("chatSocket", ChatSocketHub.stats());
+            data.put("chatBuffer", ChatMessageBuffer.stats());
+            data.put("chatInboxStream", ChatInboxStream.stats());
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "DB 상태 조회 실패" : e.getMessage()));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Map;
  * - page (기본 1)
  * - size (기본 10)
  * - q (선택: 제목/회의실명 검색)
+ * - cursor (선택: 있으면 커서 모드, 첫 페이지는 빈 값) / withTotal (선택: 커서 모드에서 총 건수 포함)
  */
 @WebServlet("/admin/reservations/list")
 public class AdminReservationsListServlet extends HttpServlet {
@@ -49,7 +50,11 @@ public class AdminReservationsListServlet extends HttpServlet {
             int size = parseInt(req.getParameter("size"), 10);
             String q = req.getParameter("q");
 
-            Map<String, Object> r = reservationService.listRoomReservations(roomId, q, page, size);
+            // ✅ cursor 파라미터가 있으면 커서 모드(빈 값 = 첫 페이지)
+            String cursor = req.getParameter("cursor");
+            Map<String, Object> r = (cursor != null)
+                    ? reservationService.listRoomReservationsByCursor(roomId, q, cursor, size, parseBool(req.getParameter("withTotal")))
+                    : reservationService.listRoomReservations(roomId, q, page, size);
 
             // ✅ user 응답 규약과 동일: ok(data, page)
             JsonUtil.writeJson(resp, ApiResponse.ok(r.get("data"), r.get("page")));
@@ -71,4 +76,8 @@ public class AdminReservationsListServlet extends HttpServlet {
             return def;
         }
     }
+
+    private boolean parseBool(String v) {
+        return "true".equalsIgnoreCase(v) || "1".equals(v);
+    }
 }
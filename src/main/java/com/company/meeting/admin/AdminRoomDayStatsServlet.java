@@ -0,0 +1,121 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+import com.company.meeting.reservation.dao.RoomDayStatsDAO;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AdminRoomDayStatsServlet
+ * - GET  /admin/db/room-day-stats : 일별 롤업(room_day_stats) ↔ 원본 예약 집계 비교(검증)
+ *   - from, to(yyyy-MM-dd, 기본: 1년 전 ~ 1년 후), limit(불일치 최대 개수, 기본 100)
+ * - POST /admin/db/room-day-stats : 기간 재계산(삭제 후 원본 집계로 다시 채움)
+ *   - from, to(기본 동일)
+ *
+ * 응답:
+ * - GET : ApiResponse.ok({ enabled, from, to, mismatchCount, mismatches:[{roomId,date,statCount,statMinutes,rawCount,rawMinutes}] })
+ * - POST: ApiResponse.ok({ from, to, rows })
+ */
+@WebServlet("/admin/db/room-day-stats")
+public class AdminRoomDayStatsServlet extends HttpServlet {
+
+    private final RoomDayStatsDAO dao = new RoomDayStatsDAO();
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            if (!isAdmin(req, resp)) return;
+
+            LocalDate from = parseDate(req.getParameter("from"), LocalDate.now().minusYears(1));
+            LocalDate to = parseDate(req.getParameter("to"), LocalDate.now().plusYears(1));
+            int limit = parseInt(req.getParameter("limit"), 100);
+
+            List<Map<String, Object>> mismatches = dao.verify(from, to, limit);
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("enabled", RoomDayStatsDAO.isEnabled());
+            data.put("from", from.toString());
+            data.put("to", to.toString());
+            data.put("mismatchCount", mismatches.size());
+            data.put("mismatches", mismatches);
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+
+        } catch (DateTimeParseException e) {
+            resp.setStatus(400);
+            JsonUtil.writeJson(resp, ApiResponse.fail("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)"));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "롤업 검증 실패" : e.getMessage()));
+        }
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            if (!isAdmin(req, resp)) return;
+
+            LocalDate from = parseDate(req.getParameter("from"), LocalDate.now().minusYears(1));
+            LocalDate to = parseDate(req.getParameter("to"), LocalDate.now().plusYears(1));
+            if (to.isBefore(from)) {
+                resp.setStatus(400);
+                JsonUtil.writeJson(resp, ApiResponse.fail("to는 from 이후여야 합니다."));
+                return;
+            }
+
+            int rows = dao.rebuild(from, to);
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("from", from.toString());
+            data.put("to", to.toString());
+            data.put("rows", rows);
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+
+        } catch (DateTimeParseException e) {
+            resp.setStatus(400);
+            JsonUtil.writeJson(resp, ApiResponse.fail("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)"));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "롤업 재계산 실패" : e.getMessage()));
+        }
+    }
+
+    /**
+     * 관리자 로그인 체크 (필터가 있어도 방어적으로)
+     */
+    private boolean isAdmin(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        Object loginAdmin = req.getSession().getAttribute("LOGIN_ADMIN");
+        if (loginAdmin == null) {
+            resp.setStatus(401);
+            JsonUtil.writeJson(resp, ApiResponse.fail("관리자 로그인이 필요합니다."));
+            return false;
+        }
+        return true;
+    }
+
+    private LocalDate parseDate(String s, LocalDate def) {
+        return (s == null || s.isBlank()) ? def : LocalDate.parse(s.trim());
+    }
+
+    private int parseInt(String s, int def) {
+        try {
+            return (s == null || s.isBlank()) ? def : Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
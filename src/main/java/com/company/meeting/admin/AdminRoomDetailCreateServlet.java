@@ -1,5 +1,6 @@
 package com.company.meeting.admin;
 
+import com.company.meeting.common.idempotency.IdempotencyFilter;
 import com.company.meeting.common.util.api.ApiResponse;
 import com.company.meeting.common.util.json.JsonUtil;
 import com.company.meeting.reservation.service.AdminReservationService;
@@ -51,6 +52,7 @@ public class AdminRoomDetailCreateServlet extends HttpServlet {
             Map<String, Object> data = new HashMap<>();
             data.put("id", newId);
 
+            IdempotencyFilter.markSucceeded(req);
             JsonUtil.writeJson(resp, ApiResponse.ok(data));
 
         } catch (IllegalArgumentException e) {
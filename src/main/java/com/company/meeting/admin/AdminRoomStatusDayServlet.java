@@ -17,7 +17,7 @@ import java.util.Map;
 /**
  * AdminRoomStatusDayServlet
  * - POST /admin/rooms/status/day
- * - params: roomId, date(yyyy-MM-dd)
+ * - params: roomId, date(yyyy-MM-dd), durationMinutes(선택: 해당 길이로 시작 가능한 시각만 freeStarts에)
  *
  * 응답 형태(권장):
  * ApiResponse.ok({
@@ -25,6 +25,8 @@ import java.util.Map;
  *   open: "09:00",
  *   close: "18:00",
  *   slotMinutes: 60,
+ *   slotBitmap: "0000..1111..", // i번째 문자 = i*slotMinutes분 슬롯 예약 가능 여부
+ *   freeStarts: [540, 600, ...], // 시작 가능 minute-of-day(durationMinutes 지정 시 해당 길이 기준)
  *   reservations: [
  *     { id:1, title:"...", startTime:"yyyy-MM-dd HH:mm", endTime:"yyyy-MM-dd HH:mm", status:"BOOKED", userId:?, userName:? ... }
  *   ]
@@ -63,7 +65,7 @@ public class AdminRoomStatusDayServlet extends HttpServlet {
             // ✅ 핵심: String -> LocalDate
             LocalDate date = LocalDate.parse(dateStr.trim()); // yyyy-MM-dd
 
-            Map<String, Object> data = service.getDayStatus(roomId, date);
+            Map<String, Object> data = service.getDayStatus(roomId, date, parseInt(req.getParameter("durationMinutes"), 0));
             JsonUtil.writeJson(resp, ApiResponse.ok(data));
 
         } catch (DateTimeParseException e) {
@@ -0,0 +1,107 @@
+package com.company.meeting.admin;
+
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+import com.company.meeting.reservation.dto.RoomDayMatrix;
+import com.company.meeting.reservation.service.ReservationStatusService;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AdminRoomStatusMatrixServlet
+ * - POST /admin/rooms/status/matrix
+ * - 여러 회의실 × 기간(최대 31일) 현황을 1회 요청으로 조회(회의실/날짜별 day·month 호출 대체)
+ * - params: from(yyyy-MM-dd), to(yyyy-MM-dd, 포함), roomIds(선택: "1,2,3", 없으면 활성 회의실 전체)
+ *
+ * 응답 형태:
+ * ApiResponse.ok({
+ *   from: "2026-02-01", to: "2026-02-07", days: 7,
+ *   rooms: [
+ *     { roomId:1, name:"...", active:true,
+ *       bookedMinutes:[120,0,...], openMinutes:[540,540,...], counts:[2,0,...] }
+ *   ]
+ * })
+ */
+@WebServlet("/admin/rooms/status/matrix")
+public class AdminRoomStatusMatrixServlet extends HttpServlet {
+
+    private static final int MAX_ROOM_IDS = 500;
+
+    private final ReservationStatusService service = new ReservationStatusService();
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            // ✅ 관리자 로그인 체크
+            Object loginAdmin = req.getSession().getAttribute("LOGIN_ADMIN");
+            if (loginAdmin == null) {
+                resp.setStatus(401);
+                JsonUtil.writeJson(resp, ApiResponse.fail("관리자 로그인이 필요합니다."));
+                return;
+            }
+
+            String fromStr = req.getParameter("from");
+            String toStr = req.getParameter("to");
+            if (fromStr == null || fromStr.isBlank() || toStr == null || toStr.isBlank()) {
+                resp.setStatus(400);
+                JsonUtil.writeJson(resp, ApiResponse.fail("from/to가 필요합니다."));
+                return;
+            }
+
+            List<Integer> roomIds = parseIds(req.getParameter("roomIds"));
+            if (roomIds.size() > MAX_ROOM_IDS) {
+                resp.setStatus(400);
+                JsonUtil.writeJson(resp, ApiResponse.fail("roomIds는 최대 " + MAX_ROOM_IDS + "개까지 가능합니다."));
+                return;
+            }
+
+            RoomDayMatrix data = service.getMatrix(
+                    roomIds,
+                    LocalDate.parse(fromStr.trim()),
+                    LocalDate.parse(toStr.trim())
+            );
+
+            // ✅ 회의실 수가 많을 수 있으므로 문자열로 만들지 않고 바로 스트리밍
+            JsonUtil.streamJson(resp, ApiResponse.ok(data));
+
+        } catch (DateTimeParseException e) {
+            resp.setStatus(400);
+            JsonUtil.writeJson(resp, ApiResponse.fail("날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)"));
+
+        } catch (IllegalArgumentException e) {
+            resp.setStatus(400);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage()));
+
+        } catch (Exception e) {
+            resp.setStatus(500);
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "요청 처리 실패" : e.getMessage()));
+        }
+    }
+
+    /**
+     * "1,2,3" → [1,2,3] (잘못된 값/중복은 무시)
+     */
+    private List<Integer> parseIds(String s) {
+        List<Integer> ids = new ArrayList<>();
+        if (s == null || s.isBlank()) return ids;
+
+        for (String part : s.split(",")) {
+            try {
+                int id = Integer.parseInt(part.trim());
+                if (id > 0 && !ids.contains(id)) ids.add(id);
+            } catch (NumberFormatException ignore) {
+                // skip
+            }
+        }
+        return ids;
+    }
+}
@@ -1,6 +1,8 @@
 package com.company.meeting.admin.chat.dao;
 
 import com.company.meeting.admin.chat.dto.AdminChatMessageItem;
+import com.company.meeting.chat.live.ChatEvents;
+import com.company.meeting.chat.live.ChatMessageEvent;
 import com.company.meeting.common.db.DBConnection;
 
 import java.sql.*;
@@ -30,7 +32,7 @@ public class AdminChatMessageDAO {
 
         List<AdminChatMessageItem> out = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setInt(1, threadId);
@@ -64,15 +66,21 @@ public class AdminChatMessageDAO {
     /**
      * 관리자 메시지 1건 삽입
      * - insert 후 생성된 id 포함하여 반환
+     * - 커밋 후 ChatEvents에 알림(롱폴링 응답, 소켓 push)
      */
     public AdminChatMessageItem insertAdminMessage(int threadId, Integer adminIdOrNull, String content) {
         String insertSql =
                 "INSERT INTO chat_message(thread_id, sender_role, sender_id, content) " +
                         "VALUES (?, 'ADMIN', ?, ?)";
 
+        // 보낸 사람 표시값은 ChatDAO.listMessages와 같은 규칙(회원 화면/메시지 버퍼에 그대로 쓰임)
         String selectSql =
-                "SELECT id, thread_id, sender_role, sender_id, content, created_at " +
-                        "FROM chat_message WHERE id = ?";
+                "SELECT m.id, m.thread_id, m.sender_role, m.sender_id, m.content, m.created_at, " +
+                        "COALESCE(u.name, '관리자') AS sender_name, " +
+                        "COALESCE(u.login_id, 'ADMIN') AS sender_login_id " +
+                        "FROM chat_message m " +
+                        "LEFT JOIN `user` u ON u.id = m.sender_id " +
+                        "WHERE m.id = ?";
 
         try (Connection conn = DBConnection.getConnection()) {
             conn.setAutoCommit(false);
@@ -103,11 +111,13 @@ public class AdminChatMessageDAO {
                 }
             }
 
-            // ✅ thread last_message_at 갱신
-            updateThreadLastMessageAt(conn, threadId);
+            // ✅ thread 목록용 값(last_message_*, message_count, activity_at) 갱신
+            ChatThreadDAO.applyMessage(conn, threadId, newId, content);
 
             // ✅ 저장된 행 다시 조회(표준 포맷으로 반환)
             AdminChatMessageItem item;
+            String senderName;
+            String senderLoginId;
             try (PreparedStatement ps2 = conn.prepareStatement(selectSql)) {
                 ps2.setLong(1, newId);
                 try (ResultSet rs = ps2.executeQuery()) {
@@ -128,10 +138,15 @@ public class AdminChatMessageDAO {
                     String createdAt = createdTs == null ? "-" : DT.format(createdTs.toLocalDateTime());
 
                     item = new AdminChatMessageItem(id, tid, role, senderId, c, createdAt);
+                    senderName = rs.getString("sender_name");
+                    senderLoginId = rs.getString("sender_login_id");
                 }
             }
 
             conn.commit();
+
+            // ✅ 롱폴링/소켓 구독자에게 알림(커밋 후)
+            ChatEvents.messageSaved(ChatMessageEvent.ofAdmin(item, senderName, senderLoginId));
             return item;
 
         } catch (Exception e) {
@@ -157,16 +172,4 @@ public class AdminChatMessageDAO {
             throw new RuntimeException(e);
         }
     }
-
-    /**
-     * 트랜잭션 내부에서 last_message_at 갱신
-     */
-    private void updateThreadLastMessageAt(Connection conn, int threadId) throws SQLException {
-        String sql = "UPDATE chat_thread SET last_message_at = NOW() WHERE id = ?";
-
-        try (PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, threadId);
-            ps.executeUpdate();
-        }
-    }
 }
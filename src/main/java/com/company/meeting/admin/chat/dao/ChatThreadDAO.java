@@ -6,11 +6,14 @@ import com.company.meeting.common.db.DBConnection;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ChatThreadDAO
@@ -21,14 +24,31 @@ import java.util.List;
  *   최근 메시지 내용(content)도 같이 조회해서 목록에 뿌린다.
  *
  * 성능 포인트:
- * - 너가 추가한 인덱스 idx_chat_message_thread_id_id(thread_id, id) 덕분에
- *   "thread_id별 최신 1건" 서브쿼리가 빠르게 동작한다(페이지당 limit 규모).
+ * - 목록에 필요한 값은 chat_thread에 비정규화되어 있다(메시지 서브쿼리/NULL 정렬 없음).
+ *   - last_message_id, last_message_preview, message_count, activity_at(정렬 키, NOT NULL)
+ *   - 메시지 저장 트랜잭션에서 applyMessage로 함께 갱신
+ * - 정렬 activity_at DESC, id DESC → idx_chat_thread_activity / idx_chat_thread_status_activity 역순 범위 스캔
+ * - 어긋남 확인/재계산: verifySummaries / rebuildSummaries (AdminChatThreadSummaryServlet)
  */
 public class ChatThreadDAO {
 
     // ✅ 화면 표시 포맷 (프로젝트 공통 유틸 있으면 거기로 이동 권장)
     private static final DateTimeFormatter DT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    // thread별 원본 집계(재계산/검증 기준)
+    private static final String SQL_RAW_SUMMARY = ""
+            + "SELECT thread_id, COUNT(*) AS cnt, MAX(id) AS max_id "
+            + "FROM chat_message "
+            + "WHERE thread_id BETWEEN ? AND ? "
+            + "GROUP BY thread_id";
+
+    // buildOneLinePreview와 같은 규칙(SQL 버전, 백필용)
+    private static final String SQL_PREVIEW =
+            "COALESCE(NULLIF(LEFT(TRIM(REGEXP_REPLACE(m.content, '[[:space:]]+', ' ')), 200), ''), '-')";
+
+    // 메시지 없는 thread의 activity_at(목록 맨 뒤)
+    private static final String NO_ACTIVITY = "1000-01-01 00:00:00";
+
     /**
      * 스레드 총 개수(검색/상태 필터 적용)
      */
@@ -37,7 +57,7 @@ public class ChatThreadDAO {
         sql.append("SELECT COUNT(*) ");
         sql.append(buildFromWhere(q, status));
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql.toString())) {
 
             int idx = 1;
@@ -57,9 +77,8 @@ public class ChatThreadDAO {
      * 스레드 목록 조회 (페이징)
      *
      * 정렬:
-     * - 최근 메시지(last_message_at)가 있는 스레드를 위로
-     * - last_message_at이 NULL(메시지 없음)은 뒤로
-     * - 그 다음 updated_at 기준 보조정렬
+     * - activity_at DESC: 최근 메시지가 있는 스레드를 위로, 메시지 없음(1000-01-01)은 뒤로
+     * - id DESC 보조정렬(인덱스 순서 그대로)
      */
     public List<AdminChatThreadListItem> selectThreads(int offset, int limit, String q, String status) {
         StringBuilder sql = new StringBuilder();
@@ -70,24 +89,15 @@ public class ChatThreadDAO {
         sql.append("  t.status AS status, ");
         sql.append("  t.last_message_at AS last_message_at, ");
         sql.append("  t.created_at AS created_at, ");
-
-        // ✅ 최근 메시지 content 1건 조회 (thread_id별 최신 id 기준)
-        // - idx(thread_id, id) 덕분에 ORDER BY id DESC LIMIT 1이 효율적
-        sql.append("  (");
-        sql.append("    SELECT m.content ");
-        sql.append("    FROM chat_message m ");
-        sql.append("    WHERE m.thread_id = t.id ");
-        sql.append("    ORDER BY m.id DESC ");
-        sql.append("    LIMIT 1 ");
-        sql.append("  ) AS last_message_content ");
+        sql.append("  t.last_message_preview AS last_message_preview ");
 
         sql.append(buildFromWhere(q, status));
-        sql.append(" ORDER BY (t.last_message_at IS NULL) ASC, t.last_message_at DESC, t.updated_at DESC ");
+        sql.append(" ORDER BY t.activity_at DESC, t.id DESC ");
         sql.append(" LIMIT ? OFFSET ? ");
 
         List<AdminChatThreadListItem> out = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql.toString())) {
 
             int idx = 1;
@@ -109,9 +119,9 @@ public class ChatThreadDAO {
                     String lastMessageAt = (lastTs == null) ? "-" : formatTs(lastTs);
                     String createdAt = (createdTs == null) ? "-" : formatTs(createdTs);
 
-                    // ✅ 최근 메시지 프리뷰(없으면 "-")
-                    String lastContent = rs.getString("last_message_content");
-                    String lastPreview = buildOneLinePreview(lastContent);
+                    // ✅ 최근 메시지 프리뷰(저장 시 만든 값, 없으면 "-")
+                    String lastPreview = rs.getString("last_message_preview");
+                    if (lastPreview == null) lastPreview = "-";
 
                     out.add(new AdminChatThreadListItem(
                             threadId,
@@ -132,6 +142,128 @@ public class ChatThreadDAO {
         }
     }
 
+    // -------------------------
+    // 비정규화 유지(메시지 저장 트랜잭션에 참여)
+    // -------------------------
+
+    /**
+     * 메시지 1건 저장 반영(호출 측 커넥션/트랜잭션 그대로 사용)
+     * - message_count +1
+     * - 더 최신 메시지일 때만 last_message_id/preview/at, activity_at 갱신
+     *   (같은 thread에 동시에 저장되면 커밋 순서가 id 순서와 다를 수 있음)
+     *
+     * 주의: MySQL UPDATE SET은 왼쪽부터 적용되므로 last_message_id는 마지막에 바꾼다.
+     */
+    public static void applyMessage(Connection conn, int threadId, long messageId, String content) throws SQLException {
+        String sql = ""
+                + "UPDATE chat_thread SET "
+                + "  message_count = message_count + 1, "
+                + "  last_message_preview = IF(COALESCE(last_message_id, 0) < ?, ?, last_message_preview), "
+                + "  last_message_at = IF(COALESCE(last_message_id, 0) < ?, NOW(), last_message_at), "
+                + "  activity_at = IF(COALESCE(last_message_id, 0) < ?, NOW(), activity_at), "
+                + "  last_message_id = GREATEST(COALESCE(last_message_id, 0), ?) "
+                + "WHERE id = ?";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setLong(1, messageId);
+            ps.setString(2, buildOneLinePreview(content));
+            ps.setLong(3, messageId);
+            ps.setLong(4, messageId);
+            ps.setLong(5, messageId);
+            ps.setInt(6, threadId);
+            ps.executeUpdate();
+        }
+    }
+
+    // -------------------------
+    // 검증/재계산(백필)
+    // -------------------------
+
+    /**
+     * 비정규화 값 ↔ 원본(chat_message) 비교
+     * @return 불일치 thread(최대 limit개): { threadId, messageCount, lastMessageId, rawCount, rawLastMessageId }
+     */
+    public List<Map<String, Object>> verifySummaries(int limit) throws SQLException {
+        String sql = ""
+                + "SELECT t.id, t.message_count, t.last_message_id, "
+                + "       COALESCE(s.cnt, 0) AS raw_count, s.max_id AS raw_last_id "
+                + "FROM chat_thread t "
+                + "LEFT JOIN (" + SQL_RAW_SUMMARY + ") s ON s.thread_id = t.id "
+                + "WHERE t.message_count <> COALESCE(s.cnt, 0) OR NOT (t.last_message_id <=> s.max_id) "
+                + "ORDER BY t.id "
+                + "LIMIT ?";
+
+        List<Map<String, Object>> out = new ArrayList<>();
+
+        // ✅ 비교는 primary 기준(replica 지연으로 인한 가짜 불일치 방지)
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, 0);
+            ps.setInt(2, Integer.MAX_VALUE);
+            ps.setInt(3, limit);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, Object> m = new LinkedHashMap<>();
+                    m.put("threadId", rs.getInt("id"));
+                    m.put("messageCount", rs.getInt("message_count"));
+                    m.put("lastMessageId", rs.getObject("last_message_id"));
+                    m.put("rawCount", rs.getInt("raw_count"));
+                    m.put("rawLastMessageId", rs.getObject("raw_last_id"));
+                    out.add(m);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 비정규화 값 재계산(백필)
+     * - thread id 구간(batchSize개)씩 나눠 구간마다 한 문장(autocommit)으로 갱신 → 긴 잠금 없이 운영 중 실행 가능
+     * - 실행 중 저장되는 메시지는 같은 thread 행 잠금으로 순서가 정해지므로 결과가 어긋나지 않는다.
+     * @return 갱신 대상 thread 수
+     */
+    public int rebuildSummaries(int batchSize) throws SQLException {
+        String sqlRange = "SELECT MIN(id), MAX(id) FROM chat_thread";
+        String sqlUpdate = ""
+                + "UPDATE chat_thread t "
+                + "LEFT JOIN (" + SQL_RAW_SUMMARY + ") s ON s.thread_id = t.id "
+                + "LEFT JOIN chat_message m ON m.id = s.max_id "
+                + "SET t.message_count = COALESCE(s.cnt, 0), "
+                + "    t.last_message_id = s.max_id, "
+                + "    t.last_message_preview = CASE WHEN m.id IS NULL THEN NULL ELSE " + SQL_PREVIEW + " END, "
+                + "    t.last_message_at = COALESCE(m.created_at, t.last_message_at), "
+                + "    t.activity_at = COALESCE(m.created_at, '" + NO_ACTIVITY + "') "
+                + "WHERE t.id BETWEEN ? AND ?";
+
+        int step = Math.max(1, batchSize);
+
+        try (Connection conn = DBConnection.getConnection()) {
+            int minId;
+            int maxId;
+            try (PreparedStatement ps = conn.prepareStatement(sqlRange);
+                 ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getObject(1) == null) return 0;
+                minId = rs.getInt(1);
+                maxId = rs.getInt(2);
+            }
+
+            int rows = 0;
+            try (PreparedStatement ps = conn.prepareStatement(sqlUpdate)) {
+                for (long lo = minId; lo <= maxId; lo += step) {
+                    int hi = (int) Math.min((long) maxId, lo + step - 1);
+                    ps.setInt(1, (int) lo);
+                    ps.setInt(2, hi);
+                    ps.setInt(3, (int) lo);
+                    ps.setInt(4, hi);
+                    rows += ps.executeUpdate();
+                }
+            }
+            return rows;
+        }
+    }
+
     // -------------------------
     // 내부 헬퍼
     // -------------------------
@@ -205,8 +337,9 @@ public class ChatThreadDAO {
      * - 내용이 없으면 "-"
      *
      * 실제 ... 처리(ellipsis)는 CSS에서 처리하는 게 깔끔함.
+     * - 목록 조회와 실시간 갱신(ChatInboxStream)이 같은 규칙을 쓴다.
      */
-    private static String buildOneLinePreview(String content) {
+    public static String buildOneLinePreview(String content) {
         if (content == null) return "-";
         String t = content.trim();
         if (t.isEmpty()) return "-";
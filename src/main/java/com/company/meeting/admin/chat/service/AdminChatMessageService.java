@@ -49,6 +49,16 @@ public class AdminChatMessageService {
         return dao.insertAdminMessage(threadId, adminIdOrNull, c);
     }
 
+    /**
+     * thread 존재 검증(없으면 IllegalArgumentException) - 소켓 구독 시 사용
+     */
+    public void requireThread(int threadId) {
+        if (threadId <= 0) throw new IllegalArgumentException("threadId 값이 올바르지 않습니다.");
+        if (!dao.existsThread(threadId)) {
+            throw new IllegalArgumentException("존재하지 않는 threadId 입니다.");
+        }
+    }
+
     public static class MessageListResult {
         private final List<AdminChatMessageItem> items;
         private final long nextSinceId;
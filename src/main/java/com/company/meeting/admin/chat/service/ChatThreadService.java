@@ -13,7 +13,7 @@ import java.util.List;
  * - 스레드 생성 정책이 "위젯 오픈 시 생성"이므로
  *   last_message_at이 NULL인 스레드가 존재할 수 있음
  * - 관리자 목록에서는 보통 "최근 대화 우선"이므로
- *   NULL(last_message_at)은 뒤로 보내는 정렬을 사용
+ *   메시지 없는 스레드는 뒤로 보내는 정렬을 사용(activity_at 정렬 키, ChatThreadDAO 참고)
  */
 public class ChatThreadService {
 
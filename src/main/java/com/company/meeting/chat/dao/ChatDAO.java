@@ -1,8 +1,11 @@
 package com.company.meeting.chat.dao;
 
+import com.company.meeting.admin.chat.dao.ChatThreadDAO;
 import com.company.meeting.common.db.DBConnection;
 import com.company.meeting.chat.dto.ChatMessageItem;
 import com.company.meeting.chat.dto.ChatThreadDTO;
+import com.company.meeting.chat.live.ChatEvents;
+import com.company.meeting.chat.live.ChatMessageEvent;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -73,9 +76,29 @@ public class ChatDAO {
      * ✅ 메시지 목록 조회
      * - sinceId==0: 최근 limit개 DESC 조회 후 reverse하여 ASC로 반환
      * - sinceId>0 : sinceId 이후만 ASC로 반환
+     * - 최근 메시지 버퍼(ChatMessageBuffer)로 답할 수 있으면 DB를 조회하지 않는다.
      */
     public List<ChatMessageItem> listMessages(int threadId, long sinceId, int limit) throws Exception {
-        try (Connection conn = DBConnection.getConnection()) {
+        List<ChatMessageItem> buffered = ChatMessageBuffer.read(threadId, sinceId, limit);
+        if (buffered != null) return buffered;
+
+        List<ChatMessageItem> items = selectMessages(threadId, sinceId, limit);
+        ChatMessageBuffer.fill(threadId, sinceId, limit, items);
+        return items;
+    }
+
+    /**
+     * ✅ 메시지 목록 조회(버퍼를 거치지 않고 DB) + 버퍼 다시 채우기
+     * - 롱폴링의 DB 확인용(다른 서버에서 저장된 메시지 확인, 버퍼의 확인 시각 갱신)
+     */
+    public List<ChatMessageItem> refreshMessages(int threadId, long sinceId, int limit) throws Exception {
+        List<ChatMessageItem> items = selectMessages(threadId, sinceId, limit);
+        ChatMessageBuffer.fill(threadId, sinceId, limit, items);
+        return items;
+    }
+
+    private List<ChatMessageItem> selectMessages(int threadId, long sinceId, int limit) throws Exception {
+        try (Connection conn = DBConnection.getReadConnection()) {
             if (sinceId <= 0) {
                 String sql =
                         "SELECT " +
@@ -137,55 +160,68 @@ public class ChatDAO {
     /**
      * ✅ USER 메시지 저장
      * - chat_message insert
-     * - chat_thread.last_message_at 업데이트
+     * - chat_thread 목록용 값(last_message_*, message_count, activity_at) 갱신(같은 트랜잭션)
      * - 저장한 메시지 1건을 JOIN 포함해서 반환
+     * - 커밋 후 ChatEvents에 알림(롱폴링 응답, 소켓 push)
      */
     public ChatMessageItem insertUserMessage(int threadId, int userId, String content) throws Exception {
         try (Connection conn = DBConnection.getConnection()) {
-            long newId;
+            conn.setAutoCommit(false);
+            try {
+                long newId;
 
-            String insertSql =
-                    "INSERT INTO chat_message(thread_id, sender_role, sender_id, content) " +
-                            "VALUES(?, 'USER', ?, ?)";
+                String insertSql =
+                        "INSERT INTO chat_message(thread_id, sender_role, sender_id, content) " +
+                                "VALUES(?, 'USER', ?, ?)";
 
-            try (PreparedStatement ps = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
-                ps.setInt(1, threadId);
-                ps.setInt(2, userId);
-                ps.setString(3, content);
-                ps.executeUpdate();
+                try (PreparedStatement ps = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
+                    ps.setInt(1, threadId);
+                    ps.setInt(2, userId);
+                    ps.setString(3, content);
+                    ps.executeUpdate();
 
-                try (ResultSet rs = ps.getGeneratedKeys()) {
-                    if (!rs.next()) throw new IllegalStateException("메시지 생성 실패(키 없음)");
-                    newId = rs.getLong(1);
+                    try (ResultSet rs = ps.getGeneratedKeys()) {
+                        if (!rs.next()) throw new IllegalStateException("메시지 생성 실패(키 없음)");
+                        newId = rs.getLong(1);
+                    }
                 }
-            }
 
-            // ✅ thread last_message_at 업데이트
-            String updSql = "UPDATE chat_thread SET last_message_at = NOW() WHERE id = ?";
-            try (PreparedStatement ps = conn.prepareStatement(updSql)) {
-                ps.setInt(1, threadId);
-                ps.executeUpdate();
-            }
+                // ✅ thread 목록용 값 갱신
+                ChatThreadDAO.applyMessage(conn, threadId, newId, content);
 
-            // ✅ 저장된 메시지 다시 조회(메타 포함)
-            String selectSql =
-                    "SELECT " +
-                            "  m.id AS id, " +
-                            "  m.sender_role AS senderRole, " +
-                            "  COALESCE(u.name, '나') AS senderName, " +
-                            "  COALESCE(u.login_id, '-') AS senderLoginId, " +
-                            "  m.content AS content, " +
-                            "  DATE_FORMAT(m.created_at, '%Y-%m-%d %H:%i:%s') AS createdAt " +
-                            "FROM chat_message m " +
-                            "LEFT JOIN `user` u ON u.id = m.sender_id " +
-                            "WHERE m.id = ? LIMIT 1";
+                // ✅ 저장된 메시지 다시 조회(메타 포함)
+                String selectSql =
+                        "SELECT " +
+                                "  m.id AS id, " +
+                                "  m.sender_role AS senderRole, " +
+                                "  COALESCE(u.name, '나') AS senderName, " +
+                                "  COALESCE(u.login_id, '-') AS senderLoginId, " +
+                                "  m.content AS content, " +
+                                "  DATE_FORMAT(m.created_at, '%Y-%m-%d %H:%i:%s') AS createdAt " +
+                                "FROM chat_message m " +
+                                "LEFT JOIN `user` u ON u.id = m.sender_id " +
+                                "WHERE m.id = ? LIMIT 1";
 
-            try (PreparedStatement ps = conn.prepareStatement(selectSql)) {
-                ps.setLong(1, newId);
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (!rs.next()) throw new IllegalStateException("저장된 메시지 조회 실패");
-                    return mapMessage(rs);
+                ChatMessageItem item;
+                try (PreparedStatement ps = conn.prepareStatement(selectSql)) {
+                    ps.setLong(1, newId);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        if (!rs.next()) throw new IllegalStateException("저장된 메시지 조회 실패");
+                        item = mapMessage(rs);
+                    }
                 }
+
+                conn.commit();
+
+                // ✅ 롱폴링/소켓 구독자에게 알림(커밋 후)
+                ChatEvents.messageSaved(ChatMessageEvent.ofUser(threadId, userId, item));
+                return item;
+
+            } catch (Exception e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
         }
     }
@@ -0,0 +1,249 @@
+package com.company.meeting.chat.dao;
+
+import com.company.meeting.chat.dto.ChatMessageItem;
+import com.company.meeting.common.util.cache.TtlCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChatMessageBuffer
+ * - thread별 최근 메시지 N개(ChatMessageItem, 보낸 사람 이름/아이디까지 채운 상태) 메모리 링 버퍼
+ * - 채팅 조회는 거의 전부 "방금 메시지가 온 thread의 sinceId 이후" → DB 대신 여기서 응답한다.
+ * - DB는 처음 보는 thread(cold)나 버퍼보다 오래된 구간(이전 대화 스크롤)만 조회한다.
+ *
+ * 버퍼 1개(Ring)의 불변식:
+ * - 마지막 DB 확인(verifiedAt) 시점까지, floorId 보다 큰 이 thread의 메시지는 모두 버퍼에 있다(id 오름차순).
+ *   그 뒤로는 이 서버에서 저장된 메시지만 추가되므로, 다른 서버/다른 경로로 저장된 메시지는 빠질 수 있다.
+ *   → DB 확인 후 freshMs가 지난 버퍼는 답하지 않는다(DB 조회 → 다시 확인).
+ *   → 롱폴링은 DB 확인 시점(대기 전/시간 초과)마다 버퍼를 거치지 않고 DB로 다시 채운다(ChatDAO.refreshMessages).
+ *     그래서 freshMs를 롱폴링 timeoutMs보다 길게 두면, 대기 중 이 서버에 저장된 메시지로 깨어난 조회는 항상 버퍼에서 답한다.
+ * - 오래된 항목이 밀려나면 floorId = 밀려난 id
+ *
+ * 채우기:
+ * - 저장(ChatEvents, 커밋 후): 버퍼가 있으면 추가, 없으면 그 메시지 1건으로 새로 만든다(floorId = id-1, 미확인).
+ * - DB 조회: 결과가 구간 전체임이 확실할 때만(결과 < limit 또는 최근 limit개) 넣고 verifiedAt 갱신
+ *   - 이미 버퍼가 있으면 덮어쓰지 않고 합친다(replica 지연으로 결과에 빠진 이 서버의 최신 메시지는 남긴다).
+ *   - 결과 구간이 버퍼보다 좁으면 floorId를 올린다(확인하지 못한 아래쪽은 버린다).
+ *   - 결과가 버퍼와 이어지지 않으면(빈틈 가능) 넣지 않는다.
+ *
+ * 메모리 상한:
+ * - thread 수는 TtlCache(LRU) maxThreads, thread당 size개 → 최대 maxThreads × size 건
+ *
+ * 주의:
+ * - 다른 서버에서 저장된 메시지는 롱폴링 조회면 최대 롱폴링 timeoutMs, 일반 조회면 최대 freshMs(+ replica 지연) 늦게 보인다.
+ *   서버 1대면 freshMs를 ttlMs만큼 늘려도 된다(모든 저장이 이 버퍼를 거침).
+ * - 반환 항목은 버퍼와 공유되므로 호출 측에서 수정하지 않는다(ChatMessageItem은 읽기 전용으로만 사용).
+ *
+ * 설정:
+ * - -Dmeeting.chat.buffer.enabled=false   : 사용 안 함(항상 DB)
+ * - -Dmeeting.chat.buffer.size=100        : thread당 보관 건수
+ * - -Dmeeting.chat.buffer.maxThreads=2000 : 보관 thread 수(LRU)
+ * - -Dmeeting.chat.buffer.ttlMs=300000    : 버퍼 수명(안전망)
+ * - -Dmeeting.chat.buffer.freshMs=30000   : DB 확인 후 버퍼로 답하는 시간(롱폴링 timeoutMs 25000보다 길게)
+ */
+public final class ChatMessageBuffer {
+
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("meeting.chat.buffer.enabled", "true").trim());
+    private static final int SIZE = (int) readLong("meeting.chat.buffer.size", 100L);
+    private static final int MAX_THREADS = (int) readLong("meeting.chat.buffer.maxThreads", 2_000L);
+    private static final long FRESH_MS = readLong("meeting.chat.buffer.freshMs", 30_000L);
+
+    private static final TtlCache<Integer, Ring> RINGS =
+            new TtlCache<>(MAX_THREADS, readLong("meeting.chat.buffer.ttlMs", 300_000L));
+
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+
+    private ChatMessageBuffer() {}
+
+    /**
+     * 메모리에서 조회(ChatDAO.listMessages와 같은 규칙)
+     * @return null이면 버퍼로 답할 수 없음(DB 조회 필요)
+     */
+    static List<ChatMessageItem> read(int threadId, long sinceId, int limit) {
+        if (!ENABLED) return null;
+
+        Ring r = RINGS.get(threadId);
+        List<ChatMessageItem> out = (r == null) ? null : r.read(sinceId, limit);
+        if (out == null) MISSES.incrementAndGet();
+        else HITS.incrementAndGet();
+        return out;
+    }
+
+    /**
+     * DB 조회 결과로 채우기(없으면 새로, 있으면 합치기) + DB 확인 시각 갱신
+     * @param items DB 결과(id 오름차순)
+     */
+    static void fill(int threadId, long sinceId, int limit, List<ChatMessageItem> items) {
+        if (!ENABLED || limit <= 0) return;
+
+        long floorId;
+        if (items.size() < limit) {
+            floorId = Math.max(0L, sinceId);                      // sinceId 이후 전체
+        } else if (sinceId <= 0) {
+            floorId = items.get(0).getId() - 1;                  // 최근 limit개 = 그 최소 id 이후 전체
+        } else {
+            return;                                               // 뒤에 더 있을 수 있음 → 구간 불명
+        }
+
+        long now = System.currentTimeMillis();
+        Ring r = new Ring(floorId);
+        for (ChatMessageItem it : items) {
+            r.add(it);
+        }
+        r.verifiedAt = now;
+        Ring existing = RINGS.putIfAbsent(threadId, r);
+        if (existing != null) existing.merge(floorId, items, now);
+    }
+
+    /**
+     * 저장된 메시지 추가(커밋 후, ChatEvents)
+     */
+    public static void append(int threadId, ChatMessageItem item) {
+        if (!ENABLED) return;
+
+        Ring r = RINGS.get(threadId);
+        if (r == null) {
+            Ring created = new Ring(item.getId() - 1);
+            r = RINGS.putIfAbsent(threadId, created);
+            if (r == null) r = created;
+        }
+        r.add(item);
+    }
+
+    /**
+     * 운영 확인용 상태: { enabled, size, maxThreads, freshMs, threads, hits, misses }
+     */
+    public static Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", ENABLED);
+        m.put("size", SIZE);
+        m.put("maxThreads", MAX_THREADS);
+        m.put("freshMs", FRESH_MS);
+        m.put("threads", RINGS.size());
+        m.put("hits", HITS.get());
+        m.put("misses", MISSES.get());
+        return m;
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Math.max(1L, Long.parseLong(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    /**
+     * thread 1개의 링 버퍼(고정 크기 배열, id 오름차순)
+     */
+    private static final class Ring {
+        private final ChatMessageItem[] buf = new ChatMessageItem[SIZE];
+        private int head;   // 가장 오래된 항목 위치
+        private int count;
+        private long floorId;
+        private long verifiedAt; // 마지막 DB 확인 시각(0 = 저장으로만 만들어짐, 미확인)
+
+        Ring(long floorId) {
+            this.floorId = floorId;
+        }
+
+        private ChatMessageItem at(int i) {
+            return buf[(head + i) % SIZE];
+        }
+
+        private void set(int i, ChatMessageItem it) {
+            buf[(head + i) % SIZE] = it;
+        }
+
+        /**
+         * 추가(보통 맨 뒤, 커밋 순서가 id 순서와 다르면 제자리에 삽입)
+         */
+        synchronized void add(ChatMessageItem it) {
+            long id = it.getId();
+            if (id <= floorId) return;
+
+            // 위치 찾기(뒤에서부터, 대부분 바로 끝)
+            int pos = count;
+            while (pos > 0 && at(pos - 1).getId() >= id) {
+                if (at(pos - 1).getId() == id) return; // 이미 있음
+                pos--;
+            }
+
+            if (count == SIZE) {
+                if (pos == 0) {
+                    floorId = id;            // 가장 오래된 것보다 더 오래됨 → 넣자마자 밀려남
+                    return;
+                }
+                floorId = at(0).getId();     // 가장 오래된 항목 밀어내기
+                buf[head] = null;
+                head = (head + 1) % SIZE;
+                count--;
+                pos--;
+            }
+
+            for (int i = count; i > pos; i--) {
+                set(i, at(i - 1));
+            }
+            set(pos, it);
+            count++;
+        }
+
+        /**
+         * DB 결과(newFloorId 이후 전체)와 합치기
+         * - 결과가 더 아래부터면: 결과가 현재 floorId까지 이어질 때만 넓힌다(빈틈 없음).
+         * - 결과가 더 위부터면: floorId를 올리고 그 아래 항목은 버린다(확인한 구간만 남김).
+         * - 버퍼에만 있는 항목(결과보다 최신, replica 지연)은 그대로 둔다.
+         */
+        synchronized void merge(long newFloorId, List<ChatMessageItem> items, long now) {
+            if (newFloorId < floorId) {
+                if (items.isEmpty() || items.get(items.size() - 1).getId() < floorId) return;
+                floorId = newFloorId;
+            } else {
+                while (count > 0 && at(0).getId() <= newFloorId) {
+                    buf[head] = null;
+                    head = (head + 1) % SIZE;
+                    count--;
+                }
+                floorId = newFloorId;
+            }
+
+            for (ChatMessageItem it : items) {
+                add(it);
+            }
+            verifiedAt = now;
+        }
+
+        /**
+         * @return null이면 답할 수 없음(버퍼보다 오래된 구간)
+         */
+        synchronized List<ChatMessageItem> read(long sinceId, int limit) {
+            if (limit <= 0) return Collections.emptyList();
+            if (System.currentTimeMillis() - verifiedAt >= FRESH_MS) return null; // 다른 서버 저장분 확인 필요
+
+            if (sinceId <= 0) {
+                // 최근 limit개: 버퍼에 limit개 이상 있거나 thread 전체가 버퍼에 있을 때
+                if (count < limit && floorId > 0) return null;
+                int from = Math.max(0, count - limit);
+                List<ChatMessageItem> out = new ArrayList<>(count - from);
+                for (int i = from; i < count; i++) out.add(at(i));
+                return out;
+            }
+
+            if (sinceId < floorId) return null;
+
+            List<ChatMessageItem> out = new ArrayList<>();
+            for (int i = 0; i < count && out.size() < limit; i++) {
+                ChatMessageItem it = at(i);
+                if (it.getId() > sinceId) out.add(it);
+            }
+            return out;
+        }
+    }
+}
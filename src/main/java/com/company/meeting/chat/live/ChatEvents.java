@@ -0,0 +1,29 @@
+package com.company.meeting.chat.live;
+
+import com.company.meeting.chat.dao.ChatMessageBuffer;
+
+/**
+ * ChatEvents
+ * - 채팅 메시지 저장(커밋) 후 서버 내부 알림의 단일 진입점
+ * - DAO는 여기만 호출하고, 전달 방식(롱폴링/웹소켓)은 각 구현이 맡는다.
+ *
+ * 전달(순서 유지: 버퍼에 먼저 넣어야 깨어난 조회가 버퍼에서 새 메시지를 읽는다):
+ * - ChatMessageBuffer: thread 최근 메시지 버퍼에 추가
+ * - ChatLongPoll: 대기 중인 조회 깨우기
+ * - ChatSocketHub: 해당 thread를 구독 중인 소켓에 메시지 push
+ * - ChatInboxStream: 관리자 목록(SSE)에 thread 변경분 push
+ */
+public final class ChatEvents {
+
+    private ChatEvents() {}
+
+    /**
+     * 메시지 저장 알림(커밋 후, 예외를 던지지 않음)
+     */
+    public static void messageSaved(ChatMessageEvent e) {
+        ChatMessageBuffer.append(e.getThreadId(), e.toUserItem());
+        ChatLongPoll.messageSaved(e.getThreadId(), e.getId());
+        ChatSocketHub.broadcast(e);
+        ChatInboxStream.publish(e);
+    }
+}
@@ -0,0 +1,266 @@
+package com.company.meeting.chat.live;
+
+import com.company.meeting.admin.chat.dao.ChatThreadDAO;
+import com.company.meeting.common.util.json.JsonUtil;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChatInboxStream
+ * - 관리자 채팅 목록(inbox)용 Server-Sent Events 스트림
+ * - 메시지가 저장되면(ChatEvents) 연결된 관리자 전원에게 thread 단위 변경분(delta)을 push한다.
+ *   → 목록 화면은 처음 한 번만 전체 조회하고, 이후에는 행만 갱신한다(주기적 재조회 없음).
+ *
+ * 연결:
+ * - AsyncContext로 세워 두는 응답 1개 = 관리자 화면 1개(컨테이너 스레드/DB 커넥션을 쥐지 않음)
+ * - 최대 유지 시간이 지나면 서버가 닫는다 → EventSource가 자동 재연결(끊긴 클라이언트 정리 겸)
+ * - 주기적으로 주석 프레임(": ping")을 보내 프록시 유휴 끊김을 막고 끊긴 연결을 찾아낸다.
+ *
+ * 전송(ChatSocketHub와 같은 방식):
+ * - 저장한 스레드는 연결별 송신 큐에 넣기만 한다.
+ * - 연결별 쓰기는 한 번에 1개 컨테이너 스레드(ac.start)에서, 큐가 상한을 넘으면 연결을 닫는다.
+ *
+ * 프레임:
+ *  event: thread
+ *  id: {messageId}
+ *  data: { threadId, lastMessageId, senderRole, userLoginId?, lastMessagePreview, lastMessageAt }
+ *
+ * 주의:
+ * - 이 서버(JVM)에서 저장된 메시지만 전달된다. 재연결 시 클라이언트가 목록을 한 번 다시 조회해 빈틈을 메운다.
+ *
+ * 설정:
+ * - -Dmeeting.chat.inbox.stream.enabled=false    : 사용 안 함(503, 목록 화면은 기존처럼 수동 조회)
+ * - -Dmeeting.chat.inbox.stream.timeoutMs=300000 : 연결 최대 유지 시간
+ * - -Dmeeting.chat.inbox.stream.heartbeatMs=15000: ping 간격
+ * - -Dmeeting.chat.inbox.stream.maxClients=500   : 동시 연결 상한
+ * - -Dmeeting.chat.inbox.stream.maxPending=256   : 연결별 송신 대기 상한
+ */
+public final class ChatInboxStream {
+
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("meeting.chat.inbox.stream.enabled", "true").trim());
+    private static final long TIMEOUT_MS = readLong("meeting.chat.inbox.stream.timeoutMs", 300_000L);
+    private static final long HEARTBEAT_MS = readLong("meeting.chat.inbox.stream.heartbeatMs", 15_000L);
+    private static final int MAX_CLIENTS = (int) readLong("meeting.chat.inbox.stream.maxClients", 500L);
+    private static final int MAX_PENDING = (int) readLong("meeting.chat.inbox.stream.maxPending", 256L);
+
+    private static final String PING = ": ping\n\n";
+    private static final String HELLO = "retry: 3000\nevent: ready\ndata: {}\n\n";
+
+    private static final Set<Client> CLIENTS = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger CONNECTED = new AtomicInteger();
+    private static final AtomicLong PUBLISHED = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private ChatInboxStream() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * SSE 연결 시작(헤더 작성 + AsyncContext)
+     * @return false면 비활성/연결 상한 초과(호출 측이 503 응답)
+     */
+    public static boolean open(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (!ENABLED || !req.isAsyncSupported()) return false;
+        if (CONNECTED.incrementAndGet() > MAX_CLIENTS) {
+            CONNECTED.decrementAndGet();
+            return false;
+        }
+
+        resp.setContentType("text/event-stream; charset=UTF-8");
+        resp.setHeader("Cache-Control", "no-cache");
+        resp.setHeader("X-Accel-Buffering", "no"); // 프록시(nginx) 버퍼링 끄기
+
+        AsyncContext ac = req.startAsync(req, resp);
+        ac.setTimeout(TIMEOUT_MS);
+
+        Client c = new Client(ac, resp.getWriter());
+        ac.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                c.close();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                c.close();
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+                c.close();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {}
+        });
+
+        CLIENTS.add(c);
+        Heartbeat.start();
+        c.send(HELLO);
+        return true;
+    }
+
+    /**
+     * 메시지 저장 알림(커밋 후) → 연결된 관리자에게 thread delta push(JSON은 한 번만 만든다)
+     */
+    static void publish(ChatMessageEvent e) {
+        if (CLIENTS.isEmpty()) return;
+
+        Map<String, Object> delta = new LinkedHashMap<>();
+        delta.put("threadId", e.getThreadId());
+        delta.put("lastMessageId", e.getId());
+        delta.put("senderRole", e.getSenderRole());
+        if ("USER".equals(e.getSenderRole())) delta.put("userLoginId", e.getSenderLoginId());
+        delta.put("lastMessagePreview", ChatThreadDAO.buildOneLinePreview(e.getContent()));
+        delta.put("lastMessageAt", e.getCreatedAt());
+
+        String frame = "event: thread\nid: " + e.getId() + "\ndata: " + JsonUtil.toJson(delta) + "\n\n";
+        PUBLISHED.incrementAndGet();
+        for (Client c : CLIENTS) {
+            c.send(frame);
+        }
+    }
+
+    /**
+     * 운영 확인용 상태: { enabled, connected, maxClients, maxPending, timeoutMs, published, dropped }
+     */
+    public static Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", ENABLED);
+        m.put("connected", CONNECTED.get());
+        m.put("maxClients", MAX_CLIENTS);
+        m.put("maxPending", MAX_PENDING);
+        m.put("timeoutMs", TIMEOUT_MS);
+        m.put("published", PUBLISHED.get());
+        m.put("dropped", DROPPED.get());
+        return m;
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Math.max(1L, Long.parseLong(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    /**
+     * ping 전송(첫 연결 시 시작, 데몬 스레드 1개)
+     */
+    private static final class Heartbeat {
+        private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+        static void start() {
+            if (!STARTED.compareAndSet(false, true)) return;
+
+            ScheduledExecutorService ses = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "meeting-chat-inbox-ping");
+                t.setDaemon(true);
+                return t;
+            });
+            ses.scheduleWithFixedDelay(() -> {
+                for (Client c : CLIENTS) {
+                    c.send(PING);
+                }
+            }, HEARTBEAT_MS, HEARTBEAT_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * SSE 연결 1개 + 송신 큐
+     */
+    private static final class Client {
+        private final AsyncContext ac;
+        private final PrintWriter writer;
+
+        private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Client(AsyncContext ac, PrintWriter writer) {
+            this.ac = ac;
+            this.writer = writer;
+        }
+
+        /**
+         * 송신 큐에 넣고 전송 시작(블로킹 없음)
+         */
+        void send(String frame) {
+            if (closed.get()) return;
+            if (pendingCount.incrementAndGet() > MAX_PENDING) {
+                pendingCount.decrementAndGet();
+                DROPPED.incrementAndGet();
+                close();
+                return;
+            }
+            pending.add(frame);
+            drain();
+        }
+
+        private void drain() {
+            if (pending.isEmpty() || !sending.compareAndSet(false, true)) return;
+            try {
+                ac.start(this::writePending);
+            } catch (IllegalStateException e) {
+                sending.set(false);
+                close(); // 이미 완료된 응답
+            }
+        }
+
+        /**
+         * 컨테이너 스레드에서 쌓인 프레임을 모두 쓰고 flush
+         */
+        private void writePending() {
+            try {
+                String next;
+                while (!closed.get() && (next = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    writer.write(next);
+                }
+                writer.flush();
+                if (writer.checkError()) close(); // 끊긴 연결
+            } finally {
+                sending.set(false);
+            }
+            if (!closed.get()) drain(); // 그 사이 들어온 건
+        }
+
+        /**
+         * 연결 정리(여러 번 호출돼도 안전)
+         */
+        void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            CLIENTS.remove(this);
+            CONNECTED.decrementAndGet();
+            pending.clear();
+            try {
+                ac.complete();
+            } catch (IllegalStateException ignore) {
+                // 이미 완료/시간 초과 처리 중
+            }
+        }
+    }
+}
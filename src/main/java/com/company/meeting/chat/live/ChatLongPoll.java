@@ -0,0 +1,284 @@
+package com.company.meeting.chat.live;
+
+import com.company.meeting.common.db.ReadRouting;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChatLongPoll
+ * - 채팅 메시지 조회의 롱폴링(wait=1) 대기열
+ * - 새 메시지가 없으면 요청을 AsyncContext로 세워 두고(컨테이너 스레드/DB 커넥션을 쥐지 않음)
+ *   해당 thread에 메시지가 저장되면(messageSaved) 또는 시간 초과가 되면 응답한다.
+ *
+ * 흐름(서블릿):
+ *  1) mayHaveNewer(threadId, sinceId)면 평소처럼 DB 조회 → 결과가 있으면 바로 응답
+ *  2) 결과가 없으면 observed(threadId, sinceId) 후 park(...)
+ *  3) 깨어나면 responder.respond(resp, true) → DB 조회(primary) 후 응답
+ *     시간 초과면 responder.respond(resp, false) → DB 조회 1회(replica) 후 응답
+ *
+ * 신호:
+ * - ChatDAO.insertUserMessage / AdminChatMessageDAO.insertAdminMessage 커밋 후 ChatEvents → messageSaved(threadId, id)
+ * - 이 서버(JVM) 안에서만 전달된다. 다른 서버/다른 경로로 저장된 메시지는 신호가 없으므로
+ *   - DB 확인(observed/시간 초과 조회) 기록은 timeoutMs 동안만 믿는다(지나면 mayHaveNewer=true → DB 조회)
+ *   - 시간 초과 응답도 DB를 한 번 조회한다.
+ *   → 신호 없는 메시지도 최대 timeoutMs 안에 전달된다.
+ *
+ * 정리:
+ * - 대기 중인 조회가 없고 DB 확인이 timeoutMs보다 오래된 thread 상태(Channel)는 버린다.
+ *   (그런 상태는 mayHaveNewer가 어차피 true → 버려도 동작이 같다)
+ * - 저장/대기 호출 시 timeoutMs마다 한 번 훑는다(별도 스레드 없음).
+ *
+ * 설정:
+ * - -Dmeeting.chat.longPoll.enabled=false  : 사용 안 함(항상 바로 응답, 클라이언트는 2초 폴링)
+ * - -Dmeeting.chat.longPoll.timeoutMs=25000 : 최대 대기 시간
+ * - -Dmeeting.chat.longPoll.maxWaiters=2000 : 서버 전체 동시 대기 상한(넘으면 바로 응답)
+ */
+public final class ChatLongPoll {
+
+    /**
+     * 깨어났을 때/시간 초과 시 응답 작성
+     */
+    @FunctionalInterface
+    public interface Responder {
+        /**
+         * @param signalled true면 새 메시지 신호(primary 조회), false면 시간 초과(replica 조회 1회)
+         */
+        void respond(HttpServletResponse resp, boolean signalled) throws Exception;
+    }
+
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("meeting.chat.longPoll.enabled", "true").trim());
+    private static final long TIMEOUT_MS = readLong("meeting.chat.longPoll.timeoutMs", 25_000L);
+    private static final int MAX_WAITERS = (int) readLong("meeting.chat.longPoll.maxWaiters", 2_000L);
+
+    private static final ConcurrentHashMap<Integer, Channel> CHANNELS = new ConcurrentHashMap<>();
+    private static final AtomicInteger WAITING = new AtomicInteger();
+    private static final AtomicLong SIGNALLED = new AtomicLong();
+    private static final AtomicLong TIMED_OUT = new AtomicLong();
+
+    private static final AtomicLong LAST_SWEEP = new AtomicLong(System.currentTimeMillis());
+
+    private ChatLongPoll() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 메시지 저장 알림(커밋 후 호출) → 대기 중인 조회를 깨운다.
+     */
+    public static void messageSaved(int threadId, long messageId) {
+        sweepIfDue();
+        Channel ch = CHANNELS.computeIfAbsent(threadId, k -> new Channel());
+        ch.latest.accumulateAndGet(messageId, Math::max);
+
+        Waiter w;
+        while ((w = ch.waiters.poll()) != null) {
+            w.wake();
+        }
+    }
+
+    /**
+     * sinceId 이후 메시지가 있을 수 있는지
+     * - 이 서버가 아직 모르는 thread면 true(DB로 확인)
+     * - 마지막 DB 확인이 timeoutMs보다 오래됐으면 true(다른 서버에서 저장된 메시지 확인)
+     */
+    public static boolean mayHaveNewer(int threadId, long sinceId) {
+        Channel ch = CHANNELS.get(threadId);
+        return ch == null || ch.latest.get() > sinceId
+                || System.currentTimeMillis() - ch.checkedAt >= TIMEOUT_MS;
+    }
+
+    /**
+     * 최근(timeoutMs 안)에 DB로 확인했는지
+     * - false면 호출 측은 메모리 버퍼(ChatMessageBuffer)가 아니라 DB로 확인해야 한다.
+     */
+    public static boolean recentlyChecked(int threadId) {
+        Channel ch = CHANNELS.get(threadId);
+        return ch != null && System.currentTimeMillis() - ch.checkedAt < TIMEOUT_MS;
+    }
+
+    /**
+     * DB 조회로 sinceId까지 확인했음을 기록(결과가 비었을 때)
+     */
+    public static void observed(int threadId, long sinceId) {
+        Channel ch = CHANNELS.computeIfAbsent(threadId, k -> new Channel());
+        ch.latest.accumulateAndGet(sinceId, Math::max);
+        ch.checkedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 요청을 세워 두고 신호/시간 초과 시 responder 호출
+     * @return false면 대기 상한 초과/비활성(호출 측이 바로 응답해야 함)
+     */
+    public static boolean park(HttpServletRequest req, HttpServletResponse resp,
+                               int threadId, long sinceId, Responder responder) {
+        if (!ENABLED || !req.isAsyncSupported()) return false;
+        if (WAITING.incrementAndGet() > MAX_WAITERS) {
+            WAITING.decrementAndGet();
+            return false;
+        }
+
+        sweepIfDue();
+
+        AsyncContext ac = req.startAsync(req, resp);
+        ac.setTimeout(TIMEOUT_MS);
+
+        Waiter w = new Waiter(ac, resp, responder);
+
+        ac.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                if (!w.claim()) return;
+                w.leave();
+                TIMED_OUT.incrementAndGet();
+                w.finish(false);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                if (w.claim()) {
+                    w.leave();
+                    WAITING.decrementAndGet();
+                    ac.complete();
+                }
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {}
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {}
+        });
+
+        // 대기 등록은 compute 안에서(정리와 같은 키 잠금 → 등록 직후 Channel이 버려지지 않음)
+        Channel ch = CHANNELS.compute(threadId, (k, c) -> {
+            if (c == null) c = new Channel();
+            w.ch = c;
+            c.waiters.add(w);
+            return c;
+        });
+
+        // 등록 후 다시 확인(등록 직전에 저장된 메시지를 놓치지 않도록)
+        if (ch.latest.get() > sinceId && ch.waiters.remove(w)) {
+            w.wake();
+        }
+        return true;
+    }
+
+    /**
+     * 운영 확인용 상태: { enabled, timeoutMs, maxWaiters, waiting, threads, signalled, timedOut }
+     */
+    public static Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", ENABLED);
+        m.put("timeoutMs", TIMEOUT_MS);
+        m.put("maxWaiters", MAX_WAITERS);
+        m.put("waiting", WAITING.get());
+        m.put("threads", CHANNELS.size());
+        m.put("signalled", SIGNALLED.get());
+        m.put("timedOut", TIMED_OUT.get());
+        return m;
+    }
+
+    /**
+     * 오래된 thread 상태 정리(timeoutMs마다 1번, 먼저 도착한 호출 1개만)
+     * - 대기 중인 조회 없음 + 마지막 DB 확인이 timeoutMs보다 오래됨 → 제거
+     */
+    private static void sweepIfDue() {
+        long now = System.currentTimeMillis();
+        long last = LAST_SWEEP.get();
+        if (now - last < TIMEOUT_MS || !LAST_SWEEP.compareAndSet(last, now)) return;
+
+        for (Integer threadId : CHANNELS.keySet()) {
+            CHANNELS.computeIfPresent(threadId,
+                    (k, c) -> (c.waiters.isEmpty() && now - c.checkedAt >= TIMEOUT_MS) ? null : c);
+        }
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Math.max(1L, Long.parseLong(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    /**
+     * thread 1개: 이 서버가 아는 최신 메시지 id + 마지막 DB 확인 시각 + 대기 중인 조회
+     */
+    private static final class Channel {
+        final AtomicLong latest = new AtomicLong(-1L);
+        volatile long checkedAt;
+        final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * 대기 중인 조회 1건(신호/시간 초과/오류 중 먼저 온 하나만 처리)
+     */
+    private static final class Waiter {
+        private volatile Channel ch; // 등록 후 설정
+        private final AsyncContext ac;
+        private final HttpServletResponse resp;
+        private final Responder responder;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Waiter(AsyncContext ac, HttpServletResponse resp, Responder responder) {
+            this.ac = ac;
+            this.resp = resp;
+            this.responder = responder;
+        }
+
+        boolean claim() {
+            return done.compareAndSet(false, true);
+        }
+
+        /**
+         * 대기열에서 빠지기(시간 초과/오류)
+         */
+        void leave() {
+            Channel c = ch;
+            if (c != null) c.waiters.remove(this);
+        }
+
+        /**
+         * 신호: 컨테이너 스레드에서 DB 조회 후 응답(저장한 스레드를 붙잡지 않음)
+         */
+        void wake() {
+            if (!claim()) return;
+            SIGNALLED.incrementAndGet();
+            ac.start(() -> finish(true));
+        }
+
+        void finish(boolean signalled) {
+            WAITING.decrementAndGet();
+
+            // 방금 primary에 커밋된 메시지 → replica 지연을 피해 primary에서 읽는다.
+            // 시간 초과 → 신호 없이 저장된 메시지 확인용 조회 1회(replica)
+            ReadRouting.beginRequest(signalled);
+            try {
+                responder.respond(resp, signalled);
+                Channel c = ch;
+                if (!signalled && c != null) c.checkedAt = System.currentTimeMillis();
+            } catch (Exception e) {
+                if (!resp.isCommitted()) resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            } finally {
+                ReadRouting.endRequest();
+                ac.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.company.meeting.chat.live;
+
+import com.company.meeting.admin.chat.dto.AdminChatMessageItem;
+import com.company.meeting.chat.dto.ChatMessageItem;
+
+/**
+ * ChatMessageEvent
+ * - 저장(커밋)된 채팅 메시지 1건(서버 내부 알림용)
+ * - 회원 화면(ChatMessageItem) / 관리자 화면(AdminChatMessageItem) 형식으로 각각 변환해 내려준다.
+ */
+public final class ChatMessageEvent {
+
+    private final int threadId;
+    private final long id;
+    private final String senderRole;   // USER | ADMIN
+    private final Integer senderId;    // 없으면 null
+    private final String senderName;
+    private final String senderLoginId;
+    private final String content;
+    private final String createdAt;    // yyyy-MM-dd HH:mm:ss
+
+    private ChatMessageEvent(int threadId, long id, String senderRole, Integer senderId,
+                             String senderName, String senderLoginId, String content, String createdAt) {
+        this.threadId = threadId;
+        this.id = id;
+        this.senderRole = senderRole;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.senderLoginId = senderLoginId;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 회원이 보낸 메시지(ChatDAO.insertUserMessage)
+     */
+    public static ChatMessageEvent ofUser(int threadId, int userId, ChatMessageItem item) {
+        return new ChatMessageEvent(threadId, item.getId(), item.getSenderRole(), userId,
+                item.getSenderName(), item.getSenderLoginId(), item.getContent(), item.getCreatedAt());
+    }
+
+    /**
+     * 관리자가 보낸 메시지(AdminChatMessageDAO.insertAdminMessage)
+     * - 표시 이름/아이디는 ChatDAO.listMessages와 같은 규칙으로 DAO가 조회한 값(없으면 관리자/ADMIN)
+     */
+    public static ChatMessageEvent ofAdmin(AdminChatMessageItem item, String senderName, String senderLoginId) {
+        return new ChatMessageEvent(item.getThreadId(), item.getId(), item.getSenderRole(), item.getSenderId(),
+                senderName, senderLoginId, item.getContent(), item.getCreatedAt());
+    }
+
+    public int getThreadId() { return threadId; }
+    public long getId() { return id; }
+    public String getSenderRole() { return senderRole; }
+    public String getSenderLoginId() { return senderLoginId; }
+    public String getContent() { return content; }
+    public String getCreatedAt() { return createdAt; }
+
+    public ChatMessageItem toUserItem() {
+        return new ChatMessageItem(id, senderRole, senderName, senderLoginId, content, createdAt);
+    }
+
+    public AdminChatMessageItem toAdminItem() {
+        return new AdminChatMessageItem(id, threadId, senderRole, senderId, content, createdAt);
+    }
+}
@@ -0,0 +1,24 @@
+package com.company.meeting.chat.live;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.HandshakeResponse;
+import jakarta.websocket.server.HandshakeRequest;
+import jakarta.websocket.server.ServerEndpointConfig;
+
+/**
+ * ChatSocketConfigurator
+ * - 웹소켓 핸드셰이크 시 HTTP 세션을 소켓 세션 속성으로 넘긴다(로그인 확인용).
+ * - 연결마다 별도 userProperties(컨테이너가 연결별 설정 사본을 만든다)
+ */
+public class ChatSocketConfigurator extends ServerEndpointConfig.Configurator {
+
+    public static final String HTTP_SESSION = "HTTP_SESSION";
+
+    @Override
+    public void modifyHandshake(ServerEndpointConfig sec, HandshakeRequest request, HandshakeResponse response) {
+        Object hs = request.getHttpSession();
+        if (hs instanceof HttpSession) {
+            sec.getUserProperties().put(HTTP_SESSION, hs);
+        }
+    }
+}
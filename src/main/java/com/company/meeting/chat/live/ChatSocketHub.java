@@ -0,0 +1,216 @@
+package com.company.meeting.chat.live;
+
+import com.company.meeting.common.util.json.JsonUtil;
+
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.Session;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChatSocketHub
+ * - 채팅 웹소켓 구독 레지스트리 + fan-out
+ * - thread id → 구독자 집합(ConcurrentHashMap + concurrent set): 전송 경로에 전역 잠금이 없다.
+ *   유휴 소켓은 구독자 객체(메모리)만 차지한다(컨테이너 NIO, 스레드 점유 없음).
+ *
+ * 전송:
+ * - 저장한 스레드는 구독자별 송신 큐에 넣기만 한다(느린 클라이언트가 저장 요청을 붙잡지 않음).
+ * - 구독자당 비동기 송신은 한 번에 1건(컨테이너 제약), 완료 콜백에서 다음 건 전송
+ * - 송신 큐가 상한을 넘으면(읽지 않는 클라이언트) 소켓을 닫는다 → 클라이언트는 재연결/폴링으로 복구
+ *
+ * 프레임(JSON):
+ * - { type:"message", item:{...} } : 회원은 ChatMessageItem, 관리자는 AdminChatMessageItem 형식
+ * - { type:"ack", clientId, item } / { type:"error", clientId, message } : 소켓 전송 응답(엔드포인트가 작성)
+ *
+ * 설정:
+ * - -Dmeeting.chat.ws.maxPending=64 : 구독자별 송신 대기 상한
+ */
+public final class ChatSocketHub {
+
+    private static final int MAX_PENDING = readInt("meeting.chat.ws.maxPending", 64);
+
+    private static final ConcurrentHashMap<Integer, Set<Subscriber>> THREADS = new ConcurrentHashMap<>();
+    private static final AtomicInteger CONNECTED = new AtomicInteger();
+    private static final AtomicLong PUSHED = new AtomicLong();
+    private static final AtomicLong DROPPED = new AtomicLong();
+
+    private ChatSocketHub() {}
+
+    /**
+     * thread 구독 시작
+     * @param admin true면 관리자 형식(AdminChatMessageItem)으로 받는다.
+     */
+    public static Subscriber join(int threadId, Session session, boolean admin) {
+        Subscriber s = new Subscriber(threadId, session, admin);
+        THREADS.compute(threadId, (k, set) -> {
+            Set<Subscriber> v = (set == null) ? ConcurrentHashMap.newKeySet() : set;
+            v.add(s);
+            return v;
+        });
+        CONNECTED.incrementAndGet();
+        return s;
+    }
+
+    /**
+     * 구독 해제(여러 번 호출돼도 안전), 구독자가 없는 thread는 제거
+     */
+    public static void leave(Subscriber s) {
+        if (s == null || !s.left.compareAndSet(false, true)) return;
+        THREADS.computeIfPresent(s.threadId, (k, set) -> {
+            set.remove(s);
+            return set.isEmpty() ? null : set;
+        });
+        CONNECTED.decrementAndGet();
+    }
+
+    /**
+     * 저장된 메시지를 구독자에게 push(역할별 JSON은 한 번씩만 만든다)
+     */
+    static void broadcast(ChatMessageEvent e) {
+        Set<Subscriber> set = THREADS.get(e.getThreadId());
+        if (set == null || set.isEmpty()) return;
+
+        String userFrame = null;
+        String adminFrame = null;
+
+        for (Subscriber s : set) {
+            String frame;
+            if (s.admin) {
+                if (adminFrame == null) adminFrame = frame("message", null, e.toAdminItem());
+                frame = adminFrame;
+            } else {
+                if (userFrame == null) userFrame = frame("message", null, e.toUserItem());
+                frame = userFrame;
+            }
+            s.send(frame);
+        }
+    }
+
+    /**
+     * 프레임 JSON: { type, clientId?, item? }
+     */
+    public static String frame(String type, String clientId, Object item) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("type", type);
+        if (clientId != null) m.put("clientId", clientId);
+        if (item != null) m.put("item", item);
+        return JsonUtil.toJson(m);
+    }
+
+    /**
+     * 오류 프레임 JSON: { type:"error", clientId?, message }
+     */
+    public static String errorFrame(String clientId, String message) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("type", "error");
+        if (clientId != null) m.put("clientId", clientId);
+        m.put("message", message);
+        return JsonUtil.toJson(m);
+    }
+
+    /**
+     * 운영 확인용 상태: { connected, threads, maxPending, pushed, dropped }
+     */
+    public static Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("connected", CONNECTED.get());
+        m.put("threads", THREADS.size());
+        m.put("maxPending", MAX_PENDING);
+        m.put("pushed", PUSHED.get());
+        m.put("dropped", DROPPED.get());
+        return m;
+    }
+
+    private static int readInt(String key, int def) {
+        try {
+            return Math.max(1, Integer.parseInt(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    /**
+     * 소켓 1개(구독자) + 송신 큐
+     */
+    public static final class Subscriber {
+        private final int threadId;
+        private final Session session;
+        private final boolean admin;
+
+        private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean left = new AtomicBoolean();
+
+        private Subscriber(int threadId, Session session, boolean admin) {
+            this.threadId = threadId;
+            this.session = session;
+            this.admin = admin;
+        }
+
+        public int getThreadId() {
+            return threadId;
+        }
+
+        /**
+         * 송신 큐에 넣고 전송 시작(블로킹 없음)
+         */
+        public void send(String frame) {
+            if (left.get()) return;
+            if (pendingCount.incrementAndGet() > MAX_PENDING) {
+                pendingCount.decrementAndGet();
+                DROPPED.incrementAndGet();
+                closeQuietly(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "too slow"));
+                return;
+            }
+            pending.add(frame);
+            drain();
+        }
+
+        private void drain() {
+            while (!pending.isEmpty() && sending.compareAndSet(false, true)) {
+                String next = pending.poll();
+                if (next == null) {
+                    sending.set(false);
+                    continue; // 그 사이 들어온 건이 있으면 다시 시도
+                }
+                pendingCount.decrementAndGet();
+
+                try {
+                    session.getAsyncRemote().sendText(next, result -> {
+                        if (result.isOK()) {
+                            PUSHED.incrementAndGet();
+                        } else {
+                            closeQuietly(new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, "send failed"));
+                        }
+                        sending.set(false);
+                        drain();
+                    });
+                } catch (RuntimeException e) {
+                    sending.set(false);
+                    closeQuietly(new CloseReason(CloseReason.CloseCodes.CLOSED_ABNORMALLY, "send failed"));
+                }
+                return; // 나머지는 완료 콜백이 이어서 보낸다.
+            }
+        }
+
+        private void closeQuietly(CloseReason reason) {
+            leave(this);
+            pending.clear();
+            try {
+                if (session.isOpen()) session.close(reason);
+            } catch (IOException | IllegalStateException ignore) {
+                // 이미 닫히는 중
+            }
+        }
+    }
+}
@@ -22,6 +22,10 @@ public class ChatService {
         return chatDAO.listMessages(threadId, sinceId, limit);
     }
 
+    public List<ChatMessageItem> refreshMessages(int threadId, long sinceId, int limit) throws Exception {
+        return chatDAO.refreshMessages(threadId, sinceId, limit);
+    }
+
     public ChatMessageItem sendUserMessage(int threadId, int userId, String content) throws Exception {
         return chatDAO.insertUserMessage(threadId, userId, content);
     }
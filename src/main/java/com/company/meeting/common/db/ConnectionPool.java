@@ -0,0 +1,589 @@
+package com.company.meeting.common.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * ConnectionPool
+ * - DriverManager 기반의 경량 JDBC 커넥션 풀
+ * - DBConnection 내부에서만 사용(DAO는 기존처럼 DBConnection.getConnection() 사용)
+ *
+ * 동작:
+ * - 대여(borrow): 유휴 커넥션 재사용 → 없으면 maxSize까지 새로 생성 → 그래도 없으면 connectionTimeout까지 대기
+ * - 반납(close): 프록시 Connection의 close()가 물리 커넥션을 닫지 않고 풀로 되돌린다.
+ *   (autoCommit/readOnly 등 세션 상태는 반납 시 원복)
+ * - 검증: 일정 시간 이상 놀던 커넥션은 대여 시 isValid()로 확인 후 깨졌으면 폐기/재생성
+ * - 누수 감지: leakDetectionThreshold 이상 반납되지 않은 커넥션은 대여 시점 stack trace와 함께 경고 로그
+ * - statement 캐시: 물리 커넥션마다 PreparedStatement LRU(StatementCache)를 두고 DAO의 prepareStatement를 재사용
+ * - SQL 집계: 대여된 커넥션의 PreparedStatement는 SqlMetrics로 감싸 실행 시간/행 수를 기록
+ *
+ * 주의:
+ * - 대여받은 Connection은 반드시 try-with-resources로 close 해야 한다(기존 DAO 패턴 그대로).
+ */
+public class ConnectionPool {
+
+    private static final Logger LOG = Logger.getLogger(ConnectionPool.class.getName());
+
+    private final String name;
+    private final String url;
+    private final String user;
+    private final String password;
+    private final DBConfig.PoolSettings settings;
+
+    // ✅ 풀 상태(lock으로 보호)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final ArrayDeque<PooledEntry> idle = new ArrayDeque<>(); // 앞쪽이 최근 반납(LIFO)
+    private int total;   // 생성 중인 것 포함
+    private int waiters;
+    private boolean closed;
+
+    // ✅ 대여 중 커넥션(누수 검사용)
+    private final Set<PooledEntry> borrowed = ConcurrentHashMap.newKeySet();
+
+    // ✅ 통계
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder createdCount = new LongAdder();
+    private final LongAdder destroyedCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private final ScheduledExecutorService housekeeper;
+
+    // ✅ primary 풀: 쓰기 SQL을 감지해 ReadRouting에 알린다(replica 사용 시에만 켬)
+    private volatile boolean trackWrites;
+
+    public ConnectionPool(String name, String url, String user, String password, DBConfig.PoolSettings settings) {
+        this.name = name;
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.settings = settings;
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "meeting-db-pool-" + name);
+            t.setDaemon(true);
+            return t;
+        });
+
+        // ✅ minIdle 채우기/누수 검사/유휴 정리는 백그라운드에서 수행
+        // - 기동 시점에 DB가 아직 안 떠 있어도 클래스 로딩이 실패하지 않도록 즉시 생성하지 않는다.
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep,
+                0, settings.housekeepingIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 커넥션 대여
+     * - 반환되는 Connection은 프록시이며 close() 시 풀로 반납된다.
+     */
+    public Connection borrow() throws SQLException {
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(settings.connectionTimeoutMs);
+
+        while (true) {
+            PooledEntry entry = null;
+            boolean create = false;
+
+            lock.lock();
+            try {
+                while (!closed && idle.isEmpty() && total >= settings.maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeoutCount.increment();
+                        throw new SQLTransientConnectionException(
+                                "DB 커넥션을 얻지 못했습니다. (pool=" + name
+                                        + ", active=" + borrowed.size()
+                                        + ", max=" + settings.maxSize
+                                        + ", timeout=" + settings.connectionTimeoutMs + "ms)");
+                    }
+
+                    waiters++;
+                    try {
+                        available.awaitNanos(remaining);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("DB 커넥션 대기 중 인터럽트되었습니다.", ie);
+                    } finally {
+                        waiters--;
+                    }
+                }
+
+                if (closed) {
+                    throw new SQLException("커넥션 풀이 종료되었습니다. (pool=" + name + ")");
+                }
+
+                if (!idle.isEmpty()) {
+                    entry = idle.pollFirst();
+                } else {
+                    total++;
+                    create = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                try {
+                    entry = createEntry();
+                } catch (SQLException e) {
+                    lock.lock();
+                    try {
+                        total--;
+                        available.signal();
+                    } finally {
+                        lock.unlock();
+                    }
+                    throw e;
+                }
+            } else if (!validate(entry)) {
+                destroy(entry);
+                continue;
+            }
+
+            recordWait(System.nanoTime() - start);
+            return lease(entry);
+        }
+    }
+
+    /**
+     * 쓰기 감지 on/off(DBConnection에서 replica가 설정된 경우 primary 풀에 켠다)
+     */
+    void setTrackWrites(boolean trackWrites) {
+        this.trackWrites = trackWrites;
+    }
+
+    /**
+     * 대여 중 커넥션 수(LEAST_BUSY replica 선택용, 락 없이 조회)
+     */
+    int activeCount() {
+        return borrowed.size();
+    }
+
+    /**
+     * 현재 풀 상태 스냅샷
+     */
+    public PoolStats stats() {
+        int totalNow;
+        int idleNow;
+        int waitersNow;
+
+        lock.lock();
+        try {
+            totalNow = total;
+            idleNow = idle.size();
+            waitersNow = waiters;
+        } finally {
+            lock.unlock();
+        }
+
+        long borrows = borrowCount.sum();
+        double avgWait = (borrows == 0) ? 0.0 : (totalWaitNanos.sum() / (double) borrows) / 1_000_000.0;
+        double maxWait = maxWaitNanos.get() / 1_000_000.0;
+
+        return new PoolStats(
+                name,
+                totalNow,
+                borrowed.size(),
+                idleNow,
+                waitersNow,
+                settings.minIdle,
+                settings.maxSize,
+                borrows,
+                timeoutCount.sum(),
+                createdCount.sum(),
+                destroyedCount.sum(),
+                leakCount.sum(),
+                avgWait,
+                maxWait
+        );
+    }
+
+    /**
+     * 풀 종료
+     * - 유휴 커넥션은 즉시 닫고, 대여 중인 커넥션은 반납 시점에 닫힌다.
+     */
+    public void shutdown() {
+        List<PooledEntry> toClose;
+
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        housekeeper.shutdownNow();
+        for (PooledEntry e : toClose) {
+            destroy(e);
+        }
+    }
+
+    // =========================================================
+    // 내부 구현
+    // =========================================================
+
+    private PooledEntry createEntry() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, user, password);
+        createdCount.increment();
+        return new PooledEntry(physical, new StatementCache(settings.statementCacheSize));
+    }
+
+    /**
+     * 대여 직전 검증
+     * - 최근(validationSkipMs 이내)에 반납된 커넥션은 검사 생략
+     */
+    private boolean validate(PooledEntry entry) {
+        long idleNanos = System.nanoTime() - entry.lastReturnedNanos;
+        if (idleNanos < TimeUnit.MILLISECONDS.toNanos(settings.validationSkipMs)) {
+            return true;
+        }
+        try {
+            return entry.physical.isValid(settings.validationTimeoutSec);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection lease(PooledEntry entry) {
+        entry.leaseStartNanos = System.nanoTime();
+        entry.leaseThread = Thread.currentThread().getName();
+        entry.leaseStack = (settings.leakDetectionThresholdMs > 0)
+                ? new Throwable("커넥션 대여 위치(pool=" + name + ")")
+                : null;
+        entry.leakReported = false;
+
+        borrowed.add(entry);
+        borrowCount.increment();
+
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new LeaseHandler(entry)
+        );
+    }
+
+    /**
+     * 반납
+     * - 세션 상태를 원복하지 못하면 커넥션을 폐기한다.
+     */
+    private void release(PooledEntry entry) {
+        borrowed.remove(entry);
+
+        if (entry.leakReported) {
+            long heldMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.leaseStartNanos);
+            LOG.info("누수 의심 커넥션이 반납되었습니다. (pool=" + name + ", held=" + heldMs + "ms)");
+        }
+        entry.leaseStack = null;
+
+        boolean reusable = resetSessionState(entry.physical);
+
+        lock.lock();
+        try {
+            if (reusable && !closed) {
+                entry.lastReturnedNanos = System.nanoTime();
+                idle.addFirst(entry);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        destroy(entry);
+    }
+
+    private boolean resetSessionState(Connection c) {
+        try {
+            if (c.isClosed()) return false;
+            if (!c.getAutoCommit()) {
+                // ✅ 커밋/롤백 없이 반납된 트랜잭션은 롤백(다음 사용자에게 잠금이 새지 않도록)
+                c.rollback();
+                c.setAutoCommit(true);
+            }
+            if (c.isReadOnly()) {
+                c.setReadOnly(false);
+            }
+            c.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void destroy(PooledEntry entry) {
+        entry.statementCache.closeAll();
+        try {
+            entry.physical.close();
+        } catch (SQLException ignored) {
+            // 이미 끊긴 커넥션일 수 있음
+        }
+        destroyedCount.increment();
+
+        lock.lock();
+        try {
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.add(waitNanos);
+        long prev;
+        while (waitNanos > (prev = maxWaitNanos.get())) {
+            if (maxWaitNanos.compareAndSet(prev, waitNanos)) break;
+        }
+    }
+
+    /**
+     * 주기 작업
+     * 1) 누수 의심 커넥션 경고
+     * 2) minIdle 초과 + idleTimeout 경과한 유휴 커넥션 정리
+     * 3) minIdle 채우기
+     */
+    private void housekeep() {
+        try {
+            detectLeaks();
+            evictIdle();
+            fillMinIdle();
+        } catch (Throwable t) {
+            // ✅ 스케줄러 스레드가 죽지 않도록 모두 삼킨다.
+            LOG.log(Level.WARNING, "커넥션 풀 유지보수 작업 실패 (pool=" + name + ")", t);
+        }
+    }
+
+    private void detectLeaks() {
+        long threshold = settings.leakDetectionThresholdMs;
+        if (threshold <= 0) return;
+
+        long now = System.nanoTime();
+        for (PooledEntry e : borrowed) {
+            if (e.leakReported) continue;
+
+            long heldMs = TimeUnit.NANOSECONDS.toMillis(now - e.leaseStartNanos);
+            if (heldMs >= threshold) {
+                e.leakReported = true;
+                leakCount.increment();
+                LOG.log(Level.WARNING,
+                        "커넥션 누수 의심: " + heldMs + "ms 동안 반납되지 않음 (pool=" + name
+                                + ", thread=" + e.leaseThread + ")",
+                        e.leaseStack);
+            }
+        }
+    }
+
+    private void evictIdle() {
+        long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(settings.idleTimeoutMs);
+        if (idleTimeoutNanos <= 0) return;
+
+        List<PooledEntry> evicted = new ArrayList<>();
+        long now = System.nanoTime();
+
+        lock.lock();
+        try {
+            // ✅ 뒤쪽이 가장 오래 놀던 커넥션
+            Iterator<PooledEntry> it = idle.descendingIterator();
+            while (it.hasNext() && (total - evicted.size()) > settings.minIdle) {
+                PooledEntry e = it.next();
+                if (now - e.lastReturnedNanos < idleTimeoutNanos) break;
+                it.remove();
+                evicted.add(e);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (PooledEntry e : evicted) {
+            destroy(e);
+        }
+    }
+
+    private void fillMinIdle() {
+        while (true) {
+            lock.lock();
+            try {
+                if (closed || total >= settings.minIdle || total >= settings.maxSize) return;
+                total++;
+            } finally {
+                lock.unlock();
+            }
+
+            PooledEntry entry;
+            try {
+                entry = createEntry();
+            } catch (SQLException e) {
+                lock.lock();
+                try {
+                    total--;
+                } finally {
+                    lock.unlock();
+                }
+                // DB 미기동 등: 다음 주기에 재시도
+                return;
+            }
+
+            lock.lock();
+            try {
+                if (closed) {
+                    total--;
+                    try {
+                        entry.physical.close();
+                    } catch (SQLException ignored) {
+                    }
+                    return;
+                }
+                entry.lastReturnedNanos = System.nanoTime();
+                idle.addLast(entry);
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 물리 커넥션 + 대여 메타
+     */
+    private static final class PooledEntry {
+        final Connection physical;
+        final StatementCache statementCache;
+        volatile long lastReturnedNanos;
+
+        volatile long leaseStartNanos;
+        volatile String leaseThread;
+        volatile Throwable leaseStack;
+        volatile boolean leakReported;
+
+        PooledEntry(Connection physical, StatementCache statementCache) {
+            this.physical = physical;
+            this.statementCache = statementCache;
+            this.lastReturnedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 대여 1회에 대응하는 Connection 프록시 핸들러
+     * - close(): 물리 커넥션을 닫지 않고 풀로 반납(중복 close 무시)
+     * - prepareStatement(sql[, keys]): StatementCache 경유
+     * - 반납 이후 호출: SQLException
+     */
+    private final class LeaseHandler implements InvocationHandler {
+
+        private final PooledEntry entry;
+        private boolean returned;
+
+        // ✅ 이번 대여에서 연 statement(반납 시 닫히지 않은 것은 캐시로 회수)
+        private List<PreparedStatement> openStatements;
+
+        LeaseHandler(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String m = method.getName();
+
+            switch (m) {
+                case "close":
+                    if (!returned) {
+                        closeOpenStatements();
+                        returned = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + name + "]" + (returned ? "(returned)" : "");
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("이미 풀에 반납된 커넥션입니다. (pool=" + name + ")");
+            }
+
+            if (trackWrites && "prepareStatement".equals(m) && ReadRouting.isWriteSql((String) args[0])) {
+                ReadRouting.markWrite();
+            }
+
+            if (settings.statementCacheSize > 0 && "prepareStatement".equals(m) && isCacheable(args)) {
+                Integer keys = (args.length == 2) ? (Integer) args[1] : null;
+                PreparedStatement ps = entry.statementCache.prepare(entry.physical, (Connection) proxy, (String) args[0], keys);
+                if (openStatements == null) openStatements = new ArrayList<>(4);
+                openStatements.add(ps);
+                return ps; // 캐시 반환 + SQL 집계 래퍼(StatementCache → SqlMetrics)
+            }
+
+            Object ret;
+            try {
+                ret = method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            // ✅ 캐시 대상이 아닌 prepareStatement 변형도 SQL 집계에는 포함
+            if (ret instanceof PreparedStatement && "prepareStatement".equals(m)) {
+                return SqlMetrics.instrument((PreparedStatement) ret, (String) args[0]);
+            }
+            return ret;
+        }
+
+        /**
+         * prepareStatement(String) / prepareStatement(String, int autoGeneratedKeys)만 캐시 대상
+         */
+        private boolean isCacheable(Object[] args) {
+            if (args == null) return false;
+            if (args.length == 1) return true;
+            return args.length == 2 && args[1] instanceof Integer;
+        }
+
+        private void closeOpenStatements() {
+            if (openStatements == null) return;
+            for (PreparedStatement ps : openStatements) {
+                try {
+                    ps.close(); // 이미 닫힌 것은 무시됨
+                } catch (SQLException ignored) {
+                }
+            }
+            openStatements = null;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.company.meeting.common.db;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 설정값 모음
+ * - 기본값은 로컬 Docker MySQL 기준
+ * - 운영/테스트 환경에서는 JVM 옵션(-Dmeeting.db.xxx) 또는 환경변수(MEETING_DB_XXX)로 덮어쓴다.
+ *
+ * 예)
+ *  -Dmeeting.db.url=jdbc:mysql://db:3306/meeting_room?...
+ *  -Dmeeting.db.pool.maxSize=30
+ *  MEETING_DB_POOL_MAXSIZE=30
+ *  -Dmeeting.db.replica.urls=jdbc:mysql://localhost:3308/meeting_room?...   (읽기 replica)
+ */
+public final class DBConfig {
+
+    private static final String PREFIX = "meeting.db.";
+
+    // Docker MySQL 접속 정보(기본값)
+    private static final String DEFAULT_URL =
+            "jdbc:mysql://localhost:3307/meeting_room"
+                    + "?useSSL=false"
+                    + "&allowPublicKeyRetrieval=true"
+                    + "&serverTimezone=Asia/Seoul"
+                    + "&characterEncoding=UTF-8";
+
+    private DBConfig() {}
+
+    /**
+     * primary JDBC URL(쓰기 + 모든 트랜잭션)
+     */
+    public static String url() {
+        return withDriverOptions(get("url", DEFAULT_URL));
+    }
+
+    public static String user() {
+        return get("user", "root");
+    }
+
+    public static String password() {
+        return get("password", "1234");
+    }
+
+    // =========================================================
+    // 읽기 replica(선택)
+    // =========================================================
+
+    /**
+     * replica JDBC URL 목록(쉼표 구분)
+     * - 비어 있으면 읽기 라우팅을 하지 않는다(모든 조회가 primary).
+     *
+     * 예) -Dmeeting.db.replica.urls=jdbc:mysql://localhost:3308/meeting_room?...,jdbc:mysql://...
+     */
+    public static List<String> replicaUrls() {
+        List<String> urls = new ArrayList<>();
+        String raw = get("replica.urls", "");
+        for (String u : raw.split(",")) {
+            String t = u.trim();
+            if (!t.isEmpty()) urls.add(withDriverOptions(t));
+        }
+        return urls;
+    }
+
+    public static String replicaUser() {
+        return get("replica.user", user());
+    }
+
+    public static String replicaPassword() {
+        return get("replica.password", password());
+    }
+
+    /**
+     * replica 선택 방식
+     * - ROUND_ROBIN(기본): 순서대로
+     * - LEAST_BUSY: 대여 중 커넥션이 가장 적은 replica
+     */
+    public static String replicaStrategy() {
+        return get("replica.strategy", "ROUND_ROBIN").toUpperCase();
+    }
+
+    /**
+     * 쓰기 직후 해당 세션의 읽기를 primary로 고정하는 시간(ms, 0이면 끔)
+     * - replica 복제 지연보다 넉넉하게 잡는다.
+     */
+    public static long pinAfterWriteMs() {
+        return Math.max(0L, getLong("replica.pinAfterWriteMs", 5_000L));
+    }
+
+    /**
+     * 드라이버 옵션 보정
+     * - statement 캐시를 쓰는 경우 서버 측 prepare(useServerPrepStmts)를 기본으로 켠다.
+     *   (캐시된 statement는 재실행 시 SQL 파싱 없이 바로 EXECUTE)
+     * - URL에 이미 지정되어 있으면 그 값을 존중한다.
+     */
+    private static String withDriverOptions(String url) {
+        if (poolSettings().statementCacheSize > 0 && !url.contains("useServerPrepStmts")) {
+            url += (url.contains("?") ? "&" : "?") + "useServerPrepStmts=true";
+        }
+        return url;
+    }
+
+    /**
+     * 커넥션 풀 설정
+     * - minIdle: 항상 유지할 유휴 커넥션 수
+     * - maxSize: 풀 최대 크기(MySQL max_connections보다 충분히 작게)
+     * - connectionTimeoutMs: 빌릴 커넥션이 없을 때 최대 대기 시간
+     * - validationTimeoutSec: 대여 시 isValid() 검사 타임아웃
+     * - validationSkipMs: 반납 후 이 시간 이내 재대여면 검사 생략(불필요한 ping 방지)
+     * - idleTimeoutMs: minIdle 초과분 유휴 커넥션 정리 기준
+     * - leakDetectionThresholdMs: 이 시간 이상 반납되지 않으면 누수 경고(0이면 끔)
+     * - housekeepingIntervalMs: 누수 검사/유휴 정리 주기
+     * - statementCacheSize: 커넥션당 PreparedStatement 캐시 크기(0이면 끔)
+     */
+    public static PoolSettings poolSettings() {
+        PoolSettings s = new PoolSettings();
+        s.minIdle = getInt("pool.minIdle", 2);
+        s.maxSize = getInt("pool.maxSize", 20);
+        s.connectionTimeoutMs = getLong("pool.connectionTimeoutMs", 5_000L);
+        s.validationTimeoutSec = getInt("pool.validationTimeoutSec", 2);
+        s.validationSkipMs = getLong("pool.validationSkipMs", 500L);
+        s.idleTimeoutMs = getLong("pool.idleTimeoutMs", 600_000L);
+        s.leakDetectionThresholdMs = getLong("pool.leakDetectionThresholdMs", 30_000L);
+        s.housekeepingIntervalMs = getLong("pool.housekeepingIntervalMs", 5_000L);
+        s.statementCacheSize = getInt("pool.statementCacheSize", 64);
+
+        // ✅ 잘못된 값 방어
+        if (s.maxSize < 1) s.maxSize = 1;
+        if (s.minIdle < 0) s.minIdle = 0;
+        if (s.minIdle > s.maxSize) s.minIdle = s.maxSize;
+        if (s.connectionTimeoutMs < 0) s.connectionTimeoutMs = 0;
+        if (s.validationTimeoutSec < 1) s.validationTimeoutSec = 1;
+        if (s.housekeepingIntervalMs < 100) s.housekeepingIntervalMs = 100;
+        if (s.statementCacheSize < 0) s.statementCacheSize = 0;
+        return s;
+    }
+
+    /**
+     * SQL 실행 집계(SqlMetrics) 사용 여부
+     * - 기본 켬. 끄려면 -Dmeeting.db.sqlStats.enabled=false
+     */
+    public static boolean sqlStatsEnabled() {
+        return Boolean.parseBoolean(get("sqlStats.enabled", "true"));
+    }
+
+    // =========================================================
+    // 조회 헬퍼: System property > 환경변수 > 기본값
+    // =========================================================
+
+    static String get(String key, String def) {
+        String v = System.getProperty(PREFIX + key);
+        if (v == null || v.isBlank()) {
+            String envKey = (PREFIX + key).toUpperCase().replace('.', '_');
+            v = System.getenv(envKey);
+        }
+        return (v == null || v.isBlank()) ? def : v.trim();
+    }
+
+    static int getInt(String key, int def) {
+        try {
+            return Integer.parseInt(get(key, String.valueOf(def)));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    static long getLong(String key, long def) {
+        try {
+            return Long.parseLong(get(key, String.valueOf(def)));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    /**
+     * 풀 설정값 묶음(패키지 내부 전용)
+     */
+    static final class PoolSettings {
+        int minIdle;
+        int maxSize;
+        long connectionTimeoutMs;
+        int validationTimeoutSec;
+        long validationSkipMs;
+        long idleTimeoutMs;
+        long leakDetectionThresholdMs;
+        long housekeepingIntervalMs;
+        int statementCacheSize;
+    }
+}
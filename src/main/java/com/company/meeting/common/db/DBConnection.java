@@ -3,25 +3,34 @@ package com.company.meeting.common.db;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * JDBC 공용 DB 연결 클래스
  * - 모든 DAO에서 공통으로 사용
  * - Tomcat 10 + MySQL 8 + JDK 17 기준
  * - Driver는 static block에서 1회만 등록
+ *
+ * 커넥션 풀:
+ * - getConnection()은 매번 새 물리 커넥션을 여는 대신 ConnectionPool에서 대여한다.
+ * - DAO 쪽 사용법은 동일: try-with-resources로 close() 하면 풀로 반납된다.
+ * - 접속 정보/풀 크기는 DBConfig 참고(JVM 옵션/환경변수로 변경 가능)
+ *
+ * 작업 단위(UnitOfWork):
+ * - 서비스가 UnitOfWork.call/inTransaction으로 감싼 구간에서는
+ *   같은 스레드의 모든 DAO 호출이 하나의 커넥션(필요 시 하나의 트랜잭션)을 공유한다.
+ *
+ * 읽기 라우팅(선택):
+ * - DBConfig.replicaUrls()가 설정되면 getReadConnection()은 replica에서 대여한다.
+ * - 쓰기 직후(같은 요청/세션 pin 시간 내) 읽기는 primary로 보낸다(ReadRouting, ReadRoutingFilter).
  */
 public class DBConnection {
 
-    // Docker MySQL 접속 정보
-    private static final String URL =
-            "jdbc:mysql://localhost:3307/meeting_room"
-                    + "?useSSL=false"
-                    + "&allowPublicKeyRetrieval=true"
-                    + "&serverTimezone=Asia/Seoul"
-                    + "&characterEncoding=UTF-8";
-
-    private static final String USER = "root";
-    private static final String PASSWORD = "1234";
+    private static final Logger LOG = Logger.getLogger(DBConnection.class.getName());
 
     /**
      * JDBC Driver 강제 등록
@@ -38,15 +47,114 @@ public class DBConnection {
         }
     }
 
+    // ✅ 드라이버 등록 이후에 풀 생성(선언 순서 유지)
+    private static final ConnectionPool POOL = new ConnectionPool(
+            "primary",
+            DBConfig.url(),
+            DBConfig.user(),
+            DBConfig.password(),
+            DBConfig.poolSettings()
+    );
+
+    // ✅ 읽기 replica 풀(설정이 없으면 빈 목록 → 모든 조회가 primary)
+    private static final List<ConnectionPool> REPLICAS = createReplicaPools();
+    private static final boolean LEAST_BUSY = "LEAST_BUSY".equals(DBConfig.replicaStrategy());
+    private static final AtomicInteger ROUND_ROBIN = new AtomicInteger();
+
+    static {
+        POOL.setTrackWrites(!REPLICAS.isEmpty());
+    }
+
     /**
-     * DB 커넥션 반환
+     * DB 커넥션 반환(primary)
+     * - 쓰기, FOR UPDATE 충돌 검사, 트랜잭션은 모두 이 커넥션을 사용한다.
+     * - 작업 단위 안: 공유 커넥션(close 해도 반납되지 않음)
+     * - 작업 단위 밖: 풀에서 대여
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        Connection shared = UnitOfWork.sharedConnection(false);
+        if (shared != null) return shared;
+        return POOL.borrow();
+    }
+
+    /**
+     * 읽기 전용 조회용 커넥션
+     * - replica가 설정되어 있고 primary 고정(ReadRouting) 상태가 아니면 replica에서 대여
+     * - 작업 단위 안에서는 작업 단위의 커넥션을 그대로 사용(트랜잭션 중 읽기는 primary)
+     * - replica 대여 실패 시 primary로 대체
+     *
+     * 주의:
+     * - 반드시 SELECT(잠금 없는)에만 사용한다. 쓰기/FOR UPDATE는 getConnection().
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection shared = UnitOfWork.sharedConnection(true);
+        if (shared != null) return shared;
+        return borrowForRead();
+    }
+
+    /**
+     * 풀에서 직접 대여(UnitOfWork 내부 전용)
+     */
+    static Connection borrowFromPool() throws SQLException {
+        return POOL.borrow();
+    }
+
+    /**
+     * 읽기 라우팅 규칙에 따라 대여(UnitOfWork.readOnly 내부에서도 사용)
+     */
+    static Connection borrowForRead() throws SQLException {
+        if (REPLICAS.isEmpty() || ReadRouting.isPinnedToPrimary()) {
+            return POOL.borrow();
+        }
+
+        ConnectionPool replica = pickReplica();
+        try {
+            return replica.borrow();
+        } catch (SQLException e) {
+            LOG.log(Level.WARNING, "replica 커넥션 대여 실패 → primary로 대체 (pool=" + replica.getName() + ")", e);
+            return POOL.borrow();
+        }
+    }
+
+    private static ConnectionPool pickReplica() {
+        if (REPLICAS.size() == 1) return REPLICAS.get(0);
+
+        if (LEAST_BUSY) {
+            ConnectionPool best = REPLICAS.get(0);
+            int bestActive = best.activeCount();
+            for (int i = 1; i < REPLICAS.size(); i++) {
+                ConnectionPool p = REPLICAS.get(i);
+                int active = p.activeCount();
+                if (active < bestActive) {
+                    best = p;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+
+        int i = Math.floorMod(ROUND_ROBIN.getAndIncrement(), REPLICAS.size());
+        return REPLICAS.get(i);
+    }
+
+    private static List<ConnectionPool> createReplicaPools() {
+        List<String> urls = DBConfig.replicaUrls();
+        List<ConnectionPool> pools = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            pools.add(new ConnectionPool(
+                    "replica-" + (i + 1),
+                    urls.get(i),
+                    DBConfig.replicaUser(),
+                    DBConfig.replicaPassword(),
+                    DBConfig.poolSettings()
+            ));
+        }
+        return List.copyOf(pools);
     }
 
     /**
      * Connection 자원 해제
+     * - 풀 커넥션이면 반납된다.
      */
     public static void close(Connection conn) {
         if (conn != null) {
@@ -57,4 +165,46 @@ public class DBConnection {
             }
         }
     }
+
+    /**
+     * 커넥션 풀 상태(관리자 모니터링용)
+     */
+    public static PoolStats getPoolStats() {
+        return POOL.stats();
+    }
+
+    /**
+     * replica 풀 상태(관리자 모니터링용, 설정이 없으면 빈 목록)
+     */
+    public static List<PoolStats> getReplicaPoolStats() {
+        List<PoolStats> list = new ArrayList<>(REPLICAS.size());
+        for (ConnectionPool p : REPLICAS) {
+            list.add(p.stats());
+        }
+        return list;
+    }
+
+    /**
+     * 읽기 replica 사용 여부
+     */
+    public static boolean hasReplicas() {
+        return !REPLICAS.isEmpty();
+    }
+
+    /**
+     * PreparedStatement 캐시 통계(관리자 모니터링용)
+     */
+    public static StatementCache.CacheStats getStatementCacheStats() {
+        return StatementCache.stats();
+    }
+
+    /**
+     * 애플리케이션 종료 시 풀 정리(DBLifecycleListener에서 호출)
+     */
+    public static void shutdown() {
+        POOL.shutdown();
+        for (ConnectionPool p : REPLICAS) {
+            p.shutdown();
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.company.meeting.common.db;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+
+/**
+ * DBLifecycleListener
+ * - 웹앱 종료(undeploy/reload) 시 커넥션 풀과 MySQL 정리 스레드를 내린다.
+ * - 정리하지 않으면 Tomcat 재배포 시 물리 커넥션/스레드가 누적된다.
+ */
+@WebListener
+public class DBLifecycleListener implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        // 풀은 DBConnection 최초 사용 시 생성(lazy)
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        DBConnection.shutdown();
+        com.mysql.cj.jdbc.AbandonedConnectionCleanupThread.checkedShutdown();
+    }
+}
@@ -0,0 +1,650 @@
+package com.company.meeting.common.db;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * DelegatingPreparedStatement
+ * - DAO에 내주는 PreparedStatement 래퍼(리플렉션 프록시 대신 직접 위임)
+ * - close(): StatementCache에서 꺼낸 statement면 실제로 닫지 않고 캐시에 반환(중복 close 무시)
+ *            캐시 대상이 아니면(cache == null) 그대로 닫는다.
+ * - isClosed(): 반환 후에는 true(물리 statement는 다른 대여에서 재사용될 수 있음)
+ * - getConnection(): 물리 커넥션이 아닌 DAO 쪽 커넥션 프록시 반환
+ * - 닫힌 뒤 호출하면 SQLException(캐시에 돌아간 statement를 건드리지 않도록)
+ */
+class DelegatingPreparedStatement implements PreparedStatement {
+
+    private final PreparedStatement delegate;
+    private final StatementCache cache;
+    private final String key;
+    private final Connection logical;
+    private boolean closed;
+
+    /**
+     * @param delegate 물리 statement
+     * @param cache    반환할 캐시(null이면 close 시 실제로 닫음)
+     * @param key      캐시 키
+     * @param logical  getConnection() 반환값(null이면 물리 커넥션)
+     */
+    DelegatingPreparedStatement(PreparedStatement delegate, StatementCache cache, String key, Connection logical) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.key = key;
+        this.logical = logical;
+    }
+
+    /**
+     * 열려 있는 물리 statement(닫혔으면 예외)
+     */
+    protected final PreparedStatement open() throws SQLException {
+        if (closed) throw new SQLException("이미 닫힌 PreparedStatement 입니다.");
+        return delegate;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) return;
+        closed = true;
+        if (cache != null) {
+            cache.giveBack(key, delegate);
+        } else {
+            delegate.close();
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed || delegate.isClosed();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (logical != null) ? logical : open().getConnection();
+    }
+
+    @Override
+    public String toString() {
+        return (key != null) ? "CachedPreparedStatement[" + key + "]" : delegate.toString();
+    }
+
+    // =========================================================
+    // 그대로 위임
+    // =========================================================
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        open().addBatch(sql);
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        open().cancel();
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        open().clearBatch();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        open().clearWarnings();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        open().closeOnCompletion();
+    }
+
+    @Override
+    public String enquoteIdentifier(String identifier, boolean alwaysQuote) throws SQLException {
+        return open().enquoteIdentifier(identifier, alwaysQuote);
+    }
+
+    @Override
+    public String enquoteLiteral(String val) throws SQLException {
+        return open().enquoteLiteral(val);
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String val) throws SQLException {
+        return open().enquoteNCharLiteral(val);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        return open().execute(sql);
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        return open().execute(sql, columnIndexes);
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        return open().execute(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        return open().execute(sql, columnNames);
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        return open().executeBatch();
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        return open().executeLargeBatch();
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        return open().executeLargeUpdate(sql);
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        return open().executeLargeUpdate(sql, columnNames);
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        return open().executeLargeUpdate(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        return open().executeLargeUpdate(sql, columnIndexes);
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        return open().executeQuery(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        return open().executeUpdate(sql);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        return open().executeUpdate(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        return open().executeUpdate(sql, columnNames);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        return open().executeUpdate(sql, columnIndexes);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return open().getFetchDirection();
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return open().getFetchSize();
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return open().getGeneratedKeys();
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        return open().getLargeMaxRows();
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        return open().getLargeUpdateCount();
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return open().getMaxFieldSize();
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return open().getMaxRows();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return open().getMoreResults();
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        return open().getMoreResults(current);
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return open().getQueryTimeout();
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return open().getResultSet();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return open().getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return open().getResultSetHoldability();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return open().getResultSetType();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return open().getUpdateCount();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return open().getWarnings();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return open().isCloseOnCompletion();
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return open().isPoolable();
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String identifier) throws SQLException {
+        return open().isSimpleIdentifier(identifier);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return open().isWrapperFor(iface);
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        open().setCursorName(name);
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        open().setEscapeProcessing(enable);
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        open().setFetchDirection(direction);
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        open().setFetchSize(rows);
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        open().setLargeMaxRows(max);
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        open().setMaxFieldSize(max);
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        open().setMaxRows(max);
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        open().setPoolable(poolable);
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        open().setQueryTimeout(seconds);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return open().unwrap(iface);
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        open().addBatch();
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        open().clearParameters();
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        return open().execute();
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        return open().executeLargeUpdate();
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        return open().executeQuery();
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        return open().executeUpdate();
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        return open().getMetaData();
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        return open().getParameterMetaData();
+    }
+
+    @Override
+    public void setArray(int parameterIndex, Array x) throws SQLException {
+        open().setArray(parameterIndex, x);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+        open().setAsciiStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        open().setAsciiStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        open().setAsciiStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+        open().setBigDecimal(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+        open().setBinaryStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+        open().setBinaryStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        open().setBinaryStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, Blob x) throws SQLException {
+        open().setBlob(parameterIndex, x);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream x) throws SQLException {
+        open().setBlob(parameterIndex, x);
+    }
+
+    @Override
+    public void setBlob(int parameterIndex, InputStream x, long length) throws SQLException {
+        open().setBlob(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+        open().setBoolean(parameterIndex, x);
+    }
+
+    @Override
+    public void setByte(int parameterIndex, byte x) throws SQLException {
+        open().setByte(parameterIndex, x);
+    }
+
+    @Override
+    public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+        open().setBytes(parameterIndex, x);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x) throws SQLException {
+        open().setCharacterStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+        open().setCharacterStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setCharacterStream(int parameterIndex, Reader x, int length) throws SQLException {
+        open().setCharacterStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader x) throws SQLException {
+        open().setClob(parameterIndex, x);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Clob x) throws SQLException {
+        open().setClob(parameterIndex, x);
+    }
+
+    @Override
+    public void setClob(int parameterIndex, Reader x, long length) throws SQLException {
+        open().setClob(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x) throws SQLException {
+        open().setDate(parameterIndex, x);
+    }
+
+    @Override
+    public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+        open().setDate(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setDouble(int parameterIndex, double x) throws SQLException {
+        open().setDouble(parameterIndex, x);
+    }
+
+    @Override
+    public void setFloat(int parameterIndex, float x) throws SQLException {
+        open().setFloat(parameterIndex, x);
+    }
+
+    @Override
+    public void setInt(int parameterIndex, int x) throws SQLException {
+        open().setInt(parameterIndex, x);
+    }
+
+    @Override
+    public void setLong(int parameterIndex, long x) throws SQLException {
+        open().setLong(parameterIndex, x);
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader x) throws SQLException {
+        open().setNCharacterStream(parameterIndex, x);
+    }
+
+    @Override
+    public void setNCharacterStream(int parameterIndex, Reader x, long length) throws SQLException {
+        open().setNCharacterStream(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader x) throws SQLException {
+        open().setNClob(parameterIndex, x);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, NClob x) throws SQLException {
+        open().setNClob(parameterIndex, x);
+    }
+
+    @Override
+    public void setNClob(int parameterIndex, Reader x, long length) throws SQLException {
+        open().setNClob(parameterIndex, x, length);
+    }
+
+    @Override
+    public void setNString(int parameterIndex, String x) throws SQLException {
+        open().setNString(parameterIndex, x);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType) throws SQLException {
+        open().setNull(parameterIndex, sqlType);
+    }
+
+    @Override
+    public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+        open().setNull(parameterIndex, sqlType, typeName);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x) throws SQLException {
+        open().setObject(parameterIndex, x);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, SQLType targetSqlType) throws SQLException {
+        open().setObject(parameterIndex, x, targetSqlType);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+        open().setObject(parameterIndex, x, targetSqlType);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+        open().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+    }
+
+    @Override
+    public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) throws SQLException {
+        open().setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+    }
+
+    @Override
+    public void setRef(int parameterIndex, Ref x) throws SQLException {
+        open().setRef(parameterIndex, x);
+    }
+
+    @Override
+    public void setRowId(int parameterIndex, RowId x) throws SQLException {
+        open().setRowId(parameterIndex, x);
+    }
+
+    @Override
+    public void setSQLXML(int parameterIndex, SQLXML x) throws SQLException {
+        open().setSQLXML(parameterIndex, x);
+    }
+
+    @Override
+    public void setShort(int parameterIndex, short x) throws SQLException {
+        open().setShort(parameterIndex, x);
+    }
+
+    @Override
+    public void setString(int parameterIndex, String x) throws SQLException {
+        open().setString(parameterIndex, x);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x) throws SQLException {
+        open().setTime(parameterIndex, x);
+    }
+
+    @Override
+    public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+        open().setTime(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+        open().setTimestamp(parameterIndex, x);
+    }
+
+    @Override
+    public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+        open().setTimestamp(parameterIndex, x, cal);
+    }
+
+    @Override
+    public void setURL(int parameterIndex, URL x) throws SQLException {
+        open().setURL(parameterIndex, x);
+    }
+
+    @Deprecated
+    @Override
+    public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+        open().setUnicodeStream(parameterIndex, x, length);
+    }
+}
@@ -0,0 +1,304 @@
+package com.company.meeting.common.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * MeteredPreparedStatement
+ * - SqlMetrics 집계용 PreparedStatement 래퍼
+ * - 물리 statement를 직접 감싼다(캐시 반환/getConnection은 DelegatingPreparedStatement가 처리) → 위임 1단계
+ * - execute* 만 시간을 재고 행 수를 더한다. setX/getX 등 나머지는 그대로 위임(추가 비용 없음).
+ * - executeQuery/getResultSet 결과는 MeteredResultSet으로 감싸 next()로 읽은 행 수를 센다.
+ */
+final class MeteredPreparedStatement extends DelegatingPreparedStatement {
+
+    private final SqlMetrics.SqlStat stat;
+
+    MeteredPreparedStatement(PreparedStatement delegate, StatementCache cache, String key, Connection logical,
+                             SqlMetrics.SqlStat stat) {
+        super(delegate, cache, key, logical);
+        this.stat = stat;
+    }
+
+    // =========================================================
+    // 실행(시간 측정 + 행 수 집계)
+    // =========================================================
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            ResultSet rs = open().executeQuery();
+            ok = true;
+            return wrap(rs);
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            ResultSet rs = open().executeQuery(sql);
+            ok = true;
+            return wrap(rs);
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            int n = open().executeUpdate();
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            int n = open().executeUpdate(sql);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            int n = open().executeUpdate(sql, autoGeneratedKeys);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            int n = open().executeUpdate(sql, columnIndexes);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            int n = open().executeUpdate(sql, columnNames);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            long n = open().executeLargeUpdate();
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            long n = open().executeLargeUpdate(sql);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            long n = open().executeLargeUpdate(sql, autoGeneratedKeys);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            long n = open().executeLargeUpdate(sql, columnIndexes);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            long n = open().executeLargeUpdate(sql, columnNames);
+            ok = true;
+            stat.addRows(n);
+            return n;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            int[] counts = open().executeBatch();
+            ok = true;
+            long sum = 0;
+            for (int n : counts) {
+                if (n > 0) sum += n;
+            }
+            stat.addRows(sum);
+            return counts;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            long[] counts = open().executeLargeBatch();
+            ok = true;
+            long sum = 0;
+            for (long n : counts) {
+                if (n > 0) sum += n;
+            }
+            stat.addRows(sum);
+            return counts;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            boolean ret = open().execute();
+            ok = true;
+            return ret;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            boolean ret = open().execute(sql);
+            ok = true;
+            return ret;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            boolean ret = open().execute(sql, autoGeneratedKeys);
+            ok = true;
+            return ret;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            boolean ret = open().execute(sql, columnIndexes);
+            ok = true;
+            return ret;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        long start = System.nanoTime();
+        boolean ok = false;
+        try {
+            boolean ret = open().execute(sql, columnNames);
+            ok = true;
+            return ret;
+        } finally {
+            stat.record(System.nanoTime() - start, !ok);
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return wrap(open().getResultSet());
+    }
+
+    private ResultSet wrap(ResultSet rs) {
+        return (rs == null) ? null : new MeteredResultSet(rs, stat);
+    }
+}
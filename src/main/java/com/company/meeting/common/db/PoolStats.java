@@ -0,0 +1,66 @@
+package com.company.meeting.common.db;
+
+/**
+ * PoolStats
+ * - 커넥션 풀 현재 상태 스냅샷(관리자 모니터링 JSON 응답용)
+ */
+public class PoolStats {
+
+    private final String name;
+
+    private final int total;     // 생성된 물리 커넥션 수
+    private final int active;    // 대여 중
+    private final int idle;      // 유휴
+    private final int waiters;   // 커넥션 대기 중인 스레드 수
+
+    private final int minIdle;
+    private final int maxSize;
+
+    private final long borrowCount;
+    private final long timeoutCount;
+    private final long createdCount;
+    private final long destroyedCount;
+    private final long leakCount;
+
+    private final double avgWaitMillis;
+    private final double maxWaitMillis;
+
+    public PoolStats(String name, int total, int active, int idle, int waiters,
+                     int minIdle, int maxSize,
+                     long borrowCount, long timeoutCount, long createdCount, long destroyedCount, long leakCount,
+                     double avgWaitMillis, double maxWaitMillis) {
+        this.name = name;
+        this.total = total;
+        this.active = active;
+        this.idle = idle;
+        this.waiters = waiters;
+        this.minIdle = minIdle;
+        this.maxSize = maxSize;
+        this.borrowCount = borrowCount;
+        this.timeoutCount = timeoutCount;
+        this.createdCount = createdCount;
+        this.destroyedCount = destroyedCount;
+        this.leakCount = leakCount;
+        this.avgWaitMillis = avgWaitMillis;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public String getName() { return name; }
+
+    public int getTotal() { return total; }
+    public int getActive() { return active; }
+    public int getIdle() { return idle; }
+    public int getWaiters() { return waiters; }
+
+    public int getMinIdle() { return minIdle; }
+    public int getMaxSize() { return maxSize; }
+
+    public long getBorrowCount() { return borrowCount; }
+    public long getTimeoutCount() { return timeoutCount; }
+    public long getCreatedCount() { return createdCount; }
+    public long getDestroyedCount() { return destroyedCount; }
+    public long getLeakCount() { return leakCount; }
+
+    public double getAvgWaitMillis() { return avgWaitMillis; }
+    public double getMaxWaitMillis() { return maxWaitMillis; }
+}
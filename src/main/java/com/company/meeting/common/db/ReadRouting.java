@@ -0,0 +1,80 @@
+package com.company.meeting.common.db;
+
+/**
+ * ReadRouting
+ * - 읽기 전용 조회를 replica로 보낼지, primary로 보낼지 판단하는 스레드(요청) 단위 상태
+ *
+ * primary 고정(pin) 조건:
+ * - 이번 요청에서 이미 쓰기(INSERT/UPDATE/DELETE 등)를 수행한 경우
+ * - 세션이 최근 쓰기를 해서 ReadRoutingFilter가 pin 상태로 요청을 시작한 경우
+ *   (replica 복제 지연 때문에 "방금 만든 예약이 목록에 안 보이는" 현상 방지)
+ *
+ * 쓰기 감지:
+ * - primary 풀에서 SELECT 계열이 아닌 SQL을 prepare하면 markWrite()가 호출된다(ConnectionPool).
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<State> CURRENT = ThreadLocal.withInitial(State::new);
+
+    private ReadRouting() {}
+
+    /**
+     * 요청 시작(필터에서 호출)
+     *
+     * @param pinnedToPrimary 세션이 최근 쓰기를 해서 primary로 읽어야 하는지
+     */
+    public static void beginRequest(boolean pinnedToPrimary) {
+        State s = CURRENT.get();
+        s.pinned = pinnedToPrimary;
+        s.wrote = false;
+    }
+
+    /**
+     * 요청 종료(필터에서 호출)
+     *
+     * @return 이번 요청에서 쓰기를 했는지
+     */
+    public static boolean endRequest() {
+        boolean wrote = CURRENT.get().wrote;
+        CURRENT.remove();
+        return wrote;
+    }
+
+    /**
+     * 현재 스레드의 읽기를 primary로 보내야 하는지
+     */
+    public static boolean isPinnedToPrimary() {
+        State s = CURRENT.get();
+        return s.pinned || s.wrote;
+    }
+
+    static void markWrite() {
+        CURRENT.get().wrote = true;
+    }
+
+    /**
+     * SELECT 계열이 아닌 SQL인지(앞 키워드만 확인)
+     * - SELECT ... FOR UPDATE 는 잠금일 뿐 쓰기는 아니므로 false
+     */
+    static boolean isWriteSql(String sql) {
+        if (sql == null) return false;
+
+        int n = sql.length();
+        int i = 0;
+        while (i < n && (Character.isWhitespace(sql.charAt(i)) || sql.charAt(i) == '(')) i++;
+
+        return !(startsWithIgnoreCase(sql, i, "SELECT")
+                || startsWithIgnoreCase(sql, i, "WITH")
+                || startsWithIgnoreCase(sql, i, "SHOW")
+                || startsWithIgnoreCase(sql, i, "EXPLAIN"));
+    }
+
+    private static boolean startsWithIgnoreCase(String s, int offset, String prefix) {
+        return s.regionMatches(true, offset, prefix, 0, prefix.length());
+    }
+
+    private static final class State {
+        boolean pinned;
+        boolean wrote;
+    }
+}
@@ -0,0 +1,80 @@
+package com.company.meeting.common.db;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.IOException;
+
+/**
+ * 읽기 라우팅 필터(세션 primary 고정)
+ *
+ * 동작:
+ * - 요청 시작: 세션에 기록된 pin 만료 시각이 지나지 않았으면 이번 요청의 읽기를 primary로 보낸다.
+ * - 요청 종료: 이번 요청에서 쓰기를 했으면 pin 만료 시각을 (현재 + pinAfterWriteMs)로 갱신한다.
+ *
+ * 적용:
+ * - replica가 설정되지 않았거나 pinAfterWriteMs=0이면 아무 것도 하지 않는다.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class ReadRoutingFilter implements Filter {
+
+    static final String SESSION_PIN_UNTIL = "DB_PRIMARY_PIN_UNTIL";
+
+    private boolean enabled;
+    private long pinMs;
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        pinMs = DBConfig.pinAfterWriteMs();
+        enabled = pinMs > 0 && DBConnection.hasReplicas();
+    }
+
+    @Override
+    public void doFilter(
+            ServletRequest request,
+            ServletResponse response,
+            FilterChain chain
+    ) throws IOException, ServletException {
+
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpSession session = req.getSession(false);
+
+        boolean pinned = false;
+        if (session != null) {
+            Object until = session.getAttribute(SESSION_PIN_UNTIL);
+            pinned = (until instanceof Long) && (Long) until > System.currentTimeMillis();
+        }
+
+        ReadRouting.beginRequest(pinned);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            boolean wrote = ReadRouting.endRequest();
+            if (wrote) {
+                HttpSession s = req.getSession(false);
+                if (s != null) {
+                    try {
+                        s.setAttribute(SESSION_PIN_UNTIL, System.currentTimeMillis() + pinMs);
+                    } catch (IllegalStateException ignored) {
+                        // 요청 중 로그아웃 등으로 세션이 무효화된 경우
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {}
+}
@@ -0,0 +1,356 @@
+package com.company.meeting.common.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * SqlMetrics
+ * - DAO가 실행하는 SQL을 "정규화된 SQL" 단위로 집계한다.
+ *   (리터럴/숫자 → ?, 공백 정리, IN (?, ?, ...) → IN (?...))
+ * - 집계 항목: 호출 수, 에러 수, 행 수(조회 행 + 변경 행), 누적/최대 시간, 지연 히스토그램(p50/p95/p99)
+ *
+ * 비용:
+ * - 카운터는 LongAdder/AtomicLongArray만 사용(락 없음)
+ * - SQL 정규화는 SQL 문자열별 최초 1회만 수행(이후 원문 → 집계 객체 맵 조회)
+ * - 실행 1회당 추가 비용은 System.nanoTime() 2회 + 카운터 증가
+ * - statement/ResultSet은 직접 위임 래퍼(MeteredPreparedStatement/MeteredResultSet)로 감싼다.
+ *   MeteredPreparedStatement가 statement 캐시 반환까지 맡으므로 물리 statement 위에 래퍼는 1개뿐
+ *   setX/getX는 위임 1번뿐(리플렉션/인자 배열/박싱 없음), next()는 카운터 1번 추가
+ *
+ * 히스토그램:
+ * - 마이크로초 단위 로그 버킷(2의 거듭제곱 구간을 4등분) → 백분위 오차 최대 약 25%
+ * - 백분위 값은 해당 버킷의 상한으로 보고한다(보수적).
+ */
+public final class SqlMetrics {
+
+    // ✅ 동적 SQL(IN 목록/검색 조건 조합)로 맵이 무한히 커지지 않도록 상한
+    private static final int MAX_RAW_KEYS = 4096;
+    private static final int MAX_STATS = 1024;
+    private static final String OVERFLOW_KEY = "(기타: 집계 상한 초과)";
+
+    private static final boolean ENABLED = DBConfig.sqlStatsEnabled();
+
+    private static final ConcurrentHashMap<String, SqlStat> BY_RAW = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, SqlStat> BY_NORMALIZED = new ConcurrentHashMap<>();
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private SqlMetrics() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * ConnectionPool에서 캐시 대상이 아닌 prepareStatement 결과를 감쌀 때 호출
+     * - 비활성화 상태면 그대로 반환
+     */
+    static PreparedStatement instrument(PreparedStatement ps, String sql) {
+        if (!ENABLED) return ps;
+        return new MeteredPreparedStatement(ps, null, null, null, statFor(sql));
+    }
+
+    /**
+     * StatementCache에서 꺼낸 물리 statement를 DAO에 내줄 래퍼 1개로 감싼다.
+     * - 활성화: MeteredPreparedStatement(집계 + 캐시 반환)
+     * - 비활성화: DelegatingPreparedStatement(캐시 반환만)
+     */
+    static PreparedStatement instrument(PreparedStatement ps, String sql,
+                                        StatementCache cache, String key, Connection logical) {
+        if (!ENABLED) return new DelegatingPreparedStatement(ps, cache, key, logical);
+        return new MeteredPreparedStatement(ps, cache, key, logical, statFor(sql));
+    }
+
+    /**
+     * 현재 집계 스냅샷
+     *
+     * @param sort  total | avg | p99 | calls | errors | rows (기본 total)
+     * @param limit 최대 개수(0 이하면 전체)
+     */
+    public static List<SqlStatSnapshot> snapshot(String sort, int limit) {
+        List<SqlStatSnapshot> list = new ArrayList<>(BY_NORMALIZED.size());
+        for (SqlStat s : BY_NORMALIZED.values()) {
+            if (s.calls.sum() == 0) continue;
+            list.add(s.snapshot());
+        }
+
+        String key = (sort == null) ? "total" : sort.trim().toLowerCase();
+        switch (key) {
+            case "avg":
+                list.sort((a, b) -> Double.compare(b.getAvgMillis(), a.getAvgMillis()));
+                break;
+            case "p99":
+                list.sort((a, b) -> Double.compare(b.getP99Millis(), a.getP99Millis()));
+                break;
+            case "calls":
+                list.sort((a, b) -> Long.compare(b.getCalls(), a.getCalls()));
+                break;
+            case "errors":
+                list.sort((a, b) -> Long.compare(b.getErrors(), a.getErrors()));
+                break;
+            case "rows":
+                list.sort((a, b) -> Long.compare(b.getRows(), a.getRows()));
+                break;
+            default:
+                list.sort((a, b) -> Double.compare(b.getTotalMillis(), a.getTotalMillis()));
+                break;
+        }
+
+        if (limit > 0 && list.size() > limit) {
+            return new ArrayList<>(list.subList(0, limit));
+        }
+        return list;
+    }
+
+    /**
+     * 집계 초기화(관리자 요청)
+     * - SQL 키는 유지하고 카운터만 0으로 되돌린다.
+     */
+    public static void reset() {
+        for (SqlStat s : BY_NORMALIZED.values()) {
+            s.reset();
+        }
+    }
+
+    // =========================================================
+    // SQL 정규화
+    // =========================================================
+
+    private static SqlStat statFor(String sql) {
+        SqlStat stat = BY_RAW.get(sql);
+        if (stat != null) return stat;
+
+        String normalized = normalize(sql);
+        stat = BY_NORMALIZED.get(normalized);
+        if (stat == null) {
+            String key = (BY_NORMALIZED.size() >= MAX_STATS) ? OVERFLOW_KEY : normalized;
+            stat = BY_NORMALIZED.computeIfAbsent(key, SqlStat::new);
+        }
+
+        if (BY_RAW.size() < MAX_RAW_KEYS) {
+            BY_RAW.putIfAbsent(sql, stat);
+        }
+        return stat;
+    }
+
+    /**
+     * 리터럴/숫자를 ?로 바꾸고 공백을 한 칸으로 정리
+     */
+    static String normalize(String sql) {
+        if (sql == null) return "";
+
+        StringBuilder sb = new StringBuilder(sql.length());
+        int n = sql.length();
+        boolean space = false;
+
+        for (int i = 0; i < n; i++) {
+            char c = sql.charAt(i);
+
+            // 문자열 리터럴
+            if (c == '\'' || c == '"') {
+                int j = i + 1;
+                while (j < n) {
+                    char d = sql.charAt(j);
+                    if (d == '\\') {
+                        j += 2;
+                        continue;
+                    }
+                    if (d == c) {
+                        if (j + 1 < n && sql.charAt(j + 1) == c) {
+                            j += 2; // '' 이스케이프
+                            continue;
+                        }
+                        break;
+                    }
+                    j++;
+                }
+                appendToken(sb, "?", space);
+                space = false;
+                i = Math.min(j, n - 1);
+                continue;
+            }
+
+            // 숫자 리터럴(식별자 일부가 아닌 경우만)
+            if (Character.isDigit(c) && (sb.length() == 0 || !isIdentifierChar(sb.charAt(sb.length() - 1)) || space)) {
+                int j = i;
+                while (j < n && (Character.isDigit(sql.charAt(j)) || sql.charAt(j) == '.')) j++;
+                appendToken(sb, "?", space);
+                space = false;
+                i = j - 1;
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                space = sb.length() > 0;
+                continue;
+            }
+
+            if (space) {
+                sb.append(' ');
+                space = false;
+            }
+            sb.append(c);
+        }
+
+        return IN_LIST.matcher(sb).replaceAll("(?...)");
+    }
+
+    private static void appendToken(StringBuilder sb, String token, boolean space) {
+        if (space) sb.append(' ');
+        sb.append(token);
+    }
+
+    private static boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    // =========================================================
+    // 집계 객체
+    // =========================================================
+
+    /**
+     * 정규화 SQL 1개당 집계
+     */
+    static final class SqlStat {
+        // 4 sub-bucket × 2^0..2^40 µs
+        private static final int BUCKETS = 168;
+
+        final String sql;
+        final LongAdder calls = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder rows = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+        final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        SqlStat(String sql) {
+            this.sql = sql;
+        }
+
+        void record(long nanos, boolean error) {
+            calls.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(bucketOf(nanos / 1_000L));
+            if (error) errors.increment();
+        }
+
+        void addRows(long n) {
+            if (n > 0) rows.add(n);
+        }
+
+        void reset() {
+            calls.reset();
+            errors.reset();
+            rows.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram.set(i, 0L);
+            }
+        }
+
+        SqlStatSnapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            long sum = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+                sum += counts[i];
+            }
+
+            long c = calls.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+
+            return new SqlStatSnapshot(
+                    sql,
+                    c,
+                    errors.sum(),
+                    rows.sum(),
+                    total,
+                    (c == 0) ? 0.0 : total / c,
+                    maxNanos.get() / 1_000_000.0,
+                    percentile(counts, sum, 0.50),
+                    percentile(counts, sum, 0.95),
+                    percentile(counts, sum, 0.99)
+            );
+        }
+
+        static int bucketOf(long micros) {
+            if (micros < 4) return (int) Math.max(micros, 0);
+            int exp = 63 - Long.numberOfLeadingZeros(micros); // >= 2
+            int sub = (int) ((micros >>> (exp - 2)) & 3);
+            int idx = (exp - 1) * 4 + sub;
+            return Math.min(idx, BUCKETS - 1);
+        }
+
+        static long bucketUpperMicros(int idx) {
+            if (idx < 4) return idx;
+            int exp = idx / 4 + 1;
+            int sub = idx % 4;
+            long width = 1L << (exp - 2);
+            return ((4L + sub) << (exp - 2)) + width - 1;
+        }
+
+        static double percentile(long[] counts, long sum, double q) {
+            if (sum == 0) return 0.0;
+            long rank = (long) Math.ceil(sum * q);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketUpperMicros(i) / 1_000.0;
+                }
+            }
+            return bucketUpperMicros(counts.length - 1) / 1_000.0;
+        }
+    }
+
+    /**
+     * 관리자 응답용 스냅샷
+     */
+    public static final class SqlStatSnapshot {
+        private final String sql;
+        private final long calls;
+        private final long errors;
+        private final long rows;
+        private final double totalMillis;
+        private final double avgMillis;
+        private final double maxMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+
+        SqlStatSnapshot(String sql, long calls, long errors, long rows,
+                        double totalMillis, double avgMillis, double maxMillis,
+                        double p50Millis, double p95Millis, double p99Millis) {
+            this.sql = sql;
+            this.calls = calls;
+            this.errors = errors;
+            this.rows = rows;
+            this.totalMillis = totalMillis;
+            this.avgMillis = avgMillis;
+            this.maxMillis = maxMillis;
+            this.p50Millis = p50Millis;
+            this.p95Millis = p95Millis;
+            this.p99Millis = p99Millis;
+        }
+
+        public String getSql() { return sql; }
+        public long getCalls() { return calls; }
+        public long getErrors() { return errors; }
+        public long getRows() { return rows; }
+        public double getTotalMillis() { return totalMillis; }
+        public double getAvgMillis() { return avgMillis; }
+        public double getMaxMillis() { return maxMillis; }
+        public double getP50Millis() { return p50Millis; }
+        public double getP95Millis() { return p95Millis; }
+        public double getP99Millis() { return p99Millis; }
+    }
+}
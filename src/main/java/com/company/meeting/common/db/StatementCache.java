@@ -0,0 +1,149 @@
+package com.company.meeting.common.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StatementCache
+ * - 물리 커넥션 1개당 1개씩 붙는 PreparedStatement LRU 캐시
+ * - 키: SQL 문자열(+ generated keys 여부)
+ *
+ * 동작:
+ * - DAO가 prepareStatement(sql) 호출 → 캐시에 있으면 꺼내 재사용(hit), 없으면 새로 prepare(miss)
+ * - DAO가 ps.close() 호출 → 실제로 닫지 않고 파라미터만 비운 뒤 캐시에 되돌린다.
+ * - 용량 초과 시 가장 오래 안 쓴 statement를 실제로 close(evict)
+ *
+ * 스레드 안전성:
+ * - 물리 커넥션은 한 번에 한 스레드만 빌려 쓰므로(풀 보장) 내부 동기화는 하지 않는다.
+ *
+ * MySQL:
+ * - useServerPrepStmts=true 와 함께 쓰면 서버 측 prepare 결과(파싱/실행계획)가 재사용된다.
+ */
+final class StatementCache {
+
+    // ✅ 전체 풀 공용 카운터(관리자 모니터링용)
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private final int maxSize;
+    private final LinkedHashMap<String, PreparedStatement> lru;
+
+    StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.lru = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() <= StatementCache.this.maxSize) return false;
+                closeQuietly(eldest.getValue());
+                EVICTIONS.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 캐시를 거쳐 PreparedStatement 준비
+     *
+     * @param physical          물리 커넥션
+     * @param logical           DAO가 들고 있는 커넥션 프록시(ps.getConnection() 반환용)
+     * @param sql               SQL
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS 등(null이면 미지정)
+     */
+    PreparedStatement prepare(Connection physical, Connection logical, String sql, Integer autoGeneratedKeys)
+            throws SQLException {
+
+        String key = (autoGeneratedKeys == null) ? sql : (autoGeneratedKeys + "#" + sql);
+
+        // ✅ 사용 중에는 캐시에서 빼둔다(같은 SQL을 동시에 2개 열어도 안전)
+        PreparedStatement ps = lru.remove(key);
+        if (ps != null && !ps.isClosed()) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+            ps = (autoGeneratedKeys == null)
+                    ? physical.prepareStatement(sql)
+                    : physical.prepareStatement(sql, autoGeneratedKeys);
+        }
+
+        return SqlMetrics.instrument(ps, sql, this, key, logical);
+    }
+
+    /**
+     * 사용이 끝난 statement를 캐시에 되돌린다(DelegatingPreparedStatement.close).
+     */
+    void giveBack(String key, PreparedStatement ps) {
+        if (maxSize <= 0) {
+            closeQuietly(ps);
+            return;
+        }
+
+        try {
+            ps.clearParameters();
+            ps.clearBatch();
+            ps.clearWarnings();
+        } catch (SQLException e) {
+            closeQuietly(ps);
+            return;
+        }
+
+        PreparedStatement prev = lru.put(key, ps);
+        if (prev != null && prev != ps) {
+            // 같은 SQL을 동시에 2개 열었던 경우: 하나만 남긴다.
+            closeQuietly(prev);
+        }
+    }
+
+    /**
+     * 물리 커넥션 폐기 시 캐시된 statement 정리
+     */
+    void closeAll() {
+        for (PreparedStatement ps : lru.values()) {
+            closeQuietly(ps);
+        }
+        lru.clear();
+    }
+
+    static CacheStats stats() {
+        long hits = HITS.sum();
+        long misses = MISSES.sum();
+        long total = hits + misses;
+        double ratio = (total == 0) ? 0.0 : hits / (double) total;
+        return new CacheStats(hits, misses, EVICTIONS.sum(), ratio);
+    }
+
+    private static void closeQuietly(Statement st) {
+        try {
+            st.close();
+        } catch (SQLException ignored) {
+            // 이미 닫힌 커넥션일 수 있음
+        }
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public static final class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final double hitRatio;
+
+        CacheStats(long hits, long misses, long evictions, double hitRatio) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.hitRatio = hitRatio;
+        }
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public double getHitRatio() { return hitRatio; }
+    }
+}
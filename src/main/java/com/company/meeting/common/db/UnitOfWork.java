@@ -0,0 +1,374 @@
+package com.company.meeting.common.db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * UnitOfWork
+ * - 서비스 경계에서 "한 번의 작업 단위" 동안 DAO 호출들이 같은 커넥션을 공유하도록 한다.
+ * - 스레드(=요청 처리 스레드)에 묶이므로 DAO 코드는 그대로 DBConnection.getConnection()만 호출하면 된다.
+ *
+ * 사용 예)
+ *  // 커넥션만 공유(각 DAO는 autocommit)
+ *  return UnitOfWork.call(() -> { dao.a(); return dao.b(); });
+ *
+ *  // 조회만 하는 작업(읽기 replica로 라우팅 가능)
+ *  return UnitOfWork.readOnly(() -> { dao.countX(); return dao.findX(); });
+ *
+ *  // 하나의 트랜잭션으로 묶기(중간에 예외 → 전체 롤백)
+ *  return UnitOfWork.inTransaction(() -> { dao.findPolicy(); ...; return dao.insert(); });
+ *
+ * 규칙:
+ * - 커넥션은 첫 DAO 호출 시점에 풀에서 빌리고(lazy), 작업 단위 종료 시 반납한다.
+ * - 작업 단위 안에서 DAO가 close()해도 실제 반납되지 않는다.
+ * - 트랜잭션 모드에서는 DAO 내부의 setAutoCommit/commit이 무시되고(바깥 트랜잭션에 참여),
+ *   DAO 내부 rollback은 "롤백 전용" 표시로 바뀐다. 최종 commit/rollback은 작업 단위가 수행한다.
+ * - 중첩 호출은 바깥 작업 단위에 합류한다.
+ */
+public final class UnitOfWork {
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private UnitOfWork() {}
+
+    /**
+     * 체크 예외를 그대로 던질 수 있는 작업 람다
+     */
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * 커넥션만 공유하는 작업 단위(트랜잭션 없음)
+     */
+    public static <T, E extends Exception> T call(Work<T, E> work) throws E, SQLException {
+        return execute(false, false, work);
+    }
+
+    /**
+     * 조회 전용 작업 단위
+     * - DBConnection.getReadConnection()을 쓰는 DAO 호출이 하나의 읽기 커넥션(replica 가능)을 공유한다.
+     * - 이 안에서 getConnection()(쓰기용)을 부르면 작업 단위와 무관하게 primary에서 따로 빌린다.
+     * - 이미 열린 작업 단위 안에서 호출되면 바깥 작업 단위에 합류한다.
+     */
+    public static <T, E extends Exception> T readOnly(Work<T, E> work) throws E, SQLException {
+        return execute(false, true, work);
+    }
+
+    /**
+     * 하나의 트랜잭션으로 묶는 작업 단위
+     * - 정상 종료: commit
+     * - 예외 발생 또는 롤백 전용 표시: rollback
+     */
+    public static <T, E extends Exception> T inTransaction(Work<T, E> work) throws E, SQLException {
+        return execute(true, false, work);
+    }
+
+    /**
+     * 현재 스레드에 작업 단위가 열려 있는지
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * 현재 스레드가 트랜잭션 작업 단위 안에 있는지
+     */
+    public static boolean isInTransaction() {
+        Context ctx = CURRENT.get();
+        return ctx != null && ctx.transactional;
+    }
+
+    /**
+     * 커밋 이후 실행할 작업 등록(캐시 무효화 등)
+     * - 트랜잭션 작업 단위 안: 바깥 트랜잭션이 실제로 commit된 뒤 실행(롤백되면 버림)
+     * - 그 외: 즉시 실행(DAO가 이미 자체 commit/autocommit으로 반영한 상태)
+     */
+    public static void afterCommit(Runnable action) {
+        Context ctx = CURRENT.get();
+        if (ctx == null || !ctx.transactional) {
+            action.run();
+            return;
+        }
+        if (ctx.afterCommit == null) ctx.afterCommit = new ArrayList<>(2);
+        ctx.afterCommit.add(action);
+    }
+
+    /**
+     * 트랜잭션 종료 후 실행할 작업 등록(commit/rollback 모두, 커넥션 반납 전)
+     * - 커넥션 세션에 묶인 자원 정리용(예: MySQL named lock RELEASE_LOCK)
+     * - 트랜잭션 작업 단위 안: 바깥 트랜잭션이 끝난 직후 같은 커넥션으로 실행
+     * - 그 외: 즉시 실행(DAO가 이미 자체 commit/rollback을 마친 상태)
+     */
+    public static void afterCompletion(Runnable action) {
+        Context ctx = CURRENT.get();
+        if (ctx == null || !ctx.transactional) {
+            action.run();
+            return;
+        }
+        if (ctx.afterCompletion == null) ctx.afterCompletion = new ArrayList<>(2);
+        ctx.afterCompletion.add(action);
+    }
+
+    /**
+     * DBConnection.getConnection()/getReadConnection()에서 호출
+     * - 작업 단위가 없으면 null(기존처럼 풀에서 바로 대여)
+     * - 조회 전용 작업 단위에서 쓰기용 커넥션을 요청하면 null(primary에서 따로 대여)
+     */
+    static Connection sharedConnection(boolean forRead) throws SQLException {
+        Context ctx = CURRENT.get();
+        if (ctx == null) return null;
+        if (ctx.readOnly && !forRead) return null;
+        return ctx.handle();
+    }
+
+    // =========================================================
+    // 내부 구현
+    // =========================================================
+
+    private static <T, E extends Exception> T execute(boolean tx, boolean readOnly, Work<T, E> work)
+            throws E, SQLException {
+        Context ctx = CURRENT.get();
+        final boolean owner = (ctx == null);
+        if (owner) {
+            ctx = new Context(readOnly);
+            CURRENT.set(ctx);
+        } else if (tx && ctx.readOnly) {
+            throw new IllegalStateException("조회 전용 작업 단위 안에서는 트랜잭션을 시작할 수 없습니다.");
+        }
+
+        // ✅ 바깥이 트랜잭션이 아니고 안쪽이 트랜잭션을 원하면 이 범위에서만 트랜잭션 시작
+        final boolean beganTx = tx && !ctx.transactional;
+        if (beganTx) {
+            ctx.beginTransaction();
+        }
+
+        T result;
+        try {
+            result = work.run();
+        } catch (Throwable t) {
+            try {
+                if (beganTx) {
+                    ctx.rollbackQuietly(t);
+                    ctx.runAfterCompletion();
+                }
+            } finally {
+                if (owner) ctx.close();
+            }
+            throw t;
+        }
+
+        List<Runnable> actions = null;
+        try {
+            if (beganTx) {
+                actions = ctx.takeAfterCommit(); // commit 실패 시 함께 버려진다.
+                try {
+                    ctx.commit();
+                } finally {
+                    ctx.runAfterCompletion();
+                }
+            }
+        } finally {
+            if (owner) ctx.close();
+        }
+
+        if (actions != null) {
+            for (Runnable a : actions) {
+                a.run();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 스레드별 작업 단위 상태
+     */
+    private static final class Context {
+        private final boolean readOnly;  // 조회 전용(읽기 라우팅 대상)
+        private Connection connection;   // 풀에서 빌린 커넥션(lazy)
+        private Connection handle;       // DAO에 내주는 close 무시 프록시
+        private boolean transactional;
+        private boolean rollbackOnly;
+        private List<Runnable> afterCommit; // 커밋 후 실행(afterCommit)
+        private List<Runnable> afterCompletion; // 트랜잭션 종료 후 실행(afterCompletion)
+
+        Context(boolean readOnly) {
+            this.readOnly = readOnly;
+        }
+
+        Connection handle() throws SQLException {
+            if (connection == null) {
+                connection = readOnly ? DBConnection.borrowForRead() : DBConnection.borrowFromPool();
+                if (transactional) {
+                    connection.setAutoCommit(false);
+                }
+                handle = (Connection) Proxy.newProxyInstance(
+                        UnitOfWork.class.getClassLoader(),
+                        new Class<?>[]{Connection.class},
+                        new SharedHandler(this)
+                );
+            }
+            return handle;
+        }
+
+        void beginTransaction() throws SQLException {
+            transactional = true;
+            rollbackOnly = false;
+            if (connection != null) {
+                connection.setAutoCommit(false);
+            }
+        }
+
+        void commit() throws SQLException {
+            boolean doRollback = rollbackOnly;
+            transactional = false;
+            rollbackOnly = false;
+
+            if (connection == null) {
+                if (doRollback) throw new SQLException("트랜잭션이 롤백 전용으로 표시되어 커밋하지 않았습니다.");
+                return;
+            }
+
+            try {
+                if (doRollback) {
+                    connection.rollback();
+                    throw new SQLException("트랜잭션이 롤백 전용으로 표시되어 커밋하지 않았습니다.");
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                if (!doRollback) {
+                    try {
+                        connection.rollback();
+                    } catch (SQLException re) {
+                        e.addSuppressed(re);
+                    }
+                }
+                throw e;
+            } finally {
+                restoreAutoCommit();
+            }
+        }
+
+        List<Runnable> takeAfterCommit() {
+            List<Runnable> list = afterCommit;
+            afterCommit = null;
+            return list;
+        }
+
+        /**
+         * 트랜잭션 종료 후 작업 실행(하나가 실패해도 나머지는 실행)
+         */
+        void runAfterCompletion() {
+            List<Runnable> list = afterCompletion;
+            afterCompletion = null;
+            if (list == null) return;
+
+            for (Runnable a : list) {
+                try {
+                    a.run();
+                } catch (RuntimeException ignored) {
+                    // 정리 작업 실패가 본 작업 결과를 바꾸지 않게
+                }
+            }
+        }
+
+        void rollbackQuietly(Throwable cause) {
+            transactional = false;
+            rollbackOnly = false;
+            afterCommit = null;
+            if (connection == null) return;
+
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                cause.addSuppressed(e);
+            } finally {
+                restoreAutoCommit();
+            }
+        }
+
+        private void restoreAutoCommit() {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+                // 반납 시 풀에서 한 번 더 원복한다.
+            }
+        }
+
+        void close() {
+            CURRENT.remove();
+            if (connection != null) {
+                DBConnection.close(connection);
+                connection = null;
+                handle = null;
+            }
+        }
+    }
+
+    /**
+     * DAO에 내주는 공유 커넥션 핸들
+     * - close(): 무시(작업 단위가 반납)
+     * - 트랜잭션 모드: setAutoCommit/commit 무시, rollback → 롤백 전용 표시
+     */
+    private static final class SharedHandler implements InvocationHandler {
+
+        private final Context ctx;
+
+        SharedHandler(Context ctx) {
+            this.ctx = ctx;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    return null;
+                case "isClosed":
+                    return ctx.connection == null || ctx.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "UnitOfWorkConnection" + (ctx.transactional ? "(tx)" : ctx.readOnly ? "(read)" : "");
+                default:
+                    break;
+            }
+
+            if (ctx.connection == null) {
+                throw new SQLException("작업 단위가 이미 종료된 커넥션입니다.");
+            }
+
+            if (ctx.transactional) {
+                switch (method.getName()) {
+                    case "setAutoCommit":
+                    case "commit":
+                        return null;
+                    case "getAutoCommit":
+                        return false;
+                    case "rollback":
+                        if (args == null || args.length == 0) {
+                            ctx.rollbackOnly = true;
+                            return null;
+                        }
+                        break; // savepoint 롤백은 그대로 위임
+                    default:
+                        break;
+                }
+            }
+
+            try {
+                return method.invoke(ctx.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
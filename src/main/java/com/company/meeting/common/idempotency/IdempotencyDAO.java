@@ -0,0 +1,132 @@
+package com.company.meeting.common.idempotency;
+
+import com.company.meeting.common.db.DBConnection;
+
+import java.sql.*;
+
+/**
+ * IdempotencyDAO
+ * - idempotency_key 테이블(여러 서버가 같은 키를 보도록 할 때만 사용)
+ * - 선점은 PK(scope_key) INSERT 성공 여부로 판단한다(duplicate key = 이미 누가 선점).
+ *
+ * 정리:
+ * - 만료(expires_at 경과) 행과 오래된 "처리 중" 행(서버 중단 등)은 같은 키 선점 시 지우고 다시 선점
+ * - 그 외 만료 행은 purgeExpired()가 조금씩 삭제
+ */
+class IdempotencyDAO {
+
+    private static final int ER_DUP_ENTRY = 1062;
+
+    /**
+     * 선점 시도
+     * @return null이면 선점 성공, 아니면 기존 행
+     */
+    StoredResponse claim(String scopeKey, String fingerprint, long ttlMs, long staleMs) throws SQLException {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (tryInsert(scopeKey, fingerprint, ttlMs)) return null;
+
+            StoredResponse existing = findLive(scopeKey, staleMs);
+            if (existing != null) return existing;
+
+            // 만료/중단된 행 → 지우고 한 번 더
+            deleteDead(scopeKey, staleMs);
+        }
+        return StoredResponse.pending(fingerprint); // 경쟁 중: 처리 중으로 응답
+    }
+
+    void complete(String scopeKey, int status, String contentType, String body) throws SQLException {
+        String sql = ""
+                + "UPDATE idempotency_key "
+                + "SET status_code = ?, content_type = ?, response_body = ? "
+                + "WHERE scope_key = ?";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, status);
+            ps.setString(2, contentType);
+            ps.setString(3, body);
+            ps.setString(4, scopeKey);
+            ps.executeUpdate();
+        }
+    }
+
+    void delete(String scopeKey) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement("DELETE FROM idempotency_key WHERE scope_key = ?")) {
+            ps.setString(1, scopeKey);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 만료 행 일부 삭제(선점할 때 가끔 호출)
+     */
+    int purgeExpired(int limit) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "DELETE FROM idempotency_key WHERE expires_at < NOW() LIMIT ?")) {
+            ps.setInt(1, limit);
+            return ps.executeUpdate();
+        }
+    }
+
+    private boolean tryInsert(String scopeKey, String fingerprint, long ttlMs) throws SQLException {
+        String sql = ""
+                + "INSERT INTO idempotency_key (scope_key, fingerprint, expires_at) "
+                + "VALUES (?, ?, NOW() + INTERVAL ? SECOND)";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, scopeKey);
+            ps.setString(2, fingerprint);
+            ps.setLong(3, Math.max(1L, ttlMs / 1000L));
+            ps.executeUpdate();
+            return true;
+
+        } catch (SQLIntegrityConstraintViolationException e) {
+            if (e.getErrorCode() == ER_DUP_ENTRY) return false;
+            throw e;
+        }
+    }
+
+    /**
+     * 살아 있는 행(만료 전 + 처리 중이면 staleMs 이내)
+     */
+    private StoredResponse findLive(String scopeKey, long staleMs) throws SQLException {
+        String sql = ""
+                + "SELECT fingerprint, status_code, content_type, response_body "
+                + "FROM idempotency_key "
+                + "WHERE scope_key = ? AND expires_at >= NOW() "
+                + "  AND (status_code IS NOT NULL OR created_at >= NOW() - INTERVAL ? SECOND)";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, scopeKey);
+            ps.setLong(2, Math.max(1L, staleMs / 1000L));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return null;
+                return new StoredResponse(
+                        rs.getString("fingerprint"),
+                        rs.getInt("status_code"), // NULL → 0(처리 중)
+                        rs.getString("content_type"),
+                        rs.getString("response_body")
+                );
+            }
+        }
+    }
+
+    private void deleteDead(String scopeKey, long staleMs) throws SQLException {
+        String sql = ""
+                + "DELETE FROM idempotency_key "
+                + "WHERE scope_key = ? "
+                + "  AND (expires_at < NOW() OR (status_code IS NULL AND created_at < NOW() - INTERVAL ? SECOND))";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, scopeKey);
+            ps.setLong(2, Math.max(1L, staleMs / 1000L));
+            ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.company.meeting.common.idempotency;
+
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+import com.company.meeting.user.dto.UserDTO;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * IdempotencyFilter
+ * - 쓰기 API에 Idempotency-Key(헤더) 또는 idempotencyKey(파라미터)가 오면
+ *   같은 (로그인 사용자, 경로, 키)의 두 번째 요청부터는 서블릿을 다시 실행하지 않고 최초 응답을 그대로 돌려준다.
+ * - 더블클릭/클라이언트 재시도로 예약 충돌 체크 트랜잭션이나 채팅 저장이 중복 실행되는 것을 막는다.
+ *
+ * 동작:
+ * - 키 없음 / POST 아님 / 비로그인: 그대로 통과(기존 동작)
+ * - 처음 보는 키: 실행 → 응답 저장 후 전달
+ *   - 서블릿이 쓰기 성공을 알린(markSucceeded) 2xx 응답만 저장한다.
+ *   - 그 밖의 응답(ApiResponse.fail: 대기열 거절/잠금 시간 초과/SQLException 등, 4xx/5xx, 예외)은
+ *     저장하지 않고 선점 해제(같은 키로 재시도 가능)
+ * - 처리 중인 키: 409
+ * - 완료된 키 + 같은 요청: 저장된 응답(상태/본문) 재전송, 헤더 Idempotent-Replayed: true
+ * - 완료된 키 + 다른 파라미터: 422(키 재사용 오류)
+ *
+ * 저장소: IdempotencyStore(메모리 LRU+TTL, 선택적으로 DB)
+ */
+@WebFilter(urlPatterns = {
+        "/user/reservations/create",
+        "/admin/rooms/detail/create",
+        "/admin/rooms/detail/create-series",
+        "/user/chat/send"
+})
+public class IdempotencyFilter implements Filter {
+
+    static final String HEADER = "Idempotency-Key";
+    static final String PARAM = "idempotencyKey";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_STORED_BODY = 64 * 1024;
+
+    private static final String SUCCEEDED_ATTR = IdempotencyFilter.class.getName() + ".SUCCEEDED";
+
+    /**
+     * 쓰기 성공 표시(서블릿이 ApiResponse.ok 응답 직전에 호출) → 이 응답만 저장/재전송 대상
+     * - 필터가 걸려 있지 않은 요청에서 불러도 아무 영향 없음
+     */
+    public static void markSucceeded(HttpServletRequest req) {
+        req.setAttribute(SUCCEEDED_ATTR, Boolean.TRUE);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpServletResponse resp = (HttpServletResponse) response;
+
+        String key = keyOf(req);
+        int principal = principalOf(req);
+        if (key == null || principal <= 0 || !"POST".equalsIgnoreCase(req.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (key.length() > MAX_KEY_LENGTH) {
+            resp.setStatus(400);
+            JsonUtil.writeJson(resp, ApiResponse.fail("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다."));
+            return;
+        }
+
+        String scopeKey = principal + ":" + req.getServletPath() + ":" + key;
+        String fingerprint = fingerprint(req);
+
+        StoredResponse existing = IdempotencyStore.claim(scopeKey, fingerprint);
+        if (existing != null) {
+            replay(resp, existing, fingerprint);
+            return;
+        }
+
+        CapturingResponse captured = new CapturingResponse(resp);
+        boolean completed = false;
+        try {
+            chain.doFilter(request, captured);
+            captured.flushCapture();
+
+            int status = captured.getStatus();
+            byte[] body = captured.toByteArray();
+            boolean succeeded = Boolean.TRUE.equals(req.getAttribute(SUCCEEDED_ATTR));
+            if (succeeded && status >= 200 && status < 300 && body.length <= MAX_STORED_BODY) {
+                IdempotencyStore.complete(scopeKey, fingerprint, status, resp.getContentType(),
+                        new String(body, captured.charset()));
+                completed = true;
+            }
+
+            resp.setContentLength(body.length);
+            resp.getOutputStream().write(body);
+
+        } finally {
+            if (!completed) IdempotencyStore.release(scopeKey);
+        }
+    }
+
+    private void replay(HttpServletResponse resp, StoredResponse stored, String fingerprint) throws IOException {
+        if (!stored.getFingerprint().equals(fingerprint)) {
+            resp.setStatus(422);
+            JsonUtil.writeJson(resp, ApiResponse.fail("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."));
+            return;
+        }
+        if (stored.isPending()) {
+            resp.setStatus(409);
+            JsonUtil.writeJson(resp, ApiResponse.fail("같은 요청을 처리 중입니다. 잠시 후 다시 확인해 주세요."));
+            return;
+        }
+
+        resp.setStatus(stored.getStatus());
+        resp.setHeader("Idempotent-Replayed", "true");
+        if (stored.getContentType() != null) resp.setContentType(stored.getContentType());
+        resp.setCharacterEncoding("UTF-8");
+
+        byte[] body = (stored.getBody() == null) ? new byte[0] : stored.getBody().getBytes(StandardCharsets.UTF_8);
+        resp.setContentLength(body.length);
+        resp.getOutputStream().write(body);
+    }
+
+    private static String keyOf(HttpServletRequest req) {
+        String key = req.getHeader(HEADER);
+        if (key == null || key.isBlank()) key = req.getParameter(PARAM);
+        return (key == null || key.isBlank()) ? null : key.trim();
+    }
+
+    /**
+     * 로그인 주체(경로별 세션 키), 비로그인이면 0
+     */
+    private static int principalOf(HttpServletRequest req) {
+        HttpSession session = req.getSession(false);
+        if (session == null) return 0;
+
+        String attr = req.getServletPath().startsWith("/admin/") ? "LOGIN_ADMIN" : "LOGIN_USER";
+        Object o = session.getAttribute(attr);
+        return (o instanceof UserDTO) ? ((UserDTO) o).getId() : 0;
+    }
+
+    /**
+     * 요청 파라미터 지문(키 파라미터 제외, 이름순) → 같은 키로 다른 요청을 보냈는지 판별
+     */
+    private static String fingerprint(HttpServletRequest req) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, String[]> e : new TreeMap<>(req.getParameterMap()).entrySet()) {
+            if (PARAM.equals(e.getKey())) continue;
+            for (String v : e.getValue()) {
+                sb.append(e.getKey()).append('=').append(v).append('&');
+            }
+        }
+
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(d.length * 2);
+            for (byte b : d) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(sb.toString().hashCode());
+        }
+    }
+
+    /**
+     * 본문을 메모리에 모아 두는 응답 래퍼(상태/헤더는 원래 응답에 바로 반영)
+     */
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        private ServletOutputStream out;
+        private PrintWriter writer;
+
+        CapturingResponse(HttpServletResponse resp) {
+            super(resp);
+        }
+
+        Charset charset() {
+            String enc = getCharacterEncoding();
+            try {
+                return (enc == null) ? StandardCharsets.UTF_8 : Charset.forName(enc);
+            } catch (IllegalArgumentException e) {
+                return StandardCharsets.UTF_8;
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (writer != null) throw new IllegalStateException("getWriter()가 이미 호출되었습니다.");
+            if (out == null) {
+                out = new ServletOutputStream() {
+                    @Override public boolean isReady() { return true; }
+                    @Override public void setWriteListener(WriteListener listener) {}
+                    @Override public void write(int b) { buffer.write(b); }
+                    @Override public void write(byte[] b, int off, int len) { buffer.write(b, off, len); }
+                };
+            }
+            return out;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (out != null) throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다.");
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(buffer, charset()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() {
+            flushCapture();
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            // 실제 길이는 필터가 전달할 때 설정
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+        }
+
+        void flushCapture() {
+            if (writer != null) writer.flush();
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.company.meeting.common.idempotency;
+
+import com.company.meeting.common.util.cache.TtlCache;
+
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * IdempotencyStore
+ * - 멱등 키 → 최초 응답 저장소
+ * - 기본: 메모리(TtlCache, LRU + TTL) → 서버 1대 기준
+ * - 선택: DB(idempotency_key) 영속화 → 서버 여러 대가 같은 키를 공유
+ *
+ * 상태:
+ * - claim(): 처음 보는 키면 "처리 중"으로 선점(null 반환), 이미 있으면 기존 값(처리 중 또는 완료 응답)
+ * - complete(): 응답 저장(이후 같은 키는 재실행 없이 이 응답을 그대로 돌려줌)
+ * - release(): 선점 해제(서버 오류 등, 같은 키로 다시 시도 가능)
+ *
+ * 설정:
+ * - -Dmeeting.idempotency.ttlMs=86400000 : 응답 보관 시간(기본 24시간)
+ * - -Dmeeting.idempotency.maxEntries=10000 : 메모리 최대 키 수
+ * - -Dmeeting.idempotency.persist=false : DB 영속화(idempotency_key 테이블 필요)
+ * - -Dmeeting.idempotency.staleMs=60000 : DB의 "처리 중" 행을 버려진 것으로 보는 시간(서버 중단 대비)
+ *
+ * DB 오류 시에는 메모리만으로 계속 동작한다(요청 자체를 막지 않음).
+ */
+public final class IdempotencyStore {
+
+    private static final Logger LOG = Logger.getLogger(IdempotencyStore.class.getName());
+
+    private static final long TTL_MS = readLong("meeting.idempotency.ttlMs", 86_400_000L);
+    private static final long STALE_MS = readLong("meeting.idempotency.staleMs", 60_000L);
+    private static final boolean PERSIST =
+            "true".equalsIgnoreCase(System.getProperty("meeting.idempotency.persist", "false").trim());
+
+    private static final TtlCache<String, StoredResponse> CACHE =
+            new TtlCache<>((int) readLong("meeting.idempotency.maxEntries", 10_000L), TTL_MS);
+
+    private static final IdempotencyDAO DAO = new IdempotencyDAO();
+    private static final AtomicInteger CLAIMS = new AtomicInteger();
+
+    private IdempotencyStore() {}
+
+    /**
+     * 선점 시도
+     * @return null이면 선점 성공(호출 측이 실행 후 complete/release), 아니면 기존 값
+     */
+    static StoredResponse claim(String scopeKey, String fingerprint) {
+        if (PERSIST) {
+            // 완료 응답은 메모리에서 먼저(같은 서버 재시도는 DB까지 가지 않음)
+            StoredResponse cached = CACHE.get(scopeKey);
+            if (cached != null && !cached.isPending()) return cached;
+
+            try {
+                if (CLAIMS.incrementAndGet() % 100 == 0) DAO.purgeExpired(500);
+                return DAO.claim(scopeKey, fingerprint, TTL_MS, STALE_MS);
+            } catch (SQLException e) {
+                LOG.log(Level.WARNING, "멱등 키 DB 선점 실패(메모리로 대체): " + e.getMessage());
+            }
+        }
+        return CACHE.putIfAbsent(scopeKey, StoredResponse.pending(fingerprint));
+    }
+
+    static void complete(String scopeKey, String fingerprint, int status, String contentType, String body) {
+        CACHE.put(scopeKey, new StoredResponse(fingerprint, status, contentType, body));
+
+        if (PERSIST) {
+            try {
+                DAO.complete(scopeKey, status, contentType, body);
+            } catch (SQLException e) {
+                LOG.log(Level.WARNING, "멱등 키 응답 저장 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    static void release(String scopeKey) {
+        CACHE.invalidate(scopeKey);
+
+        if (PERSIST) {
+            try {
+                DAO.delete(scopeKey);
+            } catch (SQLException e) {
+                LOG.log(Level.WARNING, "멱등 키 해제 실패(만료 후 정리됨): " + e.getMessage());
+            }
+        }
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Math.max(1L, Long.parseLong(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
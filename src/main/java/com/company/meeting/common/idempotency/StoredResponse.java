@@ -0,0 +1,33 @@
+package com.company.meeting.common.idempotency;
+
+/**
+ * 멱등 키 1개에 저장된 응답
+ * - status=0: 아직 처리 중(선점만 된 상태)
+ */
+public final class StoredResponse {
+
+    private final String fingerprint;
+    private final int status;
+    private final String contentType;
+    private final String body;
+
+    StoredResponse(String fingerprint, int status, String contentType, String body) {
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+    }
+
+    static StoredResponse pending(String fingerprint) {
+        return new StoredResponse(fingerprint, 0, null, null);
+    }
+
+    public boolean isPending() {
+        return status == 0;
+    }
+
+    public String getFingerprint() { return fingerprint; }
+    public int getStatus() { return status; }
+    public String getContentType() { return contentType; }
+    public String getBody() { return body; }
+}
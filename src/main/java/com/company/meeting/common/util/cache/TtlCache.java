@@ -0,0 +1,172 @@
+package com.company.meeting.common.util.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * TtlCache
+ * - 크기 상한(LRU) + 만료 시간(TTL)을 가진 단순 메모리 캐시
+ * - 조회 값이 "조금 늦게 반영돼도 되는" 경우(건수, 정책 등)에만 사용한다.
+ *
+ * 동작:
+ * - get(): 만료된 항목은 없는 것으로 보고 제거
+ * - put(): 용량 초과 시 가장 오래 안 쓴 항목 제거
+ * - getOrLoad(): 없으면 loader로 읽어 저장(동시에 같은 키를 읽으면 loader가 중복 실행될 수 있음)
+ *   - 로딩 도중 invalidate/clear가 있었으면 방금 읽은 값(이전 값일 수 있음)은 저장하지 않는다.
+ *
+ * 스레드 안전성:
+ * - 내부 맵 접근은 synchronized(로더 실행은 락 밖)
+ */
+public class TtlCache<K, V> {
+
+    /**
+     * 체크 예외를 그대로 던질 수 있는 로더
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> map;
+    private long generation; // 무효화 세대(map 락으로 보호)
+
+    /**
+     * @param maxSize   최대 항목 수
+     * @param ttlMillis 만료 시간(ms, 0 이하면 만료 없음)
+     */
+    public TtlCache(int maxSize, long ttlMillis) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = (ttlMillis <= 0) ? 0L : ttlMillis * 1_000_000L;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > TtlCache.this.maxSize;
+            }
+        };
+    }
+
+    public V get(K key) {
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e == null) return null;
+            if (isExpired(e, System.nanoTime())) {
+                map.remove(key);
+                return null;
+            }
+            return e.value;
+        }
+    }
+
+    public void put(K key, V value) {
+        if (value == null) return;
+        synchronized (map) {
+            map.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 없거나 만료됐을 때만 저장(선점)
+     * @return 이미 있던 값(저장하지 않음) 또는 null(저장함)
+     */
+    public V putIfAbsent(K key, V value) {
+        if (value == null) return null;
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e != null && !isExpired(e, System.nanoTime())) return e.value;
+            map.put(key, new Entry<>(value, System.nanoTime()));
+            return null;
+        }
+    }
+
+    public <E extends Exception> V getOrLoad(K key, Loader<V, E> loader) throws E {
+        long gen;
+        synchronized (map) {
+            Entry<V> e = map.get(key);
+            if (e != null && !isExpired(e, System.nanoTime())) return e.value;
+            gen = generation;
+        }
+
+        V v = loader.load();
+        if (v == null) return null;
+
+        synchronized (map) {
+            if (generation == gen) {
+                map.put(key, new Entry<>(v, System.nanoTime()));
+            }
+        }
+        return v;
+    }
+
+    /**
+     * 현재 무효화 세대
+     * - 여러 키를 한 번에 읽어 넣을 때(batch 로딩): 읽기 전에 받아 두고 putIfGeneration으로 저장
+     */
+    public long generation() {
+        synchronized (map) {
+            return generation;
+        }
+    }
+
+    /**
+     * 세대가 그대로일 때만 저장(그 사이 invalidate/clear가 있었으면 버림)
+     */
+    public boolean putIfGeneration(K key, V value, long gen) {
+        if (value == null) return false;
+        synchronized (map) {
+            if (generation != gen) return false;
+            map.put(key, new Entry<>(value, System.nanoTime()));
+            return true;
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (map) {
+            generation++;
+            map.remove(key);
+        }
+    }
+
+    /**
+     * 조건에 맞는 키 일괄 제거(예: 특정 회원/회의실 관련 항목)
+     */
+    public void invalidateIf(Predicate<K> predicate) {
+        synchronized (map) {
+            generation++;
+            Iterator<K> it = map.keySet().iterator();
+            while (it.hasNext()) {
+                if (predicate.test(it.next())) it.remove();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (map) {
+            generation++;
+            map.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (map) {
+            return map.size();
+        }
+    }
+
+    private boolean isExpired(Entry<V> e, long now) {
+        return ttlNanos > 0 && (now - e.createdNanos) > ttlNanos;
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long createdNanos;
+
+        Entry(V value, long createdNanos) {
+            this.value = value;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
@@ -57,4 +57,23 @@ public class JsonUtil {
             throw new RuntimeException("JSON 응답 쓰기 실패", e);
         }
     }
+
+    /**
+     * HttpServletResponse에 JSON으로 바로 써서 응답한다(중간 문자열 없이 스트리밍).
+     * - 큰 응답(현황 매트릭스 등)에서 JSON 전체를 메모리에 문자열로 만들지 않는다.
+     *
+     * @param resp HttpServletResponse
+     * @param obj  JSON으로 내려줄 객체(Map/DTO 등)
+     */
+    public static void streamJson(HttpServletResponse resp, Object obj) {
+        resp.setCharacterEncoding("UTF-8");
+        resp.setContentType("application/json; charset=UTF-8");
+
+        try {
+            PrintWriter writer = resp.getWriter();
+            MAPPER.writeValue(writer, obj); // writer는 writeValue가 닫는다.
+        } catch (Exception e) {
+            throw new RuntimeException("JSON 응답 쓰기 실패", e);
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.company.meeting.common.util.paging;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 조회 결과(한 페이지)
+ * - nextCursor: 다음 페이지 요청에 그대로 넘길 값(hasNext=false면 null)
+ */
+public class CursorSlice<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorSlice(List<T> items, String nextCursor, boolean hasNext) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -0,0 +1,64 @@
+package com.company.meeting.common.util.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징 위치
+ * - 정렬 키 (start_time DESC, id DESC)의 "마지막으로 본 행"
+ * - 클라이언트에는 불투명 문자열(base64url)로 내려주고 그대로 되돌려 받는다.
+ *
+ * 사용:
+ * - WHERE (start_time < ? OR (start_time = ? AND id < ?)) ORDER BY start_time DESC, id DESC LIMIT size+1
+ */
+public class PageCursor {
+
+    private final LocalDateTime startTime;
+    private final int id;
+
+    public PageCursor(LocalDateTime startTime, int id) {
+        if (startTime == null) throw new IllegalArgumentException("cursor 시작 시간이 없습니다.");
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * 불투명 문자열로 인코딩("start_time,id" → base64url)
+     */
+    public String encode() {
+        String raw = startTime + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 → 커서
+     * - null/빈 문자열이면 null(첫 페이지)
+     * - 형식이 잘못되면 IllegalArgumentException
+     */
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int comma = raw.lastIndexOf(',');
+            if (comma <= 0) throw new IllegalArgumentException("cursor가 올바르지 않습니다.");
+
+            LocalDateTime st = LocalDateTime.parse(raw.substring(0, comma));
+            int id = Integer.parseInt(raw.substring(comma + 1));
+            return new PageCursor(st, id);
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("cursor가 올바르지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.company.meeting.common.util.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 검색어(q) 해석
+ * - 기본: MySQL ngram FULLTEXT(BOOLEAN MODE) 검색어로 변환 → 인덱스 사용(한글 포함)
+ * - 예외: 모든 단어가 ngram 토큰 길이보다 짧으면(예: 한 글자) 기존 LIKE '%q%'로 대체
+ *
+ * 변환 규칙:
+ * - 공백으로 나눈 단어마다 +"단어" (모든 단어 포함, 단어 내부는 연속 일치)
+ * - BOOLEAN MODE 연산자 문자(+-<>()~*"@)는 제거
+ * - 짧은 단어는 FULLTEXT에서 제외(다른 긴 단어가 있을 때)
+ *
+ * 설정:
+ * - -Dmeeting.search.fulltext=false : 항상 LIKE(인덱스 생성 전 환경 등)
+ * - -Dmeeting.search.ngramTokenSize=2 : MySQL ngram_token_size와 맞춘다(기본 2)
+ *
+ * 전제:
+ * - FULLTEXT 인덱스는 stopword 없이 만든다(innodb_ft_enable_stopword=OFF, schema.sql / migration 007).
+ *   켜진 채로 만들면 stopword를 포함한 ngram 토큰이 빠져 LIKE로는 찾던 영문 단어를 놓친다.
+ *
+ * DAO 사용 예)
+ *  SearchQuery sq = SearchQuery.of(q);
+ *  sql += sq.isFulltext() ? "AND MATCH(name, location) AGAINST(? IN BOOLEAN MODE) " : "AND (name LIKE ? OR ...) ";
+ *  ps.setString(idx++, sq.bindValue());
+ */
+public final class SearchQuery {
+
+    private static final boolean FULLTEXT_ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("meeting.search.fulltext", "true").trim());
+
+    private static final int NGRAM_TOKEN_SIZE = readTokenSize();
+
+    private static final SearchQuery EMPTY = new SearchQuery(null, null);
+
+    private final String booleanQuery; // FULLTEXT용(null이면 LIKE)
+    private final String likePattern;  // LIKE용
+
+    private SearchQuery(String booleanQuery, String likePattern) {
+        this.booleanQuery = booleanQuery;
+        this.likePattern = likePattern;
+    }
+
+    public static SearchQuery of(String q) {
+        if (q == null || q.trim().isEmpty()) return EMPTY;
+
+        String trimmed = q.trim();
+        String like = "%" + trimmed + "%";
+        if (!FULLTEXT_ENABLED) return new SearchQuery(null, like);
+
+        List<String> terms = new ArrayList<>();
+        for (String word : trimmed.split("\\s+")) {
+            String w = stripOperators(word);
+            if (w.codePointCount(0, w.length()) >= NGRAM_TOKEN_SIZE) {
+                terms.add(w);
+            }
+        }
+
+        if (terms.isEmpty()) return new SearchQuery(null, like);
+
+        StringBuilder sb = new StringBuilder();
+        for (String t : terms) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append("+\"").append(t).append('"');
+        }
+        return new SearchQuery(sb.toString(), like);
+    }
+
+    /**
+     * 검색어 없음
+     */
+    public boolean isEmpty() {
+        return likePattern == null;
+    }
+
+    /**
+     * FULLTEXT(MATCH ... AGAINST) 사용 여부
+     */
+    public boolean isFulltext() {
+        return booleanQuery != null;
+    }
+
+    /**
+     * PreparedStatement에 바인딩할 값
+     * - FULLTEXT: BOOLEAN MODE 검색어
+     * - LIKE: %q%
+     */
+    public String bindValue() {
+        return isFulltext() ? booleanQuery : likePattern;
+    }
+
+    private static String stripOperators(String word) {
+        StringBuilder sb = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if ("+-<>()~*\"@".indexOf(c) >= 0) continue;
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static int readTokenSize() {
+        try {
+            return Math.max(1, Integer.parseInt(System.getProperty("meeting.search.ngramTokenSize", "2").trim()));
+        } catch (NumberFormatException e) {
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.meeting.reservation.calendar;
+
+import com.company.meeting.reservation.dto.RoomDayOperating;
+
+import java.time.LocalTime;
+
+/**
+ * OperatingWindow
+ * - 하루 운영 구간(불변)
+ * - 시간은 "자정 기준 분(minute-of-day)" 정수로 보관 → 검증/슬롯 계산 시 문자열 파싱 없음
+ *
+ * 규칙:
+ * - closed=true면 openMinute/closeMinute는 -1
+ * - 운영 구간은 [openMinute, closeMinute) (close 시각에 끝나는 예약은 허용)
+ */
+public final class OperatingWindow {
+
+    /** 운영시간 정보가 없는 날(주간 규칙 없음) */
+    public static final OperatingWindow CLOSED = new OperatingWindow(true, -1, -1, null);
+
+    private final boolean closed;
+    private final int openMinute;
+    private final int closeMinute;
+    private final String reason; // 예외일 사유(optional)
+
+    private OperatingWindow(boolean closed, int openMinute, int closeMinute, String reason) {
+        this.closed = closed;
+        this.openMinute = openMinute;
+        this.closeMinute = closeMinute;
+        this.reason = reason;
+    }
+
+    /**
+     * DB 한 행 → 구간
+     * - 휴무이거나 시간이 비정상(null, open>=close)이면 휴무로 본다.
+     */
+    public static OperatingWindow of(boolean closed, LocalTime open, LocalTime close, String reason) {
+        if (closed || open == null || close == null || !open.isBefore(close)) {
+            return (reason == null) ? CLOSED : new OperatingWindow(true, -1, -1, reason);
+        }
+        return new OperatingWindow(false, toMinute(open), toMinute(close), reason);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getOpenMinute() {
+        return openMinute;
+    }
+
+    public int getCloseMinute() {
+        return closeMinute;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * [startMinute, endMinute)가 운영 구간 안에 들어가는지
+     */
+    public boolean contains(int startMinute, int endMinute) {
+        return !closed && startMinute >= openMinute && endMinute <= closeMinute && startMinute < endMinute;
+    }
+
+    /**
+     * 기존 응답 DTO("HH:mm" 문자열)로 변환
+     */
+    public RoomDayOperating toDayOperating() {
+        if (closed) return new RoomDayOperating(true, null, null, reason);
+        return new RoomDayOperating(false, formatMinute(openMinute), formatMinute(closeMinute), reason);
+    }
+
+    public static int toMinute(LocalTime t) {
+        return t.getHour() * 60 + t.getMinute();
+    }
+
+    public static String formatMinute(int minute) {
+        if (minute < 0) return null;
+        int h = minute / 60;
+        int m = minute % 60;
+        return (h < 10 ? "0" : "") + h + ":" + (m < 10 ? "0" : "") + m;
+    }
+}
@@ -0,0 +1,103 @@
+package com.company.meeting.reservation.calendar;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * RoomOperatingCalendar
+ * - 회의실 1개의 운영 규칙을 한 번에 읽어 메모리에서 계산하는 구조(불변)
+ *   - 주간 규칙: 요일(1=월..7=일)별 open/close minute-of-day 배열
+ *   - 예외: 날짜 정렬 맵(TreeMap) → 기간 조회 시 subMap으로 필요한 구간만 순회
+ *
+ * 우선순위: 예외일 > 주간 규칙 > (규칙 없음) 휴무
+ *
+ * 생성:
+ *  RoomOperatingCalendar.Builder b = RoomOperatingCalendar.builder(roomId);
+ *  b.weekly(dow, closed, open, close);   // room_operating_hours 행마다
+ *  b.exception(date, closed, open, close, reason); // room_operating_exceptions 행마다
+ *  RoomOperatingCalendar cal = b.build();
+ */
+public final class RoomOperatingCalendar {
+
+    private final int roomId;
+    private final OperatingWindow[] weekly; // index 1..7 (0 미사용)
+    private final NavigableMap<LocalDate, OperatingWindow> exceptions;
+
+    private RoomOperatingCalendar(int roomId, OperatingWindow[] weekly, NavigableMap<LocalDate, OperatingWindow> exceptions) {
+        this.roomId = roomId;
+        this.weekly = weekly;
+        this.exceptions = Collections.unmodifiableNavigableMap(exceptions);
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    /**
+     * 특정 날짜 운영 구간
+     */
+    public OperatingWindow windowFor(LocalDate date) {
+        OperatingWindow ex = exceptions.get(date);
+        if (ex != null) return ex;
+        return weekly[date.getDayOfWeek().getValue()];
+    }
+
+    /**
+     * 기간 운영 구간(from~to 포함, 날짜 오름차순)
+     */
+    public Map<LocalDate, OperatingWindow> windowsFor(LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) return Collections.emptyMap();
+
+        NavigableMap<LocalDate, OperatingWindow> ex = exceptions.subMap(from, true, to, true);
+        Map<LocalDate, OperatingWindow> result = new LinkedHashMap<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            OperatingWindow w = ex.get(d);
+            result.put(d, (w != null) ? w : weekly[d.getDayOfWeek().getValue()]);
+        }
+        return result;
+    }
+
+    public static Builder builder(int roomId) {
+        return new Builder(roomId);
+    }
+
+    // =========================================================
+    // Builder (DAO에서 행 단위로 채움)
+    // =========================================================
+    public static final class Builder {
+        private final int roomId;
+        private final OperatingWindow[] weekly = new OperatingWindow[8];
+        private final TreeMap<LocalDate, OperatingWindow> exceptions = new TreeMap<>();
+
+        private Builder(int roomId) {
+            this.roomId = roomId;
+        }
+
+        public Builder weekly(int dow, boolean closed, LocalTime open, LocalTime close) {
+            if (dow >= 1 && dow <= 7) {
+                weekly[dow] = OperatingWindow.of(closed, open, close, null);
+            }
+            return this;
+        }
+
+        public Builder exception(LocalDate date, boolean closed, LocalTime open, LocalTime close, String reason) {
+            if (date != null) {
+                exceptions.put(date, OperatingWindow.of(closed, open, close, reason));
+            }
+            return this;
+        }
+
+        public RoomOperatingCalendar build() {
+            OperatingWindow[] w = new OperatingWindow[8];
+            for (int i = 1; i <= 7; i++) {
+                w[i] = (weekly[i] != null) ? weekly[i] : OperatingWindow.CLOSED;
+            }
+            return new RoomOperatingCalendar(roomId, w, new TreeMap<>(exceptions));
+        }
+    }
+}
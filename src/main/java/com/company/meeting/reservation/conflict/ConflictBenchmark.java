@@ -0,0 +1,373 @@
+package com.company.meeting.reservation.conflict;
+
+import com.company.meeting.common.db.DBConnection;
+import com.company.meeting.reservation.dao.ReservationDAO;
+import com.company.meeting.reservation.index.BookingIndex;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConflictBenchmark
+ * - 충돌 판단 전략별 동시 예약 부하 측정(실제 DB 대상, 관리자 1회성 작업)
+ * - 회의실 1개(hot)에 요청을 몰고 나머지는 여러 회의실(cold)에 흩뿌린다.
+ *
+ * 측정 항목:
+ * - 처리량(ops/s), 지연 p50/p99/max(ms)
+ * - 결과 분류: 예약 성공 / 충돌 거절 / 취소 / deadlock(1213) / 잠금 대기 초과(1205, GET_LOCK) / 기타 오류
+ * - 정합성: 종료 후 같은 회의실의 BOOKED 예약끼리 버퍼 포함 겹치는 쌍 수(0이어야 함)
+ *
+ * 방식:
+ * - 전략마다 비활성 임시 회의실(slot 30분, buffer 10분)을 새로 만들고, 끝나면 삭제(CASCADE)한다.
+ * - 요청은 ReservationDAO를 직접 호출한다(서비스 정책 검증 제외, 메모리 사전 검사는 운영과 동일하게 포함).
+ * - 작업 스레드 수가 커넥션 풀 크기보다 크면 풀 대기 시간도 지연에 포함된다.
+ */
+public class ConflictBenchmark {
+
+    private static final int BUFFER_MINUTES = 10;
+    private static final int SLOT_MINUTES = 30;
+
+    private static final int ER_LOCK_DEADLOCK = 1213;
+    private static final int ER_LOCK_WAIT_TIMEOUT = 1205;
+
+    /**
+     * 실행 옵션
+     */
+    public static class Options {
+        private int userId;
+        private int threads = 16;
+        private int seconds = 10;
+        private int coldRooms = 20;
+        private int hotPercent = 50;    // hot 회의실로 보내는 요청 비율
+        private int cancelPercent = 10; // 내가 만든 예약을 취소하는 요청 비율
+
+        public int getUserId() { return userId; }
+        public void setUserId(int userId) { this.userId = userId; }
+
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = threads; }
+
+        public int getSeconds() { return seconds; }
+        public void setSeconds(int seconds) { this.seconds = seconds; }
+
+        public int getColdRooms() { return coldRooms; }
+        public void setColdRooms(int coldRooms) { this.coldRooms = coldRooms; }
+
+        public int getHotPercent() { return hotPercent; }
+        public void setHotPercent(int hotPercent) { this.hotPercent = hotPercent; }
+
+        public int getCancelPercent() { return cancelPercent; }
+        public void setCancelPercent(int cancelPercent) { this.cancelPercent = cancelPercent; }
+    }
+
+    /**
+     * 전략 1개 실행 결과
+     */
+    public static class Result {
+        private String strategy;
+        private int threads;
+        private long elapsedMillis;
+        private long ops;
+        private long booked;
+        private long conflicts;
+        private long canceled;
+        private long deadlocks;
+        private long lockTimeouts;
+        private long errors;
+        private double throughputOps;
+        private double p50Millis;
+        private double p99Millis;
+        private double maxMillis;
+        private long hotBooked;
+        private long doubleBookings;
+        private String sampleError;
+
+        public String getStrategy() { return strategy; }
+        public int getThreads() { return threads; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public long getOps() { return ops; }
+        public long getBooked() { return booked; }
+        public long getConflicts() { return conflicts; }
+        public long getCanceled() { return canceled; }
+        public long getDeadlocks() { return deadlocks; }
+        public long getLockTimeouts() { return lockTimeouts; }
+        public long getErrors() { return errors; }
+        public double getThroughputOps() { return throughputOps; }
+        public double getP50Millis() { return p50Millis; }
+        public double getP99Millis() { return p99Millis; }
+        public double getMaxMillis() { return maxMillis; }
+        public long getHotBooked() { return hotBooked; }
+        public long getDoubleBookings() { return doubleBookings; }
+        public String getSampleError() { return sampleError; }
+    }
+
+    /**
+     * 스레드별 집계(끝난 뒤 합친다)
+     */
+    private static final class Tally {
+        long[] latencies = new long[1024];
+        int n;
+        long booked, conflicts, canceled, deadlocks, lockTimeouts, errors;
+        String sampleError;
+        final List<Integer> mine = new ArrayList<>();
+
+        void record(long nanos) {
+            if (n == latencies.length) latencies = Arrays.copyOf(latencies, n * 2);
+            latencies[n++] = nanos;
+        }
+    }
+
+    public Result run(ConflictStrategy strategy, Options opt) throws SQLException, InterruptedException {
+        final int threads = Math.max(1, opt.threads);
+        final int roomCount = 1 + Math.max(0, opt.coldRooms);
+        final String tag = "__bench_" + strategy.name() + "_" + System.currentTimeMillis();
+        final LocalDate day = LocalDate.now().plusDays(1);
+
+        List<Integer> rooms = createRooms(tag, roomCount);
+        try {
+            final int hotRoom = rooms.get(0);
+            final ReservationDAO dao = new ReservationDAO(strategy);
+            final Tally[] tallies = new Tally[threads];
+            final CountDownLatch start = new CountDownLatch(1);
+            final long[] window = new long[2];
+
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                for (int t = 0; t < threads; t++) {
+                    final Tally tally = new Tally();
+                    tallies[t] = tally;
+                    pool.execute(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        while (System.nanoTime() < window[1] && !Thread.currentThread().isInterrupted()) {
+                            step(dao, opt, rooms, hotRoom, day, tally);
+                        }
+                    });
+                }
+
+                window[0] = System.nanoTime();
+                window[1] = window[0] + TimeUnit.SECONDS.toNanos(Math.max(1, opt.seconds));
+                start.countDown();
+
+                pool.shutdown();
+                if (!pool.awaitTermination(Math.max(1, opt.seconds) + 60L, TimeUnit.SECONDS)) {
+                    pool.shutdownNow();
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            Result r = summarize(strategy.name(), threads, System.nanoTime() - window[0], tallies);
+            r.hotBooked = countBooked(hotRoom);
+            r.doubleBookings = countDoubleBookings(rooms);
+            return r;
+
+        } finally {
+            deleteRooms(rooms);
+        }
+    }
+
+    // =========================================================
+    // 부하 1회
+    // =========================================================
+
+    private void step(ReservationDAO dao, Options opt, List<Integer> rooms, int hotRoom, LocalDate day, Tally tally) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        long t0 = System.nanoTime();
+
+        try {
+            if (!tally.mine.isEmpty() && rnd.nextInt(100) < opt.cancelPercent) {
+                int id = tally.mine.remove(rnd.nextInt(tally.mine.size()));
+                if (dao.cancelReservationByAdmin(id)) tally.canceled++;
+
+            } else {
+                int roomId = (rooms.size() == 1 || rnd.nextInt(100) < opt.hotPercent)
+                        ? hotRoom
+                        : rooms.get(1 + rnd.nextInt(rooms.size() - 1));
+
+                // 08:00~20:00 사이 30분 단위 시작, 30~90분
+                LocalDateTime st = day.atTime(8, 0).plusMinutes((long) SLOT_MINUTES * rnd.nextInt(24));
+                LocalDateTime et = st.plusMinutes((long) SLOT_MINUTES * (1 + rnd.nextInt(3)));
+
+                int id = dao.insertReservationWithConflictCheck(opt.userId, roomId, "benchmark", st, et, BUFFER_MINUTES);
+                tally.booked++;
+                tally.mine.add(id);
+            }
+
+        } catch (SQLException e) {
+            classify(e, tally);
+        } catch (RuntimeException e) {
+            tally.errors++;
+            if (tally.sampleError == null) tally.sampleError = String.valueOf(e);
+        } finally {
+            tally.record(System.nanoTime() - t0);
+        }
+    }
+
+    private void classify(SQLException e, Tally tally) {
+        for (Throwable c = e; c != null; c = c.getCause()) {
+            if (c instanceof SQLException) {
+                int code = ((SQLException) c).getErrorCode();
+                if (code == ER_LOCK_DEADLOCK) { tally.deadlocks++; return; }
+                if (code == ER_LOCK_WAIT_TIMEOUT) { tally.lockTimeouts++; return; }
+            }
+        }
+
+        String msg = String.valueOf(e.getMessage());
+        if (msg.startsWith("이미 해당 시간에")) {
+            tally.conflicts++;
+        } else if (msg.startsWith("다른 예약을 처리 중")) {
+            tally.lockTimeouts++;
+        } else {
+            tally.errors++;
+            if (tally.sampleError == null) tally.sampleError = msg;
+        }
+    }
+
+    private Result summarize(String name, int threads, long elapsedNanos, Tally[] tallies) {
+        Result r = new Result();
+        r.strategy = name;
+        r.threads = threads;
+        r.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+        int total = 0;
+        for (Tally t : tallies) total += t.n;
+        long[] all = new long[total];
+        int pos = 0;
+
+        for (Tally t : tallies) {
+            System.arraycopy(t.latencies, 0, all, pos, t.n);
+            pos += t.n;
+            r.booked += t.booked;
+            r.conflicts += t.conflicts;
+            r.canceled += t.canceled;
+            r.deadlocks += t.deadlocks;
+            r.lockTimeouts += t.lockTimeouts;
+            r.errors += t.errors;
+            if (r.sampleError == null) r.sampleError = t.sampleError;
+        }
+
+        Arrays.sort(all);
+        r.ops = total;
+        r.throughputOps = round1(total / Math.max(0.001, elapsedNanos / 1e9));
+        r.p50Millis = round1(percentile(all, 0.50) / 1e6);
+        r.p99Millis = round1(percentile(all, 0.99) / 1e6);
+        r.maxMillis = round1((total == 0 ? 0 : all[total - 1]) / 1e6);
+        return r;
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+    }
+
+    private static double round1(double v) {
+        return Math.round(v * 10.0) / 10.0;
+    }
+
+    // =========================================================
+    // 임시 회의실 / 정합성 확인
+    // =========================================================
+
+    private List<Integer> createRooms(String tag, int count) throws SQLException {
+        String sql = ""
+                + "INSERT INTO room (name, location, capacity, is_active, slot_minutes, min_minutes, max_minutes, "
+                + "                  buffer_minutes, booking_open_days_ahead) "
+                + "VALUES (?, 'benchmark', 1, 0, ?, ?, ?, ?, 365)";
+
+        List<Integer> ids = new ArrayList<>(count);
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            for (int i = 0; i < count; i++) {
+                ps.setString(1, tag + "_" + i);
+                ps.setInt(2, SLOT_MINUTES);
+                ps.setInt(3, SLOT_MINUTES);
+                ps.setInt(4, SLOT_MINUTES * 3);
+                ps.setInt(5, BUFFER_MINUTES);
+                ps.executeUpdate();
+
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    if (!keys.next()) throw new SQLException("회의실 ID를 가져오지 못했습니다.");
+                    ids.add(keys.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            deleteRooms(ids);
+            throw e;
+        }
+        return ids;
+    }
+
+    /**
+     * 임시 회의실 삭제(예약/점유/롤업은 CASCADE)
+     */
+    private void deleteRooms(List<Integer> ids) throws SQLException {
+        if (ids.isEmpty()) return;
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement("DELETE FROM room WHERE id = ?")) {
+            for (Integer id : ids) {
+                ps.setInt(1, id);
+                ps.executeUpdate();
+            }
+        } finally {
+            for (Integer id : ids) BookingIndex.invalidate(id);
+        }
+    }
+
+    private long countBooked(int roomId) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM reservation WHERE room_id = ? AND status = 'BOOKED'";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, roomId);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    /**
+     * 같은 회의실의 BOOKED 예약끼리 버퍼 포함 겹치는 쌍 수
+     */
+    private long countDoubleBookings(List<Integer> rooms) throws SQLException {
+        StringBuilder in = new StringBuilder();
+        for (int i = 0; i < rooms.size(); i++) in.append(i == 0 ? "?" : ",?");
+
+        String sql = ""
+                + "SELECT COUNT(*) "
+                + "FROM reservation a "
+                + "JOIN reservation b ON b.room_id = a.room_id AND b.id > a.id AND b.status = 'BOOKED' "
+                + " AND b.start_time < a.end_time + INTERVAL ? MINUTE "
+                + " AND a.start_time < b.end_time + INTERVAL ? MINUTE "
+                + "WHERE a.status = 'BOOKED' AND a.room_id IN (" + in + ")";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            int idx = 1;
+            ps.setInt(idx++, BUFFER_MINUTES);
+            ps.setInt(idx++, BUFFER_MINUTES);
+            for (Integer id : rooms) ps.setInt(idx++, id);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.company.meeting.reservation.conflict;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 충돌 판단 전략 선택
+ * - -Dmeeting.reservation.conflictMode=range|room|named|slot (기본 range, "lock"은 range와 같음)
+ * - 배포 단위로 하나를 고른다(운영 중 바꾸지 않음). 비교는 ConflictBenchmark 참고.
+ */
+public final class ConflictStrategies {
+
+    private static final ConflictStrategy CONFIGURED = readConfigured();
+
+    private ConflictStrategies() {}
+
+    /**
+     * 설정된 전략(ReservationDAO 기본값)
+     */
+    public static ConflictStrategy configured() {
+        return CONFIGURED;
+    }
+
+    /**
+     * 이름 → 전략(모르는 이름이면 IllegalArgumentException)
+     */
+    public static ConflictStrategy of(String name) {
+        String n = (name == null) ? "range" : name.trim().toLowerCase();
+        switch (n) {
+            case "":
+            case "lock":
+            case "range":
+                return new RangeLockStrategy();
+            case "room":
+                return new RoomRowLockStrategy();
+            case "named":
+                return new NamedLockStrategy();
+            case "slot":
+                return new SlotClaimStrategy();
+            default:
+                throw new IllegalArgumentException("알 수 없는 충돌 판단 방식입니다: " + name);
+        }
+    }
+
+    public static List<String> names() {
+        return Arrays.asList("range", "room", "named", "slot");
+    }
+
+    private static ConflictStrategy readConfigured() {
+        try {
+            return of(System.getProperty("meeting.reservation.conflictMode", "range"));
+        } catch (IllegalArgumentException e) {
+            return new RangeLockStrategy();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.company.meeting.reservation.conflict;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * ConflictStrategy
+ * - 예약 생성/수정 트랜잭션의 "겹침 판단 + 동시성 제어" 방식
+ * - ReservationDAO가 트랜잭션 안에서 아래 순서로 호출한다.
+ *
+ * 생성: lockRoom → checkOverlap → INSERT → claim → commit → unlockRoom
+ * 수정: lockRoom → (대상 행 잠금) → release → checkOverlap → UPDATE → claim → commit → unlockRoom
+ * 취소: (대상 행 잠금) → UPDATE → release → commit
+ *
+ * 구현:
+ * - range : 겹치는 행 범위 SELECT ... FOR UPDATE(기존 방식, next-key/gap 잠금)
+ * - room  : room 행 FOR UPDATE로 회의실 단위 직렬화 후 범위 검사
+ * - named : MySQL GET_LOCK('room:{id}')로 회의실 단위 직렬화 후 범위 검사
+ * - slot  : reservation_slot 점유 행 INSERT(유니크 키 충돌 = 겹침)
+ *
+ * 선택: ConflictStrategies.configured() (-Dmeeting.reservation.conflictMode)
+ */
+public interface ConflictStrategy {
+
+    /**
+     * 설정/벤치마크 결과에 쓰는 이름(range, room, named, slot)
+     */
+    String name();
+
+    /**
+     * 회의실 단위 직렬화(필요한 구현만, 트랜잭션 시작 직후 가장 먼저)
+     */
+    default void lockRoom(Connection conn, int roomId) throws SQLException {
+    }
+
+    /**
+     * lockRoom이 성공했을 때 트랜잭션 종료(commit/rollback) 후 호출
+     * - 예외를 던지지 않는다.
+     */
+    default void unlockRoom(Connection conn, int roomId) {
+    }
+
+    /**
+     * [from, to)(버퍼 확장 범위)와 겹치는 BOOKED 예약이 있으면 SQLException
+     * @param excludeId 제외할 예약(수정 시 자기 자신, 생성은 0)
+     */
+    default void checkOverlap(Connection conn, int roomId, int excludeId,
+                              LocalDateTime from, LocalDateTime to) throws SQLException {
+    }
+
+    /**
+     * 예약 행 저장 후 시간 점유(필요한 구현만), 겹치면 SQLException
+     */
+    default void claim(Connection conn, int reservationId, int roomId,
+                       LocalDateTime start, LocalDateTime end, int bufferMinutes) throws SQLException {
+    }
+
+    /**
+     * 취소/수정 전 기존 점유 해제(필요한 구현만)
+     */
+    default void release(Connection conn, int reservationId) throws SQLException {
+    }
+}
@@ -0,0 +1,75 @@
+package com.company.meeting.reservation.conflict;
+
+import com.company.meeting.common.db.UnitOfWork;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * named: MySQL 사용자 잠금 GET_LOCK('meeting:room:{id}')으로 회의실 단위 뮤텍스
+ * - 테이블 행을 잠그지 않으므로 room 행을 읽는 다른 작업(정책 조회 등)과 무관하다.
+ * - 잠금은 트랜잭션이 아니라 커넥션 세션에 묶인다 → 트랜잭션 종료 후 반드시 RELEASE_LOCK
+ *   (작업 단위 트랜잭션 안이면 UnitOfWork.afterCompletion으로 바깥 트랜잭션 종료 후 해제)
+ *
+ * 설정:
+ * - -Dmeeting.reservation.lockWaitSeconds=5 : GET_LOCK 대기 시간(초과 시 "잠시 후 다시 시도")
+ */
+public class NamedLockStrategy implements ConflictStrategy {
+
+    private static final int WAIT_SECONDS = readWaitSeconds();
+
+    @Override
+    public String name() {
+        return "named";
+    }
+
+    @Override
+    public void lockRoom(Connection conn, int roomId) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, lockName(roomId));
+            ps.setInt(2, WAIT_SECONDS);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                // 1=획득, 0=시간 초과, NULL=오류
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("다른 예약을 처리 중입니다. 잠시 후 다시 시도해 주세요. (roomId=" + roomId + ")");
+                }
+            }
+        }
+    }
+
+    @Override
+    public void unlockRoom(Connection conn, int roomId) {
+        UnitOfWork.afterCompletion(() -> releaseLock(conn, roomId));
+    }
+
+    @Override
+    public void checkOverlap(Connection conn, int roomId, int excludeId,
+                             LocalDateTime from, LocalDateTime to) throws SQLException {
+        RangeLockStrategy.lockOverlap(conn, roomId, excludeId, from, to);
+    }
+
+    private static void releaseLock(Connection conn, int roomId) {
+        try (PreparedStatement ps = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, lockName(roomId));
+            ps.executeQuery().close();
+        } catch (SQLException ignored) {
+            // 세션이 끊겼으면 잠금도 이미 풀렸다.
+        }
+    }
+
+    private static String lockName(int roomId) {
+        return "meeting:room:" + roomId;
+    }
+
+    private static int readWaitSeconds() {
+        try {
+            return Math.max(0, Integer.parseInt(System.getProperty("meeting.reservation.lockWaitSeconds", "5").trim()));
+        } catch (NumberFormatException e) {
+            return 5;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.company.meeting.reservation.conflict;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * range: 겹치는 BOOKED 행을 범위 SELECT ... FOR UPDATE(기존 방식)
+ * - 별도 테이블/잠금 없이 동작하지만, REPEATABLE READ에서 next-key/gap 잠금이 걸려
+ *   같은 회의실의 인접 시간 예약끼리 서로 기다리거나 교착(deadlock)될 수 있다.
+ */
+public class RangeLockStrategy implements ConflictStrategy {
+
+    @Override
+    public String name() {
+        return "range";
+    }
+
+    @Override
+    public void checkOverlap(Connection conn, int roomId, int excludeId,
+                             LocalDateTime from, LocalDateTime to) throws SQLException {
+        lockOverlap(conn, roomId, excludeId, from, to);
+    }
+
+    /**
+     * 겹치는 BOOKED 행을 잠금 읽기로 확인(있으면 SQLException)
+     * - 잠금 읽기는 트랜잭션 스냅샷이 아니라 최신 커밋을 읽으므로, 먼저 회의실을 직렬화하는 전략도 이 검사를 쓴다.
+     * - MySQL 문법: LIMIT이 FOR UPDATE 보다 먼저 와야 함
+     */
+    static void lockOverlap(Connection conn, int roomId, int excludeId,
+                            LocalDateTime from, LocalDateTime to) throws SQLException {
+        String sql = ""
+                + "SELECT id, start_time, end_time "
+                + "FROM reservation "
+                + "WHERE room_id = ? AND status = 'BOOKED' "
+                + "  AND id <> ? "
+                + "  AND start_time < ? "
+                + "  AND end_time > ? "
+                + "ORDER BY start_time ASC "
+                + "LIMIT 1 FOR UPDATE";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, roomId);
+            ps.setInt(2, excludeId);
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+            ps.setTimestamp(4, Timestamp.valueOf(from));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    // ✅ 어떤 예약과 충돌인지 메시지에 박아버리면 즉시 원인 파악 가능
+                    throw new SQLException("이미 해당 시간에 예약이 존재합니다. (conflictId="
+                            + rs.getInt("id") + ", " + rs.getTimestamp("start_time") + " ~ " + rs.getTimestamp("end_time") + ")");
+                }
+            }
+        }
+    }
+}
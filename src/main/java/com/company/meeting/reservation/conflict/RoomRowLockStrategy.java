@@ -0,0 +1,39 @@
+package com.company.meeting.reservation.conflict;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * room: room 행(PK) FOR UPDATE로 회의실 단위 뮤텍스
+ * - 같은 회의실 쓰기는 room 행에서 한 줄로 서므로 범위 잠금끼리 교착되지 않는다.
+ * - 다른 회의실끼리는 서로 막지 않는다(인덱스 경계의 gap 잠금은 예외적으로 겹칠 수 있음).
+ * - 잠금은 트랜잭션이 끝나면 함께 풀린다(별도 해제 없음).
+ */
+public class RoomRowLockStrategy implements ConflictStrategy {
+
+    @Override
+    public String name() {
+        return "room";
+    }
+
+    @Override
+    public void lockRoom(Connection conn, int roomId) throws SQLException {
+        String sql = "SELECT id FROM room WHERE id = ? FOR UPDATE";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, roomId);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) throw new SQLException("회의실이 존재하지 않습니다. (roomId=" + roomId + ")");
+            }
+        }
+    }
+
+    @Override
+    public void checkOverlap(Connection conn, int roomId, int excludeId,
+                             LocalDateTime from, LocalDateTime to) throws SQLException {
+        RangeLockStrategy.lockOverlap(conn, roomId, excludeId, from, to);
+    }
+}
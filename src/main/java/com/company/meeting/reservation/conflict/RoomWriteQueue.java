@@ -0,0 +1,138 @@
+package com.company.meeting.reservation.conflict;
+
+import com.company.meeting.common.db.UnitOfWork;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RoomWriteQueue
+ * - 같은 회의실의 예약 생성/수정/취소를 이 서버(JVM) 안에서 한 줄로 세운다(회의실별 단일 작성자).
+ * - 인기 회의실 오픈 시 요청들이 커넥션을 하나씩 쥔 채 InnoDB 잠금 대기로 쌓이는 대신,
+ *   커넥션을 빌리기 전에 메모리에서 순서를 기다린다 → DB 잠금 대기는 (단일 서버 기준) 거의 없어진다.
+ * - 다른 회의실끼리는 서로 기다리지 않는다.
+ *
+ * 대기열:
+ * - 회의실별 공정(FIFO) 잠금 + 대기 깊이 상한
+ * - 깊이(실행 중 + 대기 중)가 상한을 넘으면 기다리지 않고 바로 거절(IllegalStateException)
+ * - 최대 대기 시간을 넘겨도 거절
+ * - 아무도 쓰지 않는 회의실의 대기열은 바로 제거(회의실 수만큼 쌓이지 않음)
+ *
+ * 사용(서비스, 트랜잭션 바깥에서 감싼다):
+ *  return RoomWriteQueue.run(roomId, () -> UnitOfWork.inTransaction(() -> doCreate(...)));
+ *
+ * 주의:
+ * - 서버 여러 대면 서버 간 직렬화는 DB 충돌 판단(ConflictStrategy)이 맡는다.
+ * - 같은 스레드의 같은 회의실 중첩 호출은 허용(재진입), 서로 다른 회의실을 중첩해 잡으면 대기 시간 초과로 풀린다.
+ *
+ * 설정:
+ * - -Dmeeting.reservation.roomQueue.enabled=false : 사용 안 함(바로 실행)
+ * - -Dmeeting.reservation.roomQueue.maxDepth=16   : 회의실별 최대 깊이
+ * - -Dmeeting.reservation.roomQueue.waitMs=5000   : 최대 대기 시간
+ */
+public final class RoomWriteQueue {
+
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("meeting.reservation.roomQueue.enabled", "true").trim());
+    private static final int MAX_DEPTH = (int) readLong("meeting.reservation.roomQueue.maxDepth", 16L);
+    private static final long WAIT_MS = readLong("meeting.reservation.roomQueue.waitMs", 5_000L);
+
+    private static final ConcurrentHashMap<Integer, Lane> LANES = new ConcurrentHashMap<>();
+    private static final AtomicLong REJECTED = new AtomicLong();
+
+    private RoomWriteQueue() {}
+
+    /**
+     * 회의실 roomId 차례가 되면 work 실행
+     */
+    public static <T, E extends Exception> T run(int roomId, UnitOfWork.Work<T, E> work) throws E {
+        if (!ENABLED) return work.run();
+
+        int[] depth = new int[1];
+        Lane lane = enter(roomId, depth);
+        try {
+            if (depth[0] > MAX_DEPTH) {
+                throw rejected(roomId);
+            }
+
+            boolean acquired;
+            try {
+                acquired = lane.lock.tryLock(WAIT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw rejected(roomId);
+            }
+            if (!acquired) throw rejected(roomId);
+
+            try {
+                return work.run();
+            } finally {
+                lane.lock.unlock();
+            }
+        } finally {
+            leave(roomId);
+        }
+    }
+
+    /**
+     * 운영 확인용 상태: { enabled, maxDepth, waitMs, activeRooms, rejected }
+     */
+    public static Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", ENABLED);
+        m.put("maxDepth", MAX_DEPTH);
+        m.put("waitMs", WAIT_MS);
+        m.put("activeRooms", LANES.size());
+        m.put("rejected", REJECTED.get());
+        return m;
+    }
+
+    // =========================================================
+    // 내부 구현
+    // =========================================================
+
+    /**
+     * 깊이 증가(없으면 생성) - 같은 키의 compute는 원자적으로 실행된다.
+     * @param depthOut [0]에 증가 후 깊이
+     */
+    private static Lane enter(int roomId, int[] depthOut) {
+        return LANES.compute(roomId, (k, l) -> {
+            Lane lane = (l == null) ? new Lane() : l;
+            depthOut[0] = ++lane.depth;
+            return lane;
+        });
+    }
+
+    /**
+     * 깊이 감소, 0이면 제거
+     */
+    private static void leave(int roomId) {
+        LANES.computeIfPresent(roomId, (k, l) -> (--l.depth == 0) ? null : l);
+    }
+
+    private static IllegalStateException rejected(int roomId) {
+        REJECTED.incrementAndGet();
+        return new IllegalStateException("해당 회의실에 예약 요청이 몰려 있습니다. 잠시 후 다시 시도해 주세요. (roomId=" + roomId + ")");
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Math.max(1L, Long.parseLong(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    /**
+     * 회의실 1개의 대기열
+     * - depth는 LANES.compute 안에서만 읽고 쓴다(실행 중 1 + 대기 중 N).
+     */
+    private static final class Lane {
+        final ReentrantLock lock = new ReentrantLock(true);
+        int depth;
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.meeting.reservation.conflict;
+
+import com.company.meeting.reservation.dao.ReservationSlotDAO;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * slot: reservation_slot(room_id, slot_start) 점유 행 INSERT
+ * - 겹치면 duplicate key로 바로 실패(범위 잠금 없음), 자세한 규칙은 ReservationSlotDAO
+ * - 전환 시 db/migration/004_reservation_slot.sql 백필 필요
+ */
+public class SlotClaimStrategy implements ConflictStrategy {
+
+    private final ReservationSlotDAO slots = new ReservationSlotDAO();
+
+    @Override
+    public String name() {
+        return "slot";
+    }
+
+    @Override
+    public void claim(Connection conn, int reservationId, int roomId,
+                      LocalDateTime start, LocalDateTime end, int bufferMinutes) throws SQLException {
+        if (!slots.claim(conn, reservationId, roomId, start, end, bufferMinutes)) {
+            throw new SQLException(slots.conflictMessage(conn, roomId, reservationId, start, end, bufferMinutes));
+        }
+    }
+
+    @Override
+    public void release(Connection conn, int reservationId) throws SQLException {
+        slots.release(conn, reservationId);
+    }
+}
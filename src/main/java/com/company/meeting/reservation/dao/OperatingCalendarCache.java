@@ -0,0 +1,59 @@
+package com.company.meeting.reservation.dao;
+
+import com.company.meeting.common.util.cache.TtlCache;
+import com.company.meeting.reservation.calendar.RoomOperatingCalendar;
+
+import java.sql.SQLException;
+
+/**
+ * OperatingCalendarCache
+ * - 회의실별 운영 캘린더(주간 규칙 + 예외일) read-through 캐시(room_id 기준)
+ * - 예약 생성/수정 검증, 일/월 현황 조회마다 쓰이므로 회의실당 1번만 읽는다.
+ *
+ * 무효화:
+ * - RoomDAO의 생성/수정/삭제(운영시간 포함)가 commit된 직후 invalidate(roomId)
+ * - 예외일(room_operating_exceptions)은 DB에서 직접 관리하므로 TTL이 반영 주기
+ *   (기본 5분, -Dmeeting.cache.operatingCalendar.ttlMs)
+ * - 로더(단건/여러 회의실)는 primary에서 읽는다(무효화 직후 replica 지연으로 이전 캘린더를 다시 채우지 않도록).
+ */
+public final class OperatingCalendarCache {
+
+    private static final TtlCache<Integer, RoomOperatingCalendar> CACHE =
+            new TtlCache<>(2_000, RoomPolicyCache.readTtlMs("meeting.cache.operatingCalendar.ttlMs", 300_000L));
+
+    private OperatingCalendarCache() {}
+
+    static RoomOperatingCalendar get(int roomId, TtlCache.Loader<RoomOperatingCalendar, SQLException> loader)
+            throws SQLException {
+        return CACHE.getOrLoad(roomId, loader);
+    }
+
+    /**
+     * 캐시에 있으면 반환(로딩하지 않음)
+     */
+    static RoomOperatingCalendar peek(int roomId) {
+        return CACHE.get(roomId);
+    }
+
+    static long generation() {
+        return CACHE.generation();
+    }
+
+    /**
+     * 여러 회의실을 한 번에 읽은 결과 저장(읽는 도중 무효화가 있었으면 버림)
+     */
+    static void putIfGeneration(int roomId, RoomOperatingCalendar calendar, long gen) {
+        CACHE.putIfGeneration(roomId, calendar, gen);
+    }
+
+    /**
+     * 운영시간/예외일 변경 커밋 후 호출
+     */
+    public static void invalidate(int roomId) {
+        CACHE.invalidate(roomId);
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+}
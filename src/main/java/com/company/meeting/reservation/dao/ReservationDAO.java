@@ -1,11 +1,22 @@
 package com.company.meeting.reservation.dao;
 
 import com.company.meeting.common.db.DBConnection;
+import com.company.meeting.common.db.UnitOfWork;
+import com.company.meeting.common.util.paging.CursorSlice;
+import com.company.meeting.common.util.paging.PageCursor;
+import com.company.meeting.common.util.search.SearchQuery;
+import com.company.meeting.reservation.conflict.ConflictStrategies;
+import com.company.meeting.reservation.conflict.ConflictStrategy;
+import com.company.meeting.reservation.calendar.OperatingWindow;
+import com.company.meeting.reservation.calendar.RoomOperatingCalendar;
 import com.company.meeting.reservation.dto.ReservationListItem;
 import com.company.meeting.reservation.dto.ReservationRoomPolicy;
 import com.company.meeting.reservation.dto.RoomDayOperating;
 import com.company.meeting.reservation.dto.RoomReservationItem;
 import com.company.meeting.reservation.dto.RoomReservationDayCount;
+import com.company.meeting.reservation.index.BookingIndex;
+import com.company.meeting.reservation.index.RoomBookings;
+import com.company.meeting.reservation.index.SlotOccupancy;
 
 import java.sql.*;
 import java.time.LocalDate;
@@ -14,7 +25,10 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ReservationDAO
@@ -24,11 +38,28 @@ import java.util.List;
  * - 동일 room_id, status=BOOKED
  * - 시간이 겹치면 실패
  * - buffer_minutes 반영을 위해 (start-buffer) ~ (end+buffer)로 확장해 판단
+ * - DB 잠금 전에 메모리 인덱스(BookingIndex)로 명백한 충돌을 먼저 거절한다(최종 판단은 DB).
+ *
+ * 충돌 판단 방식(배포 단위, -Dmeeting.reservation.conflictMode):
+ * - ConflictStrategy(range 기본 | room | named | slot)가 잠금/검사/점유를 맡는다.
  */
 public class ReservationDAO {
 
     private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-    private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final RoomDayStatsDAO dayStats = new RoomDayStatsDAO();
+    private final ConflictStrategy conflict;
+
+    public ReservationDAO() {
+        this(ConflictStrategies.configured());
+    }
+
+    /**
+     * 충돌 판단 전략 지정(벤치마크 등)
+     */
+    public ReservationDAO(ConflictStrategy conflict) {
+        this.conflict = conflict;
+    }
 
     // =========================================================
     // ✅ (추가) 관리자 수정/취소용 단건 조회 DTO (내부용)
@@ -51,6 +82,45 @@ public class ReservationDAO {
         public LocalDateTime getEnd() { return end; }
     }
 
+    // =========================================================
+    // ✅ 빈 회의실 찾기 후보(회의실 + 정책 + 해당 날짜 운영시간, 내부용)
+    // =========================================================
+    public static class FreeRoomCandidate {
+        private int roomId;
+        private String name;
+        private String location;
+        private int capacity;
+        private ReservationRoomPolicy policy;
+        private OperatingWindow window;
+
+        public int getRoomId() { return roomId; }
+        public String getName() { return name; }
+        public String getLocation() { return location; }
+        public int getCapacity() { return capacity; }
+        public ReservationRoomPolicy getPolicy() { return policy; }
+        public OperatingWindow getWindow() { return window; }
+    }
+
+    // =========================================================
+    // ✅ 반복/일괄 예약 1회차(내부용): 요청 시간 → 결과(id 또는 충돌 메시지)
+    // =========================================================
+    public static class SeriesSlot {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private int id;
+        private String conflictMessage;
+
+        public SeriesSlot(LocalDateTime start, LocalDateTime end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public LocalDateTime getStart() { return start; }
+        public LocalDateTime getEnd() { return end; }
+        public int getId() { return id; }
+        public String getConflictMessage() { return conflictMessage; }
+    }
+
     /**
      * ✅ (추가) 예약 단건 조회 (관리자 update/cancel 검증용)
      */
@@ -91,22 +161,12 @@ public class ReservationDAO {
      * - BOOKED만 CANCELED로 변경
      */
     public boolean cancelReservationByAdmin(int reservationId) throws SQLException {
-        String sql = ""
-                + "UPDATE reservation "
-                + "SET status='CANCELED' "
-                + "WHERE id=? AND status='BOOKED'";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-
-            ps.setInt(1, reservationId);
-            return ps.executeUpdate() == 1;
-        }
+        return cancelBooked(reservationId, 0);
     }
 
     /**
      * ✅ (추가) 예약 수정(충돌 체크 포함, 자기 자신 제외)
-     * - 트랜잭션 + FOR UPDATE 잠금으로 동시성 방지
+     * - 트랜잭션 + 충돌 판단 전략(ConflictStrategy)으로 동시성 방지
      * - status=BOOKED인 예약만 수정 가능
      */
     public boolean updateReservationWithConflictCheck(
@@ -132,16 +192,8 @@ public class ReservationDAO {
         final LocalDateTime startWithBuffer = startNorm.minusMinutes(buf);
         final LocalDateTime endWithBuffer = endNorm.plusMinutes(buf);
 
-        // ✅ 자기 자신(id<>?) 제외
-        final String sqlLock = ""
-                + "SELECT id, start_time, end_time "
-                + "FROM reservation "
-                + "WHERE room_id = ? AND status = 'BOOKED' "
-                + "  AND id <> ? "
-                + "  AND start_time < ? "
-                + "  AND end_time > ? "
-                + "ORDER BY start_time ASC "
-                + "LIMIT 1 FOR UPDATE";
+        // ✅ 메모리 인덱스로 먼저 거절(primary 1건 확인 후, DB 잠금 경쟁 감소)
+        precheckConflict(roomId, reservationId, startWithBuffer, endWithBuffer);
 
         final String sqlUpdate = ""
                 + "UPDATE reservation "
@@ -150,27 +202,24 @@ public class ReservationDAO {
 
         try (Connection conn = DBConnection.getConnection()) {
             conn.setAutoCommit(false);
+            boolean roomLocked = false;
 
             try {
-                // 1) 충돌 체크(+잠금)
-                try (PreparedStatement ps = conn.prepareStatement(sqlLock)) {
-                    ps.setInt(1, roomId);
-                    ps.setInt(2, reservationId);
-                    ps.setTimestamp(3, Timestamp.valueOf(endWithBuffer));
-                    ps.setTimestamp(4, Timestamp.valueOf(startWithBuffer));
-
-                    try (ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            int conflictId = rs.getInt("id");
-                            Timestamp cst = rs.getTimestamp("start_time");
-                            Timestamp cet = rs.getTimestamp("end_time");
-
-                            throw new SQLException("이미 해당 시간에 예약이 존재합니다. (conflictId="
-                                    + conflictId + ", " + cst + " ~ " + cet + ")");
-                        }
-                    }
+                // 0) 회의실 직렬화(전략에 따라) → 대상 행 잠금(변경 전 시간 → 일별 롤업 차감용)
+                conflict.lockRoom(conn, roomId);
+                roomLocked = true;
+
+                ReservationRow before = lockBookedRow(conn, reservationId);
+                if (before == null || before.roomId != roomId) {
+                    conn.commit(); // 변경 없음(잠금만 해제, 바깥 트랜잭션은 롤백 전용으로 만들지 않음)
+                    return false;
                 }
 
+                // 1) 충돌 체크(자기 자신 제외): 기존 점유 해제 → 겹침 검사 → 새 시간 점유
+                conflict.release(conn, reservationId);
+                conflict.checkOverlap(conn, roomId, reservationId, startWithBuffer, endWithBuffer);
+                conflict.claim(conn, reservationId, roomId, startNorm, endNorm, buf);
+
                 // 2) update
                 int updated;
                 try (PreparedStatement ps = conn.prepareStatement(sqlUpdate)) {
@@ -183,7 +232,18 @@ public class ReservationDAO {
                     updated = ps.executeUpdate();
                 }
 
+                // 3) 일별 롤업(같은 트랜잭션): 이전 시간 차감 + 새 시간 가산
+                if (updated == 1) {
+                    dayStats.applyBooking(conn, roomId, before.start, before.end, -1);
+                    dayStats.applyBooking(conn, roomId, startNorm, endNorm, +1);
+                }
+
                 conn.commit();
+
+                if (updated == 1) {
+                    final String t = (title == null) ? null : title.trim();
+                    UnitOfWork.afterCommit(() -> BookingIndex.onBooked(roomId, reservationId, t, startNorm, endNorm));
+                }
                 return updated == 1;
 
             } catch (Exception ex) {
@@ -191,6 +251,7 @@ public class ReservationDAO {
                 throw ex;
             } finally {
                 conn.setAutoCommit(true);
+                if (roomLocked) conflict.unlockRoom(conn, roomId);
             }
         }
     }
@@ -200,31 +261,280 @@ public class ReservationDAO {
         return dt.truncatedTo(java.time.temporal.ChronoUnit.MINUTES);
     }
 
+    // =========================================================
+    // ✅ 예약 구간 메모리 인덱스(BookingIndex)
+    // =========================================================
+
+    /**
+     * 회의실 인덱스(없으면 primary에서 로딩), 비활성화면 null
+     */
+    private RoomBookings roomBookings(int roomId) throws SQLException {
+        return BookingIndex.get(roomId, () -> loadRoomBookings(roomId, BookingIndex.horizonFrom(), BookingIndex.horizonTo()));
+    }
+
+    /**
+     * [from, to)와 겹치는 BOOKED 예약 전체 로딩(인덱스용)
+     * - 방금 커밋된 예약이 빠지지 않도록 replica가 아니라 primary에서 읽는다.
+     */
+    private RoomBookings loadRoomBookings(int roomId, LocalDateTime from, LocalDateTime to) throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            return selectRoomBookings(conn, roomId, from, to);
+        }
+    }
+
+    /**
+     * [from, to)와 겹치는 BOOKED 예약 조회(idx_reservation_room_time 범위 1회)
+     */
+    private RoomBookings selectRoomBookings(Connection conn, int roomId, LocalDateTime from, LocalDateTime to)
+            throws SQLException {
+        String sql = ""
+                + "SELECT id, title, start_time, end_time "
+                + "FROM reservation "
+                + "WHERE room_id = ? "
+                + "  AND status = 'BOOKED' "
+                + "  AND end_time > ? "
+                + "  AND start_time < ? "
+                + "ORDER BY start_time ASC, id ASC";
+
+        RoomBookings rb = new RoomBookings(roomId, from, to);
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, roomId);
+            ps.setTimestamp(2, Timestamp.valueOf(from));
+            ps.setTimestamp(3, Timestamp.valueOf(to));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Timestamp st = rs.getTimestamp("start_time");
+                    Timestamp et = rs.getTimestamp("end_time");
+                    if (st == null || et == null) continue;
+
+                    rb.put(rs.getInt("id"), rs.getString("title"),
+                            normalizeToMinute(st.toLocalDateTime()), normalizeToMinute(et.toLocalDateTime()));
+                }
+            }
+        }
+        return rb;
+    }
+
+    /**
+     * 빈 회의실 후보 조회(쿼리 1번)
+     * - 활성 + 수용 인원 + 위치(선택) 조건
+     * - [start, end)에 버퍼 포함 겹치는 BOOKED 예약이 없는 회의실만(NOT EXISTS, idx_reservation_room_time)
+     * - 해당 날짜 운영시간(예외 > 주간)을 함께 읽어 정책/운영시간 검증은 호출 측이 메모리에서 한다.
+     */
+    public List<FreeRoomCandidate> findFreeRoomCandidates(
+            LocalDateTime start, LocalDateTime end, int minCapacity, String location
+    ) throws SQLException {
+
+        boolean hasLocation = location != null && !location.isBlank();
+
+        String sql = ""
+                + "SELECT rm.id, rm.name, rm.location, rm.capacity, "
+                + "       rm.available_start_date, rm.available_end_date, "
+                + "       rm.slot_minutes, rm.min_minutes, rm.max_minutes, rm.buffer_minutes, rm.booking_open_days_ahead, "
+                + "       ex.id AS ex_id, ex.is_closed AS ex_closed, ex.open_time AS ex_open, ex.close_time AS ex_close, ex.reason AS ex_reason, "
+                + "       oh.is_closed AS wk_closed, oh.open_time AS wk_open, oh.close_time AS wk_close "
+                + "FROM room rm "
+                + "LEFT JOIN room_operating_exceptions ex ON ex.room_id = rm.id AND ex.exception_date = ? "
+                + "LEFT JOIN room_operating_hours oh ON oh.room_id = rm.id AND oh.dow = ? "
+                + "WHERE rm.is_active = 1 "
+                + "  AND rm.capacity >= ? "
+                + (hasLocation ? "  AND rm.location LIKE ? " : "")
+                + "  AND NOT EXISTS ( "
+                + "      SELECT 1 FROM reservation r "
+                + "      WHERE r.room_id = rm.id AND r.status = 'BOOKED' "
+                + "        AND r.start_time < DATE_ADD(?, INTERVAL rm.buffer_minutes MINUTE) "
+                + "        AND r.end_time > DATE_SUB(?, INTERVAL rm.buffer_minutes MINUTE) "
+                + "  ) "
+                + "ORDER BY rm.capacity ASC, rm.id ASC";
+
+        LocalDate date = start.toLocalDate();
+        List<FreeRoomCandidate> list = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int idx = 1;
+            ps.setDate(idx++, Date.valueOf(date));
+            ps.setInt(idx++, date.getDayOfWeek().getValue());
+            ps.setInt(idx++, Math.max(1, minCapacity));
+            if (hasLocation) ps.setString(idx++, "%" + location.trim() + "%");
+            ps.setTimestamp(idx++, Timestamp.valueOf(end));
+            ps.setTimestamp(idx, Timestamp.valueOf(start));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    FreeRoomCandidate c = new FreeRoomCandidate();
+                    c.roomId = rs.getInt("id");
+                    c.name = rs.getString("name");
+                    c.location = rs.getString("location");
+                    c.capacity = rs.getInt("capacity");
+
+                    ReservationRoomPolicy p = new ReservationRoomPolicy();
+                    p.setActive(true);
+                    Date as = rs.getDate("available_start_date");
+                    Date ae = rs.getDate("available_end_date");
+                    p.setAvailableStartDate(as == null ? null : as.toLocalDate().toString());
+                    p.setAvailableEndDate(ae == null ? null : ae.toLocalDate().toString());
+                    p.setSlotMinutes(rs.getInt("slot_minutes"));
+                    p.setMinMinutes(rs.getInt("min_minutes"));
+                    p.setMaxMinutes(rs.getInt("max_minutes"));
+                    p.setBufferMinutes(rs.getInt("buffer_minutes"));
+                    p.setBookingOpenDaysAhead(rs.getInt("booking_open_days_ahead"));
+                    c.policy = p;
+
+                    // 예외 > 주간 > (규칙 없음) 휴무
+                    if (rs.getObject("ex_id") != null) {
+                        c.window = operatingWindow(rs.getInt("ex_closed") == 1,
+                                rs.getTime("ex_open"), rs.getTime("ex_close"), rs.getString("ex_reason"));
+                    } else if (rs.getObject("wk_closed") != null) {
+                        c.window = operatingWindow(rs.getInt("wk_closed") == 1,
+                                rs.getTime("wk_open"), rs.getTime("wk_close"), null);
+                    } else {
+                        c.window = OperatingWindow.CLOSED;
+                    }
+                    list.add(c);
+                }
+            }
+        }
+
+        return list;
+    }
+
+    private static OperatingWindow operatingWindow(boolean closed, Time open, Time close, String reason) {
+        return OperatingWindow.of(closed,
+                (open == null) ? null : open.toLocalTime(),
+                (close == null) ? null : close.toLocalTime(),
+                reason);
+    }
+
+    /**
+     * 특정 날짜의 슬롯 비트맵(예약 + 운영 캘린더 + 정책에서 파생)
+     * - 예약은 DB에서 그 날짜(± 버퍼)만 조회한다(replica, 범위 쿼리 1회).
+     *   BookingIndex는 이 서버의 커밋만 반영하므로 화면에 보이는 빈 슬롯의 원천으로 쓰지 않는다.
+     * - 비활성 회의실/계산 불가 정책이면 null
+     */
+    public SlotOccupancy findSlotOccupancy(int roomId, LocalDate date) throws SQLException {
+        ReservationRoomPolicy policy = findRoomPolicy(roomId);
+        if (policy == null || !policy.isActive()) return null;
+
+        int buf = Math.max(0, policy.getBufferMinutes());
+        RoomBookings day;
+        try (Connection conn = DBConnection.getReadConnection()) {
+            day = selectRoomBookings(conn, roomId,
+                    date.atStartOfDay().minusMinutes(buf), date.plusDays(1).atStartOfDay().plusMinutes(buf));
+        }
+        return SlotOccupancy.buildRange(roomId, policy, findOperatingCalendar(roomId), day, date, 1);
+    }
+
+    /**
+     * 충돌 사전 검사
+     * - 인덱스는 이 서버(JVM)의 커밋만 반영하므로 겹침 발견은 "후보"일 뿐이다.
+     *   → primary에서 그 예약 1건을 다시 확인해 아직 BOOKED이고 겹칠 때만 거절(회의실 잠금 없이)
+     *   → 확인되지 않으면(다른 서버에서 취소/변경) 회의실 인덱스를 버리고 DB 충돌 체크로 넘긴다.
+     * - 범위 밖/비활성화/겹침 없음이면 아무것도 하지 않음(DB 충돌 체크가 판단)
+     */
+    private void precheckConflict(int roomId, int excludeId, LocalDateTime from, LocalDateTime to) throws SQLException {
+        RoomBookings rb = roomBookings(roomId);
+        if (rb == null || !rb.covers(from, to)) return;
+
+        RoomBookings.Booking b = rb.findOverlap(from, to, excludeId);
+        if (b == null) return;
+
+        String sql = ""
+                + "SELECT start_time, end_time "
+                + "FROM reservation "
+                + "WHERE id = ? AND room_id = ? AND status = 'BOOKED'";
+
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, b.getId());
+            ps.setInt(2, roomId);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    LocalDateTime s = normalizeToMinute(rs.getTimestamp("start_time").toLocalDateTime());
+                    LocalDateTime e = normalizeToMinute(rs.getTimestamp("end_time").toLocalDateTime());
+                    if (s.isBefore(to) && e.isAfter(from)) {
+                        throw new SQLException("이미 해당 시간에 예약이 존재합니다. (conflictId="
+                                + b.getId() + ", " + Timestamp.valueOf(s) + " ~ " + Timestamp.valueOf(e) + ")");
+                    }
+                }
+            }
+        }
+
+        // 인덱스가 오래됨 → 다음 조회 때 다시 로딩
+        BookingIndex.invalidate(roomId);
+    }
+
+    /**
+     * BOOKED 예약 행 잠금 조회(수정/취소 트랜잭션 안에서), 없으면 null
+     */
+    private ReservationRow lockBookedRow(Connection conn, int reservationId) throws SQLException {
+        String sql = ""
+                + "SELECT id, user_id, room_id, status, title, start_time, end_time "
+                + "FROM reservation "
+                + "WHERE id = ? AND status = 'BOOKED' "
+                + "FOR UPDATE";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, reservationId);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return null;
+
+                ReservationRow row = new ReservationRow();
+                row.id = rs.getInt("id");
+                row.userId = rs.getInt("user_id");
+                row.roomId = rs.getInt("room_id");
+                row.status = rs.getString("status");
+                row.title = rs.getString("title");
+                row.start = normalizeToMinute(rs.getTimestamp("start_time").toLocalDateTime());
+                row.end = normalizeToMinute(rs.getTimestamp("end_time").toLocalDateTime());
+                return row;
+            }
+        }
+    }
+
+    /**
+     * 예약 목록 검색 조건(제목 또는 회의실명)
+     * - FULLTEXT(ngram): reservation.title / room.name 인덱스 사용, 바인딩 2개
+     * - LIKE(짧은 검색어 등): 기존과 동일, 바인딩 2개
+     */
+    private static String titleOrRoomNameFilter(SearchQuery sq) {
+        if (sq.isEmpty()) return "";
+        if (sq.isFulltext()) {
+            return "AND (MATCH(r.title) AGAINST(? IN BOOLEAN MODE) "
+                    + "OR r.room_id IN (SELECT id FROM room WHERE MATCH(name) AGAINST(? IN BOOLEAN MODE))) ";
+        }
+        return "AND (IFNULL(r.title,'') LIKE ? OR rm.name LIKE ?) ";
+    }
+
     // =========================================================
     // ✅ (추가) 관리자/회의실 상세: roomId 기준 예약 목록 카운트
     // - ReservationListItem 재사용(룸 이름/위치 포함)
     // - q는 제목/회의실명 기준으로 필터(필요 시 추후 확장)
     // =========================================================
     public int countRoomReservations(int roomId, String q) throws SQLException {
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
         String sql = ""
                 + "SELECT COUNT(*) "
                 + "FROM reservation r "
                 + "JOIN room rm ON rm.id = r.room_id "
                 + "WHERE r.room_id = ? "
-                + (hasQ ? "AND (IFNULL(r.title,'') LIKE ? OR rm.name LIKE ?) " : "");
+                + titleOrRoomNameFilter(sq);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             int idx = 1;
             ps.setInt(idx++, roomId);
 
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(idx++, like);
-                ps.setString(idx, like);
+            if (!sq.isEmpty()) {
+                ps.setString(idx++, sq.bindValue());
+                ps.setString(idx, sq.bindValue());
             }
 
             try (ResultSet rs = ps.executeQuery()) {
@@ -240,7 +550,7 @@ public class ReservationDAO {
     // - status: BOOKED/CANCELED 모두 포함(원하면 where로 BOOKED만 제한 가능)
     // =========================================================
     public List<ReservationListItem> findRoomReservations(int roomId, String q, int offset, int size) throws SQLException {
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
         String sql = ""
                 + "SELECT r.id, r.room_id, rm.name AS room_name, rm.location AS room_location, "
@@ -248,22 +558,21 @@ public class ReservationDAO {
                 + "FROM reservation r "
                 + "JOIN room rm ON rm.id = r.room_id "
                 + "WHERE r.room_id = ? "
-                + (hasQ ? "AND (IFNULL(r.title,'') LIKE ? OR rm.name LIKE ?) " : "")
+                + titleOrRoomNameFilter(sq)
                 + "ORDER BY r.start_time DESC "
                 + "LIMIT ? OFFSET ?";
 
         List<ReservationListItem> list = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             int idx = 1;
             ps.setInt(idx++, roomId);
 
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(idx++, like);
-                ps.setString(idx++, like);
+            if (!sq.isEmpty()) {
+                ps.setString(idx++, sq.bindValue());
+                ps.setString(idx++, sq.bindValue());
             }
 
             ps.setInt(idx++, size);
@@ -297,25 +606,24 @@ public class ReservationDAO {
     }
 
     public int countMyReservations(int userId, String q) throws SQLException {
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
         String sql = ""
                 + "SELECT COUNT(*) "
                 + "FROM reservation r "
                 + "JOIN room rm ON rm.id = r.room_id "
                 + "WHERE r.user_id = ? "
-                + (hasQ ? "AND (rm.name LIKE ? OR IFNULL(r.title,'') LIKE ?) " : "");
+                + titleOrRoomNameFilter(sq);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             int idx = 1;
             ps.setInt(idx++, userId);
 
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(idx++, like);
-                ps.setString(idx, like);
+            if (!sq.isEmpty()) {
+                ps.setString(idx++, sq.bindValue());
+                ps.setString(idx, sq.bindValue());
             }
 
             try (ResultSet rs = ps.executeQuery()) {
@@ -326,7 +634,7 @@ public class ReservationDAO {
     }
 
     public List<ReservationListItem> findMyReservations(int userId, String q, int offset, int size) throws SQLException {
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
         String sql = ""
                 + "SELECT r.id, r.room_id, rm.name AS room_name, rm.location AS room_location, "
@@ -334,22 +642,21 @@ public class ReservationDAO {
                 + "FROM reservation r "
                 + "JOIN room rm ON rm.id = r.room_id "
                 + "WHERE r.user_id = ? "
-                + (hasQ ? "AND (rm.name LIKE ? OR IFNULL(r.title,'') LIKE ?) " : "")
+                + titleOrRoomNameFilter(sq)
                 + "ORDER BY r.start_time DESC "
                 + "LIMIT ? OFFSET ?";
 
         List<ReservationListItem> list = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             int idx = 1;
             ps.setInt(idx++, userId);
 
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(idx++, like);
-                ps.setString(idx++, like);
+            if (!sq.isEmpty()) {
+                ps.setString(idx++, sq.bindValue());
+                ps.setString(idx++, sq.bindValue());
             }
 
             ps.setInt(idx++, size);
@@ -381,15 +688,115 @@ public class ReservationDAO {
         return list;
     }
 
+    // =========================================================
+    // ✅ 커서(keyset) 페이징: 내 예약 / 회의실 예약 목록
+    // - 정렬: start_time DESC, id DESC (동일 시각은 id로 구분)
+    // - OFFSET 없이 "마지막으로 본 행" 다음부터 읽으므로 깊은 페이지도 일정 비용
+    // - size+1개를 읽어 다음 페이지 존재 여부를 판단(COUNT 쿼리 불필요)
+    // =========================================================
+    public CursorSlice<ReservationListItem> findMyReservationsByCursor(
+            int userId, String q, PageCursor cursor, int size) throws SQLException {
+        return findReservationsByCursor("r.user_id", userId, q, cursor, size);
+    }
+
+    public CursorSlice<ReservationListItem> findRoomReservationsByCursor(
+            int roomId, String q, PageCursor cursor, int size) throws SQLException {
+        return findReservationsByCursor("r.room_id", roomId, q, cursor, size);
+    }
+
+    /**
+     * @param ownerColumn "r.user_id" 또는 "r.room_id"(내부 상수만 전달)
+     */
+    private CursorSlice<ReservationListItem> findReservationsByCursor(
+            String ownerColumn, int ownerId, String q, PageCursor cursor, int size) throws SQLException {
+
+        SearchQuery sq = SearchQuery.of(q);
+
+        String sql = ""
+                + "SELECT r.id, r.room_id, rm.name AS room_name, rm.location AS room_location, "
+                + "       r.title, r.status, r.start_time, r.end_time, r.created_at "
+                + "FROM reservation r "
+                + "JOIN room rm ON rm.id = r.room_id "
+                + "WHERE " + ownerColumn + " = ? "
+                + titleOrRoomNameFilter(sq)
+                + (cursor != null ? "AND (r.start_time < ? OR (r.start_time = ? AND r.id < ?)) " : "")
+                + "ORDER BY r.start_time DESC, r.id DESC "
+                + "LIMIT ?";
+
+        List<ReservationListItem> list = new ArrayList<>();
+        LocalDateTime lastStart = null;
+
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int idx = 1;
+            ps.setInt(idx++, ownerId);
+
+            if (!sq.isEmpty()) {
+                ps.setString(idx++, sq.bindValue());
+                ps.setString(idx++, sq.bindValue());
+            }
+
+            if (cursor != null) {
+                Timestamp cst = Timestamp.valueOf(cursor.getStartTime());
+                ps.setTimestamp(idx++, cst);
+                ps.setTimestamp(idx++, cst);
+                ps.setInt(idx++, cursor.getId());
+            }
+
+            ps.setInt(idx, size + 1);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    if (list.size() == size) {
+                        // size+1번째 행: 다음 페이지가 있다는 표시만
+                        return new CursorSlice<>(list,
+                                new PageCursor(lastStart, list.get(size - 1).getId()).encode(), true);
+                    }
+
+                    ReservationListItem it = new ReservationListItem();
+                    it.setId(rs.getInt("id"));
+                    it.setRoomId(rs.getInt("room_id"));
+                    it.setRoomName(rs.getString("room_name"));
+                    it.setRoomLocation(rs.getString("room_location"));
+                    it.setTitle(rs.getString("title"));
+                    it.setStatus(rs.getString("status"));
+
+                    Timestamp st = rs.getTimestamp("start_time");
+                    Timestamp et = rs.getTimestamp("end_time");
+                    Timestamp ct = rs.getTimestamp("created_at");
+
+                    it.setStartTime(st == null ? "" : st.toLocalDateTime().format(DT_FMT));
+                    it.setEndTime(et == null ? "" : et.toLocalDateTime().format(DT_FMT));
+                    it.setCreatedAt(ct == null ? "" : ct.toLocalDateTime().format(DT_FMT));
+
+                    // ✅ 커서는 화면 포맷(분 단위)이 아닌 원래 값으로 만든다.
+                    lastStart = (st == null) ? null : st.toLocalDateTime();
+
+                    list.add(it);
+                }
+            }
+        }
+
+        return new CursorSlice<>(list, null, false);
+    }
+
     /**
      * room 정책 조회 (예약 검증용)
      */
     public ReservationRoomPolicy findRoomPolicy(int roomId) throws SQLException {
+        // ✅ 정책은 거의 안 바뀌므로 캐시 우선(회의실 변경 커밋 시 무효화)
+        return RoomPolicyCache.get(roomId, () -> selectRoomPolicy(roomId));
+    }
+
+    private ReservationRoomPolicy selectRoomPolicy(int roomId) throws SQLException {
         String sql = ""
                 + "SELECT is_active, available_start_date, available_end_date, "
                 + "       slot_minutes, min_minutes, max_minutes, buffer_minutes, booking_open_days_ahead "
                 + "FROM room WHERE id = ?";
 
+        // ✅ 캐시 채우기용 → primary에서 읽는다.
+        // - 회의실 수정 커밋 직후 무효화된 다음 로딩이 지연된 replica의 이전 정책을 TTL 동안 캐시하지 않도록
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
@@ -421,69 +828,152 @@ public class ReservationDAO {
      * 특정 날짜 운영시간 조회
      * - 예외 테이블 우선
      * - 없으면 주간 운영시간(dow) 사용
+     * - 회의실 운영 캘린더(캐시)에서 계산 → 날짜마다 쿼리하지 않음
      */
     public RoomDayOperating findOperatingForDate(int roomId, LocalDate date) throws SQLException {
-        // 1) exception 우선
-        String sqlEx = ""
-                + "SELECT is_closed, open_time, close_time, reason "
-                + "FROM room_operating_exceptions "
-                + "WHERE room_id = ? AND exception_date = ?";
+        return findOperatingCalendar(roomId).windowFor(date).toDayOperating();
+    }
 
-        // 2) weekly fallback
+    /**
+     * 회의실 운영 캘린더(주간 규칙 + 예외일 전체)
+     * - 캐시 우선(회의실/운영시간 변경 커밋 시 무효화, 예외일은 TTL)
+     */
+    public RoomOperatingCalendar findOperatingCalendar(int roomId) throws SQLException {
+        return OperatingCalendarCache.get(roomId, () -> selectOperatingCalendar(roomId));
+    }
+
+    /**
+     * 여러 회의실 운영 캘린더
+     * - 캐시에 없는 회의실만 모아 쿼리 2번(주간/예외, room_id IN)으로 읽고 캐시에 채운다.
+     */
+    public Map<Integer, RoomOperatingCalendar> findOperatingCalendars(Collection<Integer> roomIds) throws SQLException {
+        Map<Integer, RoomOperatingCalendar> result = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : roomIds) {
+            RoomOperatingCalendar cal = OperatingCalendarCache.peek(id);
+            if (cal != null) result.put(id, cal);
+            else missing.add(id);
+        }
+        if (missing.isEmpty()) return result;
+
+        long gen = OperatingCalendarCache.generation();
+
+        Map<Integer, RoomOperatingCalendar.Builder> builders = new HashMap<>();
+        for (Integer id : missing) builders.put(id, RoomOperatingCalendar.builder(id));
+
+        String in = inPlaceholders(missing.size());
         String sqlWeekly = ""
-                + "SELECT is_closed, open_time, close_time "
+                + "SELECT room_id, dow, is_closed, open_time, close_time "
                 + "FROM room_operating_hours "
-                + "WHERE room_id = ? AND dow = ?";
+                + "WHERE room_id IN (" + in + ")";
+        String sqlEx = ""
+                + "SELECT room_id, exception_date, is_closed, open_time, close_time, reason "
+                + "FROM room_operating_exceptions "
+                + "WHERE room_id IN (" + in + ")";
 
+        // ✅ 캐시 채우기용 → primary에서 읽는다(selectOperatingCalendar와 같은 이유).
         try (Connection conn = DBConnection.getConnection()) {
 
-            try (PreparedStatement ps = conn.prepareStatement(sqlEx)) {
-                ps.setInt(1, roomId);
-                ps.setDate(2, Date.valueOf(date));
+            try (PreparedStatement ps = conn.prepareStatement(sqlWeekly)) {
+                bindInts(ps, 1, missing);
                 try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        boolean closed = rs.getInt("is_closed") == 1;
+                    while (rs.next()) {
                         Time ot = rs.getTime("open_time");
                         Time ct = rs.getTime("close_time");
+                        builders.get(rs.getInt("room_id")).weekly(
+                                rs.getInt("dow"),
+                                rs.getInt("is_closed") == 1,
+                                (ot == null) ? null : ot.toLocalTime(),
+                                (ct == null) ? null : ct.toLocalTime()
+                        );
+                    }
+                }
+            }
 
-                        String open = (ot == null) ? null : ot.toLocalTime().format(TIME_FMT);
-                        String close = (ct == null) ? null : ct.toLocalTime().format(TIME_FMT);
-                        String reason = rs.getString("reason");
-
-                        return new RoomDayOperating(closed, open, close, reason);
+            try (PreparedStatement ps = conn.prepareStatement(sqlEx)) {
+                bindInts(ps, 1, missing);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        Time ot = rs.getTime("open_time");
+                        Time ct = rs.getTime("close_time");
+                        builders.get(rs.getInt("room_id")).exception(
+                                rs.getDate("exception_date").toLocalDate(),
+                                rs.getInt("is_closed") == 1,
+                                (ot == null) ? null : ot.toLocalTime(),
+                                (ct == null) ? null : ct.toLocalTime(),
+                                rs.getString("reason")
+                        );
                     }
                 }
             }
+        }
+
+        for (Map.Entry<Integer, RoomOperatingCalendar.Builder> e : builders.entrySet()) {
+            RoomOperatingCalendar cal = e.getValue().build();
+            OperatingCalendarCache.putIfGeneration(e.getKey(), cal, gen);
+            result.put(e.getKey(), cal);
+        }
+        return result;
+    }
+
+    private RoomOperatingCalendar selectOperatingCalendar(int roomId) throws SQLException {
+        String sqlWeekly = ""
+                + "SELECT dow, is_closed, open_time, close_time "
+                + "FROM room_operating_hours "
+                + "WHERE room_id = ?";
+
+        String sqlEx = ""
+                + "SELECT exception_date, is_closed, open_time, close_time, reason "
+                + "FROM room_operating_exceptions "
+                + "WHERE room_id = ? "
+                + "ORDER BY exception_date";
 
-            int dow = date.getDayOfWeek().getValue(); // 1=월..7=일
+        RoomOperatingCalendar.Builder b = RoomOperatingCalendar.builder(roomId);
+
+        // ✅ 캐시 채우기용 → primary에서 읽는다.
+        // - 운영시간/예외일 수정 직후 무효화된 다음 로딩이 지연된 replica의 이전 캘린더를 TTL 동안 캐시하지 않도록
+        try (Connection conn = DBConnection.getConnection()) {
 
             try (PreparedStatement ps = conn.prepareStatement(sqlWeekly)) {
                 ps.setInt(1, roomId);
-                ps.setInt(2, dow);
                 try (ResultSet rs = ps.executeQuery()) {
-                    if (!rs.next()) {
-                        return new RoomDayOperating(true, null, null, null);
+                    while (rs.next()) {
+                        Time ot = rs.getTime("open_time");
+                        Time ct = rs.getTime("close_time");
+                        b.weekly(
+                                rs.getInt("dow"),
+                                rs.getInt("is_closed") == 1,
+                                (ot == null) ? null : ot.toLocalTime(),
+                                (ct == null) ? null : ct.toLocalTime()
+                        );
                     }
+                }
+            }
 
-                    boolean closed = rs.getInt("is_closed") == 1;
-                    Time ot = rs.getTime("open_time");
-                    Time ct = rs.getTime("close_time");
-
-                    String open = (ot == null) ? null : ot.toLocalTime().format(TIME_FMT);
-                    String close = (ct == null) ? null : ct.toLocalTime().format(TIME_FMT);
-
-                    return new RoomDayOperating(closed, open, close, null);
+            try (PreparedStatement ps = conn.prepareStatement(sqlEx)) {
+                ps.setInt(1, roomId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        Time ot = rs.getTime("open_time");
+                        Time ct = rs.getTime("close_time");
+                        b.exception(
+                                rs.getDate("exception_date").toLocalDate(),
+                                rs.getInt("is_closed") == 1,
+                                (ot == null) ? null : ot.toLocalTime(),
+                                (ct == null) ? null : ct.toLocalTime(),
+                                rs.getString("reason")
+                        );
+                    }
                 }
             }
         }
+
+        return b.build();
     }
 
     /**
      * 예약 생성(충돌 체크 포함)
-     * - 트랜잭션 안에서 "겹치는 예약 row"를 잠금으로 확인
-     *
-     * ✅ MySQL 문법 주의:
-     * - LIMIT이 FOR UPDATE 보다 먼저 와야 함
+     * - 트랜잭션 안에서 충돌 판단 전략(ConflictStrategy)으로 겹침 확인
      */
     public int insertReservationWithConflictCheck(
             int userId, int roomId, String title,
@@ -509,14 +999,8 @@ public class ReservationDAO {
         final LocalDateTime startWithBuffer = startNorm.minusMinutes(buf);
         final LocalDateTime endWithBuffer = endNorm.plusMinutes(buf);
 
-        final String sqlLock = ""
-                + "SELECT id, start_time, end_time "
-                + "FROM reservation "
-                + "WHERE room_id = ? AND status = 'BOOKED' "
-                + "  AND start_time < ? "
-                + "  AND end_time > ? "
-                + "ORDER BY start_time ASC "
-                + "LIMIT 1 FOR UPDATE";
+        // ✅ 메모리 인덱스로 먼저 거절(primary 1건 확인 후, 인기 시간대 경쟁에서 DB 잠금까지 가지 않음)
+        precheckConflict(roomId, 0, startWithBuffer, endWithBuffer);
 
         final String sqlInsert = ""
                 + "INSERT INTO reservation (user_id, room_id, title, status, start_time, end_time) "
@@ -524,26 +1008,13 @@ public class ReservationDAO {
 
         try (Connection conn = DBConnection.getConnection()) {
             conn.setAutoCommit(false);
+            boolean roomLocked = false;
 
             try {
-                // 1) 충돌 체크(+잠금)
-                try (PreparedStatement ps = conn.prepareStatement(sqlLock)) {
-                    ps.setInt(1, roomId);
-                    ps.setTimestamp(2, Timestamp.valueOf(endWithBuffer));
-                    ps.setTimestamp(3, Timestamp.valueOf(startWithBuffer));
-
-                    try (ResultSet rs = ps.executeQuery()) {
-                        if (rs.next()) {
-                            int conflictId = rs.getInt("id");
-                            Timestamp cst = rs.getTimestamp("start_time");
-                            Timestamp cet = rs.getTimestamp("end_time");
-
-                            // ✅ 어떤 예약과 충돌인지 메시지에 박아버리면 즉시 원인 파악 가능
-                            throw new SQLException("이미 해당 시간에 예약이 존재합니다. (conflictId="
-                                    + conflictId + ", " + cst + " ~ " + cet + ")");
-                        }
-                    }
-                }
+                // 1) 충돌 체크(+잠금): 회의실 직렬화(전략에 따라) → 겹침 검사
+                conflict.lockRoom(conn, roomId);
+                roomLocked = true;
+                conflict.checkOverlap(conn, roomId, 0, startWithBuffer, endWithBuffer);
 
                 // 2) insert
                 int newId;
@@ -562,7 +1033,17 @@ public class ReservationDAO {
                     }
                 }
 
+                // 2-1) 시간 점유(slot: 겹치면 duplicate key → 대기 없이 실패)
+                conflict.claim(conn, newId, roomId, startNorm, endNorm, buf);
+
+                // 3) 일별 롤업(같은 트랜잭션)
+                dayStats.applyBooking(conn, roomId, startNorm, endNorm, +1);
+
                 conn.commit();
+
+                final int id = newId;
+                final String t = (title == null) ? null : title.trim();
+                UnitOfWork.afterCommit(() -> BookingIndex.onBooked(roomId, id, t, startNorm, endNorm));
                 return newId;
 
             } catch (Exception ex) {
@@ -570,15 +1051,167 @@ public class ReservationDAO {
                 throw ex;
             } finally {
                 conn.setAutoCommit(true);
+                if (roomLocked) conflict.unlockRoom(conn, roomId);
             }
         }
     }
 
 
 
+    /**
+     * 반복/일괄 예약 생성(같은 회의실 여러 회차, 트랜잭션 1번)
+     * - 회차마다 잠금/검사/INSERT를 반복하지 않고:
+     *   회의실 직렬화(전략) → 전체 기간 범위 잠금 조회 1번 → 메모리에서 회차별 겹침 판정 → 다중 VALUES INSERT 1번
+     * - 겹치는 회차는 건너뛰고 conflictMessage에 사유(단건 생성과 같은 형식), 나머지는 id를 채운다.
+     * - 시리즈 안의 회차끼리 겹쳐도 뒤 회차를 충돌로 본다.
+     * - slot 모드의 점유 실패(동시 요청)는 회차별로 가를 수 없어 전체 rollback(SQLException)
+     */
+    public void insertReservationSeries(
+            int userId, int roomId, String title,
+            List<SeriesSlot> slots,
+            int bufferMinutes
+    ) throws SQLException {
+
+        if (slots == null || slots.isEmpty()) return;
+
+        final int buf = Math.max(0, bufferMinutes);
+        final String t = (title == null) ? null : title.trim();
+
+        LocalDateTime spanFrom = null;
+        LocalDateTime spanTo = null;
+        for (SeriesSlot s : slots) {
+            if (s.start == null || s.end == null) throw new SQLException("예약 시간이 올바르지 않습니다.");
+            if (!normalizeToMinute(s.end).isAfter(normalizeToMinute(s.start))) {
+                throw new SQLException("종료시간은 시작시간보다 커야 합니다.");
+            }
+            LocalDateTime f = normalizeToMinute(s.start).minusMinutes(buf);
+            LocalDateTime e = normalizeToMinute(s.end).plusMinutes(buf);
+            if (spanFrom == null || f.isBefore(spanFrom)) spanFrom = f;
+            if (spanTo == null || e.isAfter(spanTo)) spanTo = e;
+        }
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            boolean roomLocked = false;
+
+            try {
+                // 1) 회의실 직렬화(전략에 따라) → 전체 기간의 BOOKED 행을 한 번에 잠금 조회
+                conflict.lockRoom(conn, roomId);
+                roomLocked = true;
+
+                RoomBookings taken = lockBookedInRange(conn, roomId, spanFrom, spanTo);
+
+                // 2) 회차별 겹침 판정(메모리)
+                List<SeriesSlot> accepted = new ArrayList<>();
+                for (SeriesSlot s : slots) {
+                    LocalDateTime st = normalizeToMinute(s.start);
+                    LocalDateTime et = normalizeToMinute(s.end);
+
+                    RoomBookings.Booking b = taken.findOverlap(st.minusMinutes(buf), et.plusMinutes(buf), 0);
+                    if (b != null) {
+                        s.conflictMessage = (b.getId() > 0)
+                                ? "이미 해당 시간에 예약이 존재합니다. (conflictId=" + b.getId() + ", "
+                                        + Timestamp.valueOf(b.getStart()) + " ~ " + Timestamp.valueOf(b.getEnd()) + ")"
+                                : "같은 요청의 다른 회차와 겹칩니다. (" + Timestamp.valueOf(b.getStart()) + " ~ " + Timestamp.valueOf(b.getEnd()) + ")";
+                        continue;
+                    }
+                    taken.put(-(accepted.size() + 1), t, st, et); // 시리즈 내 회차(음수 임시 id)
+                    accepted.add(s);
+                }
+
+                if (accepted.isEmpty()) {
+                    conn.commit(); // 변경 없음(잠금만 해제, 바깥 트랜잭션은 롤백 전용으로 만들지 않음)
+                    return;
+                }
+
+                // 3) insert(다중 VALUES 1문장, 생성 키는 VALUES 순서)
+                StringBuilder sql = new StringBuilder(
+                        "INSERT INTO reservation (user_id, room_id, title, status, start_time, end_time) VALUES ");
+                for (int i = 0; i < accepted.size(); i++) sql.append(i == 0 ? "(?, ?, ?, 'BOOKED', ?, ?)" : ", (?, ?, ?, 'BOOKED', ?, ?)");
+
+                try (PreparedStatement ps = conn.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS)) {
+                    int idx = 1;
+                    for (SeriesSlot s : accepted) {
+                        ps.setInt(idx++, userId);
+                        ps.setInt(idx++, roomId);
+                        ps.setString(idx++, t);
+                        ps.setTimestamp(idx++, Timestamp.valueOf(normalizeToMinute(s.start)));
+                        ps.setTimestamp(idx++, Timestamp.valueOf(normalizeToMinute(s.end)));
+                    }
+                    ps.executeUpdate();
+
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        for (SeriesSlot s : accepted) {
+                            if (!keys.next()) throw new SQLException("예약 ID를 가져오지 못했습니다.");
+                            s.id = keys.getInt(1);
+                        }
+                    }
+                }
+
+                // 4) 시간 점유(slot) + 일별 롤업(같은 트랜잭션)
+                for (SeriesSlot s : accepted) {
+                    LocalDateTime st = normalizeToMinute(s.start);
+                    LocalDateTime et = normalizeToMinute(s.end);
+                    conflict.claim(conn, s.id, roomId, st, et, buf);
+                    dayStats.applyBooking(conn, roomId, st, et, +1);
+                }
+
+                conn.commit();
+
+                for (SeriesSlot s : accepted) {
+                    final int id = s.id;
+                    final LocalDateTime st = normalizeToMinute(s.start);
+                    final LocalDateTime et = normalizeToMinute(s.end);
+                    UnitOfWork.afterCommit(() -> BookingIndex.onBooked(roomId, id, t, st, et));
+                }
+
+            } catch (Exception ex) {
+                for (SeriesSlot s : slots) s.id = 0;
+                conn.rollback();
+                throw ex;
+            } finally {
+                conn.setAutoCommit(true);
+                if (roomLocked) conflict.unlockRoom(conn, roomId);
+            }
+        }
+    }
+
+    /**
+     * [from, to)와 겹치는 BOOKED 예약 전체를 잠금 읽기(범위 SELECT ... FOR UPDATE 1번)
+     * - 반복 예약처럼 여러 회차를 한 번에 판정할 때 사용
+     */
+    private RoomBookings lockBookedInRange(Connection conn, int roomId, LocalDateTime from, LocalDateTime to) throws SQLException {
+        String sql = ""
+                + "SELECT id, title, start_time, end_time "
+                + "FROM reservation "
+                + "WHERE room_id = ? AND status = 'BOOKED' "
+                + "  AND start_time < ? "
+                + "  AND end_time > ? "
+                + "ORDER BY start_time ASC "
+                + "FOR UPDATE";
+
+        RoomBookings rb = new RoomBookings(roomId, from, to);
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, roomId);
+            ps.setTimestamp(2, Timestamp.valueOf(to));
+            ps.setTimestamp(3, Timestamp.valueOf(from));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rb.put(rs.getInt("id"), rs.getString("title"),
+                            normalizeToMinute(rs.getTimestamp("start_time").toLocalDateTime()),
+                            normalizeToMinute(rs.getTimestamp("end_time").toLocalDateTime()));
+                }
+            }
+        }
+        return rb;
+    }
+
     /**
      * ✅ (추가) 특정 회의실의 특정 일자 예약 목록(BOOKED)
      * - 타임테이블 렌더링용
+     * - 다른 서버에서 생성/취소된 예약도 보이도록 BookingIndex가 아니라 DB(replica)에서 조회
      */
     public List<RoomReservationItem> findRoomReservationsForDate(int roomId, LocalDate date) throws SQLException {
         String sql = ""
@@ -595,7 +1228,7 @@ public class ReservationDAO {
 
         List<RoomReservationItem> list = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setInt(1, roomId);
@@ -621,11 +1254,82 @@ public class ReservationDAO {
         return list;
     }
 
+    /**
+     * 여러 회의실 × 기간: (회의실, 날짜)별 예약 건수/예약 분(BOOKED) — 쿼리 1번
+     * - roomIds가 비어 있으면 전체 회의실
+     * - 날짜는 예약 시작일 기준(예약은 하루 안에서만 가능)
+     * @return roomId → (date → int[]{count, bookedMinutes})
+     */
+    public Map<Integer, Map<LocalDate, int[]>> sumRoomDayTotals(
+            List<Integer> roomIds, LocalDate from, LocalDate toInclusive
+    ) throws SQLException {
+
+        // ✅ 일별 롤업(room_day_stats)에서 회의실당 최대 31행
+        if (RoomDayStatsDAO.isEnabled()) {
+            return dayStats.findTotals(roomIds, from, toInclusive);
+        }
+
+        boolean filter = roomIds != null && !roomIds.isEmpty();
+
+        String sql = ""
+                + "SELECT room_id, DATE(start_time) AS d, COUNT(*) AS cnt, "
+                + "       SUM(TIMESTAMPDIFF(MINUTE, start_time, end_time)) AS mins "
+                + "FROM reservation "
+                + "WHERE status = 'BOOKED' "
+                + (filter ? "  AND room_id IN (" + inPlaceholders(roomIds.size()) + ") " : "")
+                + "  AND start_time >= ? "
+                + "  AND start_time < ? "
+                + "GROUP BY room_id, DATE(start_time)";
+
+        Map<Integer, Map<LocalDate, int[]>> result = new HashMap<>();
+
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            int idx = filter ? bindInts(ps, 1, roomIds) : 1;
+            ps.setTimestamp(idx++, Timestamp.valueOf(from.atStartOfDay()));
+            ps.setTimestamp(idx, Timestamp.valueOf(toInclusive.plusDays(1).atStartOfDay()));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    Date d = rs.getDate("d");
+                    if (d == null) continue;
+                    result.computeIfAbsent(rs.getInt("room_id"), k -> new HashMap<>())
+                            .put(d.toLocalDate(), new int[]{rs.getInt("cnt"), rs.getInt("mins")});
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static String inPlaceholders(int n) {
+        StringBuilder sb = new StringBuilder(n * 2);
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append('?');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return 다음 바인딩 위치
+     */
+    private static int bindInts(PreparedStatement ps, int idx, Collection<Integer> values) throws SQLException {
+        for (Integer v : values) ps.setInt(idx++, v);
+        return idx;
+    }
+
     /**
      * ✅ (추가) 특정 회의실 월 단위: 날짜별 예약 건수(BOOKED)
      * - 달력(일자별 count)용
      */
     public List<RoomReservationDayCount> countRoomReservationsByMonth(int roomId, YearMonth ym) throws SQLException {
+        // ✅ 일별 롤업(room_day_stats)에서 최대 31행
+        if (RoomDayStatsDAO.isEnabled()) {
+            return dayStats.findMonth(roomId, ym);
+        }
+
         String sql = ""
                 + "SELECT DATE(start_time) AS d, COUNT(*) AS cnt "
                 + "FROM reservation "
@@ -641,7 +1345,7 @@ public class ReservationDAO {
 
         List<RoomReservationDayCount> list = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
             ps.setInt(1, roomId);
@@ -668,18 +1372,54 @@ public class ReservationDAO {
      * 예약 취소 (본인 예약만)
      */
     public boolean cancelMyReservation(int userId, int reservationId) throws SQLException {
+        if (userId <= 0) return false;
+        return cancelBooked(reservationId, userId);
+    }
+
+    /**
+     * BOOKED → CANCELED (트랜잭션)
+     * - 대상 행 잠금 → 상태 변경 → 일별 롤업 차감 + 점유 해제(slot) → commit → 메모리 인덱스 반영
+     * @param ownerUserId 0이면 소유자 확인 안 함(관리자)
+     */
+    private boolean cancelBooked(int reservationId, int ownerUserId) throws SQLException {
         String sql = ""
                 + "UPDATE reservation "
                 + "SET status='CANCELED' "
-                + "WHERE id=? AND user_id=? AND status='BOOKED'";
+                + "WHERE id=? AND status='BOOKED'";
 
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
 
-            ps.setInt(1, reservationId);
-            ps.setInt(2, userId);
+            try {
+                ReservationRow row = lockBookedRow(conn, reservationId);
+                if (row == null || (ownerUserId > 0 && row.userId != ownerUserId)) {
+                    conn.commit(); // 변경 없음(잠금만 해제, 바깥 트랜잭션은 롤백 전용으로 만들지 않음)
+                    return false;
+                }
 
-            return ps.executeUpdate() == 1;
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, reservationId);
+                    if (ps.executeUpdate() != 1) {
+                        conn.commit(); // 변경 없음
+                        return false;
+                    }
+                }
+
+                dayStats.applyBooking(conn, row.roomId, row.start, row.end, -1);
+                conflict.release(conn, reservationId);
+
+                conn.commit();
+
+                final int roomId = row.roomId;
+                UnitOfWork.afterCommit(() -> BookingIndex.onCanceled(roomId, reservationId));
+                return true;
+
+            } catch (Exception ex) {
+                conn.rollback();
+                throw ex;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         }
     }
 }
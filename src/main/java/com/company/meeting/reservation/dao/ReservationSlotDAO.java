@@ -0,0 +1,141 @@
+package com.company.meeting.reservation.dao;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReservationSlotDAO
+ * - reservation_slot(room_id, slot_start) 점유 테이블: 예약 1건 = 점유 행 N개
+ * - PK(room_id, slot_start)가 유니크이므로 겹치는 예약은 INSERT가 duplicate key로 바로 실패한다.
+ *   → 범위 SELECT ... FOR UPDATE(next-key/gap 잠금)가 없어 인접 시간대 예약끼리 서로 막거나 교착되지 않는다.
+ *
+ * 점유 범위:
+ * - [start, end + buffer) 를 grain 분 단위 칸으로 나눠 모두 점유
+ * - 두 예약이 모두 뒤쪽 버퍼를 점유하므로 "앞뒤 버퍼 확장 후 겹침"(lock 모드)과 같은 판정이 된다.
+ * - 시각이 grain 배수가 아니면 바깥쪽으로 반올림(더 보수적으로 거절)
+ *
+ * 설정(배포 단위):
+ * - -Dmeeting.reservation.conflictMode=slot 일 때만 사용(SlotClaimStrategy)
+ * - -Dmeeting.reservation.slotGrainMinutes=5 (60의 약수, 운영 중 변경 시 점유 행 재생성 필요)
+ *
+ * 유지 규칙:
+ * - ReservationDAO의 생성/수정/취소가 같은 트랜잭션 안에서 claim/release(SlotClaimStrategy 경유)
+ * - 회원/회의실 삭제: reservation CASCADE → reservation_slot CASCADE
+ * - lock → slot 전환 시: db/migration/004_reservation_slot.sql 백필을 다시 실행
+ */
+public class ReservationSlotDAO {
+
+    private static final int ER_DUP_ENTRY = 1062;
+
+    private static final int GRAIN_MINUTES = readGrain();
+
+    public static int grainMinutes() {
+        return GRAIN_MINUTES;
+    }
+
+    /**
+     * 예약 시간 점유(호출 측 트랜잭션에 참여)
+     * - 칸은 시간 순으로 한 문장에 넣는다(여러 트랜잭션이 같은 순서로 잠금 → 교착 방지)
+     * @return false면 이미 점유된 칸이 있음(duplicate key) → 호출 측이 rollback
+     */
+    public boolean claim(Connection conn, int reservationId, int roomId,
+                         LocalDateTime start, LocalDateTime end, int bufferMinutes) throws SQLException {
+
+        List<LocalDateTime> slots = slotsOf(start, end, bufferMinutes);
+        if (slots.isEmpty()) return true;
+
+        StringBuilder sql = new StringBuilder("INSERT INTO reservation_slot (room_id, slot_start, reservation_id) VALUES ");
+        for (int i = 0; i < slots.size(); i++) sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+
+        try (PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            int idx = 1;
+            for (LocalDateTime s : slots) {
+                ps.setInt(idx++, roomId);
+                ps.setTimestamp(idx++, Timestamp.valueOf(s));
+                ps.setInt(idx++, reservationId);
+            }
+            ps.executeUpdate();
+            return true;
+
+        } catch (SQLIntegrityConstraintViolationException e) {
+            if (e.getErrorCode() == ER_DUP_ENTRY) return false;
+            throw e;
+        }
+    }
+
+    /**
+     * 예약의 점유 해제(취소/수정 전)
+     */
+    public int release(Connection conn, int reservationId) throws SQLException {
+        String sql = "DELETE FROM reservation_slot WHERE reservation_id = ?";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, reservationId);
+            return ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 충돌 오류 메시지(잠금 없는 읽기로 상대 예약을 찾아 lock 모드와 같은 형식으로)
+     * - 상대가 아직 커밋 전이면 보이지 않을 수 있음 → 상대 정보 없이
+     */
+    public String conflictMessage(Connection conn, int roomId, int excludeId,
+                                 LocalDateTime start, LocalDateTime end, int bufferMinutes) throws SQLException {
+
+        List<LocalDateTime> slots = slotsOf(start, end, bufferMinutes);
+        String msg = "이미 해당 시간에 예약이 존재합니다.";
+        if (slots.isEmpty()) return msg;
+
+        String sql = ""
+                + "SELECT r.id, r.start_time, r.end_time "
+                + "FROM reservation_slot s "
+                + "JOIN reservation r ON r.id = s.reservation_id "
+                + "WHERE s.room_id = ? AND s.slot_start >= ? AND s.slot_start < ? "
+                + "  AND s.reservation_id <> ? "
+                + "ORDER BY s.slot_start ASC "
+                + "LIMIT 1";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, roomId);
+            ps.setTimestamp(2, Timestamp.valueOf(slots.get(0)));
+            ps.setTimestamp(3, Timestamp.valueOf(slots.get(slots.size() - 1).plusMinutes(GRAIN_MINUTES)));
+            ps.setInt(4, excludeId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) return msg;
+                return msg + " (conflictId=" + rs.getInt("id") + ", "
+                        + rs.getTimestamp("start_time") + " ~ " + rs.getTimestamp("end_time") + ")";
+            }
+        }
+    }
+
+    /**
+     * 점유할 칸 시작 시각 목록: [floor(start), ceil(end + buffer)) / grain
+     */
+    static List<LocalDateTime> slotsOf(LocalDateTime start, LocalDateTime end, int bufferMinutes) {
+        LocalDateTime from = floorToGrain(start);
+        LocalDateTime to = end.plusMinutes(Math.max(0, bufferMinutes));
+
+        List<LocalDateTime> slots = new ArrayList<>();
+        for (LocalDateTime s = from; s.isBefore(to); s = s.plusMinutes(GRAIN_MINUTES)) {
+            slots.add(s);
+        }
+        return slots;
+    }
+
+    private static LocalDateTime floorToGrain(LocalDateTime dt) {
+        LocalDateTime m = dt.withSecond(0).withNano(0);
+        return m.minusMinutes(m.getMinute() % GRAIN_MINUTES);
+    }
+
+    private static int readGrain() {
+        try {
+            int g = Integer.parseInt(System.getProperty("meeting.reservation.slotGrainMinutes", "5").trim());
+            return (g > 0 && 60 % g == 0) ? g : 5;
+        } catch (NumberFormatException e) {
+            return 5;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.company.meeting.reservation.dao;
+
+import com.company.meeting.common.db.DBConnection;
+import com.company.meeting.reservation.dto.RoomReservationDayCount;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RoomDayStatsDAO
+ * - room_day_stats(회의실 × 날짜별 BOOKED 건수/예약 분) 롤업 테이블
+ * - 달력/매트릭스 조회가 원본 reservation을 GROUP BY DATE(start_time) 하지 않도록 미리 합산해 둔다.
+ *
+ * 유지 규칙:
+ * - ReservationDAO의 생성/수정/취소가 "같은 트랜잭션 안에서" apply()로 증감
+ * - 회원 삭제(예약 CASCADE): UserDAO가 삭제 전에 subtractUserBookings()
+ * - 회의실 삭제: FK CASCADE로 함께 삭제
+ * - 그 외 경로(DB 직접 수정 등)로 어긋나면 verify()로 확인, rebuild()로 재계산
+ *
+ * 설정:
+ * - -Dmeeting.stats.rollup=false : 롤업을 쓰지 않음(유지/조회 모두 원본 집계) → 다시 켤 때는 rebuild 필요
+ *
+ * 날짜 기준:
+ * - 예약 시작일(예약은 하루 안에서만 가능)
+ */
+public class RoomDayStatsDAO {
+
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("meeting.stats.rollup", "true").trim());
+
+    // 원본 집계(재계산/검증 기준)
+    private static final String SQL_RAW = ""
+            + "SELECT room_id, DATE(start_time) AS d, COUNT(*) AS cnt, "
+            + "       SUM(TIMESTAMPDIFF(MINUTE, start_time, end_time)) AS mins "
+            + "FROM reservation "
+            + "WHERE status = 'BOOKED' AND start_time >= ? AND start_time < ? "
+            + "GROUP BY room_id, DATE(start_time)";
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // =========================================================
+    // 증감(호출 측 트랜잭션에 참여)
+    // =========================================================
+
+    /**
+     * (회의실, 날짜) 증감
+     * - 호출 측 커넥션(트랜잭션)을 그대로 사용한다.
+     */
+    public void apply(Connection conn, int roomId, LocalDate date, int deltaCount, long deltaMinutes) throws SQLException {
+        if (!ENABLED) return;
+
+        String sql = ""
+                + "INSERT INTO room_day_stats (room_id, stat_date, booked_count, booked_minutes) "
+                + "VALUES (?, ?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE "
+                + "  booked_count = booked_count + VALUES(booked_count), "
+                + "  booked_minutes = booked_minutes + VALUES(booked_minutes)";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, roomId);
+            ps.setDate(2, Date.valueOf(date));
+            ps.setInt(3, deltaCount);
+            ps.setLong(4, deltaMinutes);
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 예약 1건(start~end) 추가/제거 반영
+     */
+    public void applyBooking(Connection conn, int roomId, LocalDateTime start, LocalDateTime end, int sign)
+            throws SQLException {
+        long minutes = java.time.Duration.between(start, end).toMinutes();
+        apply(conn, roomId, start.toLocalDate(), sign, sign * minutes);
+    }
+
+    /**
+     * 회원 삭제 전: 해당 회원의 BOOKED 예약만큼 차감(CASCADE로 예약이 사라지므로)
+     */
+    public void subtractUserBookings(Connection conn, int userId) throws SQLException {
+        if (!ENABLED) return;
+
+        String sql = ""
+                + "UPDATE room_day_stats s "
+                + "JOIN ( "
+                + "  SELECT room_id, DATE(start_time) AS d, COUNT(*) AS cnt, "
+                + "         SUM(TIMESTAMPDIFF(MINUTE, start_time, end_time)) AS mins "
+                + "  FROM reservation "
+                + "  WHERE user_id = ? AND status = 'BOOKED' "
+                + "  GROUP BY room_id, DATE(start_time) "
+                + ") x ON x.room_id = s.room_id AND x.d = s.stat_date "
+                + "SET s.booked_count = s.booked_count - x.cnt, "
+                + "    s.booked_minutes = s.booked_minutes - x.mins";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, userId);
+            ps.executeUpdate();
+        }
+    }
+
+    // =========================================================
+    // 조회
+    // =========================================================
+
+    /**
+     * 회의실 월 단위 날짜별 건수(최대 31행)
+     */
+    public List<RoomReservationDayCount> findMonth(int roomId, YearMonth ym) throws SQLException {
+        String sql = ""
+                + "SELECT stat_date, booked_count "
+                + "FROM room_day_stats "
+                + "WHERE room_id = ? AND stat_date BETWEEN ? AND ? AND booked_count > 0 "
+                + "ORDER BY stat_date ASC";
+
+        List<RoomReservationDayCount> list = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, roomId);
+            ps.setDate(2, Date.valueOf(ym.atDay(1)));
+            ps.setDate(3, Date.valueOf(ym.atEndOfMonth()));
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    RoomReservationDayCount it = new RoomReservationDayCount();
+                    it.setDate(rs.getDate("stat_date").toString());
+                    it.setCount(rs.getInt("booked_count"));
+                    list.add(it);
+                }
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * 여러 회의실 × 기간 합계
+     * @return roomId → (date → int[]{count, bookedMinutes})
+     */
+    public Map<Integer, Map<LocalDate, int[]>> findTotals(List<Integer> roomIds, LocalDate from, LocalDate toInclusive)
+            throws SQLException {
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT room_id, stat_date, booked_count, booked_minutes ")
+                .append("FROM room_day_stats ")
+                .append("WHERE stat_date BETWEEN ? AND ? AND booked_count > 0 ");
+        if (roomIds != null && !roomIds.isEmpty()) {
+            sql.append("AND room_id IN (");
+            for (int i = 0; i < roomIds.size(); i++) sql.append(i == 0 ? "?" : ",?");
+            sql.append(")");
+        }
+
+        Map<Integer, Map<LocalDate, int[]>> result = new HashMap<>();
+
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+
+            int idx = 1;
+            ps.setDate(idx++, Date.valueOf(from));
+            ps.setDate(idx++, Date.valueOf(toInclusive));
+            if (roomIds != null) {
+                for (Integer id : roomIds) ps.setInt(idx++, id);
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    result.computeIfAbsent(rs.getInt("room_id"), k -> new HashMap<>())
+                            .put(rs.getDate("stat_date").toLocalDate(),
+                                    new int[]{rs.getInt("booked_count"), rs.getInt("booked_minutes")});
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // =========================================================
+    // 검증/재계산(관리자 1회성 작업)
+    // =========================================================
+
+    /**
+     * 롤업과 원본 집계 비교
+     * @return 불일치 목록(최대 limit개): { roomId, date, statCount, statMinutes, rawCount, rawMinutes }
+     */
+    public List<Map<String, Object>> verify(LocalDate from, LocalDate toInclusive, int limit) throws SQLException {
+        Map<String, long[]> raw = new LinkedHashMap<>();   // "roomId|date" → {cnt, mins}
+        Map<String, long[]> stat = new LinkedHashMap<>();
+
+        String sqlStat = ""
+                + "SELECT room_id, stat_date AS d, booked_count AS cnt, booked_minutes AS mins "
+                + "FROM room_day_stats "
+                + "WHERE stat_date BETWEEN ? AND ?";
+
+        // ✅ 비교는 primary 기준(replica 지연으로 인한 가짜 불일치 방지)
+        try (Connection conn = DBConnection.getConnection()) {
+            try (PreparedStatement ps = conn.prepareStatement(SQL_RAW)) {
+                ps.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+                ps.setTimestamp(2, Timestamp.valueOf(toInclusive.plusDays(1).atStartOfDay()));
+                readInto(ps, raw);
+            }
+            try (PreparedStatement ps = conn.prepareStatement(sqlStat)) {
+                ps.setDate(1, Date.valueOf(from));
+                ps.setDate(2, Date.valueOf(toInclusive));
+                readInto(ps, stat);
+            }
+        }
+
+        List<Map<String, Object>> diffs = new ArrayList<>();
+        Map<String, long[]> keys = new LinkedHashMap<>(raw);
+        for (Map.Entry<String, long[]> e : stat.entrySet()) keys.putIfAbsent(e.getKey(), e.getValue());
+
+        for (String key : keys.keySet()) {
+            long[] r = raw.getOrDefault(key, new long[2]);
+            long[] s = stat.getOrDefault(key, new long[2]);
+            if (r[0] == s[0] && r[1] == s[1]) continue;
+
+            String[] parts = key.split("\\|");
+            Map<String, Object> d = new LinkedHashMap<>();
+            d.put("roomId", Integer.parseInt(parts[0]));
+            d.put("date", parts[1]);
+            d.put("statCount", s[0]);
+            d.put("statMinutes", s[1]);
+            d.put("rawCount", r[0]);
+            d.put("rawMinutes", r[1]);
+            diffs.add(d);
+            if (limit > 0 && diffs.size() >= limit) break;
+        }
+        return diffs;
+    }
+
+    /**
+     * 기간 재계산(삭제 후 원본 집계로 다시 채움, 한 트랜잭션)
+     * @return 채운 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate toInclusive) throws SQLException {
+        String sqlDelete = "DELETE FROM room_day_stats WHERE stat_date BETWEEN ? AND ?";
+        String sqlInsert = ""
+                + "INSERT INTO room_day_stats (room_id, stat_date, booked_count, booked_minutes) "
+                + "SELECT room_id, d, cnt, mins FROM (" + SQL_RAW + ") x";
+
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                try (PreparedStatement ps = conn.prepareStatement(sqlDelete)) {
+                    ps.setDate(1, Date.valueOf(from));
+                    ps.setDate(2, Date.valueOf(toInclusive));
+                    ps.executeUpdate();
+                }
+
+                int inserted;
+                try (PreparedStatement ps = conn.prepareStatement(sqlInsert)) {
+                    ps.setTimestamp(1, Timestamp.valueOf(from.atStartOfDay()));
+                    ps.setTimestamp(2, Timestamp.valueOf(toInclusive.plusDays(1).atStartOfDay()));
+                    inserted = ps.executeUpdate();
+                }
+
+                conn.commit();
+                return inserted;
+
+            } catch (Exception ex) {
+                conn.rollback();
+                throw ex;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static void readInto(PreparedStatement ps, Map<String, long[]> out) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                long cnt = rs.getLong("cnt");
+                long mins = rs.getLong("mins");
+                if (cnt == 0 && mins == 0) continue; // 0행은 "없음"과 같다
+                out.put(rs.getInt("room_id") + "|" + rs.getDate("d"), new long[]{cnt, mins});
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.meeting.reservation.dao;
+
+import com.company.meeting.common.util.cache.TtlCache;
+import com.company.meeting.reservation.dto.ReservationRoomPolicy;
+
+import java.sql.SQLException;
+
+/**
+ * RoomPolicyCache
+ * - 회의실 예약 정책(ReservationRoomPolicy) read-through 캐시(room_id 기준)
+ * - 정책은 거의 바뀌지 않는데 예약 생성/수정, 일/월 현황 조회마다 읽히므로 메모리에 둔다.
+ *
+ * 무효화:
+ * - RoomDAO의 생성/수정/삭제가 commit된 직후 invalidate(roomId) (UnitOfWork.afterCommit)
+ * - DB를 직접 수정한 경우를 위한 안전망: TTL(기본 5분, -Dmeeting.cache.roomPolicy.ttlMs)
+ * - 로더는 primary에서 읽는다(무효화 직후 replica 지연으로 이전 값을 다시 채우지 않도록).
+ *
+ * 주의:
+ * - 반환 객체는 캐시와 공유되므로 호출 측에서 수정하지 않는다(검증용 읽기 전용).
+ * - 조회 도중 무효화가 일어나면 방금 읽은(이전일 수 있는) 값은 캐시에 넣지 않는다(TtlCache).
+ */
+public final class RoomPolicyCache {
+
+    private static final TtlCache<Integer, ReservationRoomPolicy> CACHE =
+            new TtlCache<>(2_000, readTtlMs("meeting.cache.roomPolicy.ttlMs", 300_000L));
+
+    private RoomPolicyCache() {}
+
+    static ReservationRoomPolicy get(int roomId, TtlCache.Loader<ReservationRoomPolicy, SQLException> loader)
+            throws SQLException {
+        return CACHE.getOrLoad(roomId, loader);
+    }
+
+    /**
+     * 회의실 변경/삭제 커밋 후 호출
+     */
+    public static void invalidate(int roomId) {
+        CACHE.invalidate(roomId);
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    static long readTtlMs(String key, long def) {
+        try {
+            return Long.parseLong(System.getProperty(key, String.valueOf(def)).trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.meeting.reservation.dto;
+
+/**
+ * FreeRoomItem
+ * - 빈 회의실 찾기 결과 1건(요청 시간대에 바로 예약 가능한 회의실)
+ */
+public class FreeRoomItem {
+    private int roomId;
+    private String name;
+    private String location;
+    private int capacity;
+
+    private int slotMinutes;
+    private int minMinutes;
+    private int maxMinutes;
+    private int bufferMinutes;
+
+    private String openTime;  // "HH:mm" (해당 날짜 운영 시작)
+    private String closeTime; // "HH:mm" (해당 날짜 운영 종료)
+
+    public FreeRoomItem() {}
+
+    public int getRoomId() { return roomId; }
+    public void setRoomId(int roomId) { this.roomId = roomId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+
+    public int getSlotMinutes() { return slotMinutes; }
+    public void setSlotMinutes(int slotMinutes) { this.slotMinutes = slotMinutes; }
+
+    public int getMinMinutes() { return minMinutes; }
+    public void setMinMinutes(int minMinutes) { this.minMinutes = minMinutes; }
+
+    public int getMaxMinutes() { return maxMinutes; }
+    public void setMaxMinutes(int maxMinutes) { this.maxMinutes = maxMinutes; }
+
+    public int getBufferMinutes() { return bufferMinutes; }
+    public void setBufferMinutes(int bufferMinutes) { this.bufferMinutes = bufferMinutes; }
+
+    public String getOpenTime() { return openTime; }
+    public void setOpenTime(String openTime) { this.openTime = openTime; }
+
+    public String getCloseTime() { return closeTime; }
+    public void setCloseTime(String closeTime) { this.closeTime = closeTime; }
+}
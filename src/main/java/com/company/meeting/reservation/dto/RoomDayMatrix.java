@@ -0,0 +1,60 @@
+package com.company.meeting.reservation.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RoomDayMatrix
+ * - 여러 회의실 × 기간(최대 31일) 현황 매트릭스
+ * - 응답 크기를 줄이기 위해 회의실마다 "날짜 순 배열"(열 방향)로 담는다.
+ *   rooms[i].bookedMinutes[d] = from + d일의 예약 분 합계
+ */
+public class RoomDayMatrix {
+
+    private String from; // yyyy-MM-dd
+    private String to;   // yyyy-MM-dd (포함)
+    private int days;
+    private List<Row> rooms = new ArrayList<>();
+
+    public String getFrom() { return from; }
+    public void setFrom(String from) { this.from = from; }
+
+    public String getTo() { return to; }
+    public void setTo(String to) { this.to = to; }
+
+    public int getDays() { return days; }
+    public void setDays(int days) { this.days = days; }
+
+    public List<Row> getRooms() { return rooms; }
+    public void setRooms(List<Row> rooms) { this.rooms = rooms; }
+
+    /**
+     * 회의실 1개 행
+     */
+    public static class Row {
+        private int roomId;
+        private String name;
+        private boolean active;
+        private int[] bookedMinutes; // 날짜별 예약 분(BOOKED)
+        private int[] openMinutes;   // 날짜별 운영 분(예외 > 주간, 휴무 0)
+        private int[] counts;        // 날짜별 예약 건수(BOOKED)
+
+        public int getRoomId() { return roomId; }
+        public void setRoomId(int roomId) { this.roomId = roomId; }
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public boolean isActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+
+        public int[] getBookedMinutes() { return bookedMinutes; }
+        public void setBookedMinutes(int[] bookedMinutes) { this.bookedMinutes = bookedMinutes; }
+
+        public int[] getOpenMinutes() { return openMinutes; }
+        public void setOpenMinutes(int[] openMinutes) { this.openMinutes = openMinutes; }
+
+        public int[] getCounts() { return counts; }
+        public void setCounts(int[] counts) { this.counts = counts; }
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.meeting.reservation.dto;
+
+/**
+ * SeriesOccurrenceItem
+ * - 반복/일괄 예약 생성 결과 1회차
+ * - status: CREATED(생성, id 있음) | CONFLICT(기존 예약과 겹침) | INVALID(정책/운영시간 위반)
+ */
+public class SeriesOccurrenceItem {
+    private String date;      // yyyy-MM-dd
+    private String startTime; // yyyy-MM-dd HH:mm
+    private String endTime;   // yyyy-MM-dd HH:mm
+    private String status;
+    private int id;
+    private String message;
+
+    public SeriesOccurrenceItem() {}
+
+    public String getDate() { return date; }
+    public void setDate(String date) { this.date = date; }
+
+    public String getStartTime() { return startTime; }
+    public void setStartTime(String startTime) { this.startTime = startTime; }
+
+    public String getEndTime() { return endTime; }
+    public void setEndTime(String endTime) { this.endTime = endTime; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,105 @@
+package com.company.meeting.reservation.index;
+
+import com.company.meeting.common.util.cache.TtlCache;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * BookingIndex
+ * - 회의실별 RoomBookings(예약 구간 메모리 인덱스) 보관소
+ * - 용도: 예약 생성/수정 전 충돌 사전 검사(겹침 후보를 찾으면 primary 1건 확인 후 DB 잠금 전에 거절)
+ * - 최종 판단은 항상 DB(FOR UPDATE 충돌 체크)가 한다. 인덱스는 "명백히 겹치는" 요청을 먼저 걸러낼 뿐이다.
+ * - 이 서버의 커밋만 반영되므로 화면 조회(일자 타임테이블/빈 슬롯)의 원천으로는 쓰지 않는다(DB 조회).
+ *
+ * 동기화:
+ * - 로딩: 오늘-1일 ~ 오늘+horizonDays 범위의 BOOKED 예약을 primary에서 한 번에 읽음
+ * - 생성/수정/취소: DAO가 commit 이후(UnitOfWork.afterCommit) onBooked/onCanceled 호출
+ * - 캐시에 없는 회의실 변경 → invalidate로 세대만 올려 진행 중인 로딩 결과를 버린다.
+ * - 회의실/회원 삭제(CASCADE) 등 그 외 경로: invalidate/clear + TTL 안전망
+ *
+ * 설정:
+ * - -Dmeeting.index.enabled=false : 사용 안 함(항상 DB)
+ * - -Dmeeting.index.horizonDays=90 : 인덱스 범위(일)
+ * - -Dmeeting.cache.roomBookings.ttlMs=300000 : 재로딩 주기(다른 인스턴스/DB 직접 수정 반영)
+ */
+public final class BookingIndex {
+
+    private static final boolean ENABLED =
+            !"false".equalsIgnoreCase(System.getProperty("meeting.index.enabled", "true").trim());
+
+    private static final int HORIZON_DAYS = (int) readLong("meeting.index.horizonDays", 90L);
+
+    private static final TtlCache<Integer, RoomBookings> CACHE =
+            new TtlCache<>(5_000, readLong("meeting.cache.roomBookings.ttlMs", 300_000L));
+
+    private BookingIndex() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 로딩 범위 시작(포함)
+     */
+    public static LocalDateTime horizonFrom() {
+        return LocalDate.now().minusDays(1).atStartOfDay();
+    }
+
+    /**
+     * 로딩 범위 끝(제외)
+     */
+    public static LocalDateTime horizonTo() {
+        return LocalDate.now().plusDays(HORIZON_DAYS + 1L).atStartOfDay();
+    }
+
+    /**
+     * 회의실 인덱스(없으면 loader로 로딩)
+     * - 비활성화 상태면 null
+     */
+    public static RoomBookings get(int roomId, TtlCache.Loader<RoomBookings, SQLException> loader) throws SQLException {
+        if (!ENABLED) return null;
+        return CACHE.getOrLoad(roomId, loader);
+    }
+
+    /**
+     * 생성/수정 커밋 후
+     */
+    public static void onBooked(int roomId, int reservationId, String title, LocalDateTime start, LocalDateTime end) {
+        RoomBookings rb = CACHE.get(roomId);
+        if (rb == null) {
+            CACHE.invalidate(roomId);
+            return;
+        }
+        rb.put(reservationId, title, start, end);
+    }
+
+    /**
+     * 취소 커밋 후
+     */
+    public static void onCanceled(int roomId, int reservationId) {
+        RoomBookings rb = CACHE.get(roomId);
+        if (rb == null) {
+            CACHE.invalidate(roomId);
+            return;
+        }
+        rb.remove(reservationId);
+    }
+
+    public static void invalidate(int roomId) {
+        CACHE.invalidate(roomId);
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Long.parseLong(System.getProperty(key, String.valueOf(def)).trim());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
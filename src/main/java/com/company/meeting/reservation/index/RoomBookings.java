@@ -0,0 +1,248 @@
+package com.company.meeting.reservation.index;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RoomBookings
+ * - 회의실 1개의 BOOKED 예약 구간을 시작시각 순 정렬 배열로 보관(메모리 인덱스)
+ * - 시각은 "epoch 기준 분"(벽시계 시간, ZoneOffset.UTC로 환산) long으로 저장
+ *
+ * 범위(coverage):
+ * - [coverFrom, coverTo)와 겹치는 예약만 담는다.
+ * - 이 범위를 벗어난 조회는 covers()가 false → 호출 측이 DB로 조회한다.
+ *
+ * 겹침 검사:
+ * - 시작시각 이진 탐색 + 최대 예약 길이(maxLength)만큼만 뒤로 스캔 → O(log n + k)
+ *
+ * 스레드 안전성:
+ * - 모든 접근 synchronized(회의실당 예약 수가 작아 경합 비용이 낮다)
+ */
+public final class RoomBookings {
+
+    /**
+     * 조회 결과(불변)
+     */
+    public static final class Booking {
+        private final int id;
+        private final String title;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        Booking(int id, String title, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.title = title;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getId() { return id; }
+        public String getTitle() { return title; }
+        public LocalDateTime getStart() { return start; }
+        public LocalDateTime getEnd() { return end; }
+    }
+
+    private final int roomId;
+    private final long coverFrom;
+    private final long coverTo;
+
+    private long[] starts = new long[8];
+    private long[] ends = new long[8];
+    private int[] ids = new int[8];
+    private String[] titles = new String[8];
+    private int size;
+    private long maxLength;
+    private long version; // 변경될 때마다 증가(파생 구조 재계산 판단용)
+
+    public RoomBookings(int roomId, LocalDateTime coverFrom, LocalDateTime coverTo) {
+        this.roomId = roomId;
+        this.coverFrom = toMinute(coverFrom);
+        this.coverTo = toMinute(coverTo);
+    }
+
+    public int getRoomId() {
+        return roomId;
+    }
+
+    /**
+     * [from, to)가 인덱스 범위 안인지
+     */
+    public boolean covers(LocalDateTime from, LocalDateTime to) {
+        return toMinute(from) >= coverFrom && toMinute(to) <= coverTo;
+    }
+
+    public boolean covers(LocalDate date) {
+        return covers(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * [from, to)와 겹치는 첫 예약(excludeId 제외), 없으면 null
+     * - 범위 밖 조회는 null(판단 불가) → covers()로 먼저 확인
+     */
+    public synchronized Booking findOverlap(LocalDateTime from, LocalDateTime to, int excludeId) {
+        long f = toMinute(from);
+        long t = toMinute(to);
+        if (f < coverFrom || t > coverTo || t <= f) return null;
+
+        int hi = lowerBound(t);                 // start < t 인 구간: [0, hi)
+        int i = lowerBound(f - maxLength);      // 그보다 앞은 end <= f 확정
+        for (; i < hi; i++) {
+            if (ends[i] > f && ids[i] != excludeId) return booking(i);
+        }
+        return null;
+    }
+
+    /**
+     * 특정 날짜에 시작하는 예약 목록(시작시각 순)
+     */
+    public synchronized List<Booking> startingOn(LocalDate date) {
+        long f = toMinute(date.atStartOfDay());
+        long t = toMinute(date.plusDays(1).atStartOfDay());
+
+        List<Booking> list = new ArrayList<>();
+        for (int i = lowerBound(f); i < size && starts[i] < t; i++) {
+            list.add(booking(i));
+        }
+        return list;
+    }
+
+    /**
+     * [from, to)와 겹치는 예약 목록(시작시각 순)
+     */
+    public synchronized List<Booking> overlapping(LocalDateTime from, LocalDateTime to) {
+        long f = toMinute(from);
+        long t = toMinute(to);
+
+        List<Booking> list = new ArrayList<>();
+        int hi = lowerBound(t);
+        for (int i = lowerBound(f - maxLength); i < hi; i++) {
+            if (ends[i] > f) list.add(booking(i));
+        }
+        return list;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * 인덱스 범위 끝(제외)
+     */
+    public LocalDateTime getCoverTo() {
+        return toDateTime(coverTo);
+    }
+
+    // =========================================================
+    // 변경(커밋 이후 DAO에서 반영)
+    // =========================================================
+
+    /**
+     * 추가(같은 id가 있으면 교체)
+     */
+    public synchronized void put(int id, String title, LocalDateTime start, LocalDateTime end) {
+        version++;
+        removeAt(indexOfId(id));
+
+        long s = toMinute(start);
+        long e = toMinute(end);
+        if (e <= coverFrom || s >= coverTo || e <= s) return; // 범위 밖은 보관하지 않음
+
+        if (size == starts.length) grow();
+
+        int at = upperBound(s);
+        int tail = size - at;
+        if (tail > 0) {
+            System.arraycopy(starts, at, starts, at + 1, tail);
+            System.arraycopy(ends, at, ends, at + 1, tail);
+            System.arraycopy(ids, at, ids, at + 1, tail);
+            System.arraycopy(titles, at, titles, at + 1, tail);
+        }
+        starts[at] = s;
+        ends[at] = e;
+        ids[at] = id;
+        titles[at] = title;
+        size++;
+
+        maxLength = Math.max(maxLength, e - s);
+    }
+
+    public synchronized void remove(int id) {
+        version++;
+        removeAt(indexOfId(id));
+    }
+
+    // =========================================================
+    // 내부
+    // =========================================================
+
+    private Booking booking(int i) {
+        return new Booking(ids[i], titles[i], toDateTime(starts[i]), toDateTime(ends[i]));
+    }
+
+    private int indexOfId(int id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) return i;
+        }
+        return -1;
+    }
+
+    private void removeAt(int i) {
+        if (i < 0) return;
+        int tail = size - i - 1;
+        if (tail > 0) {
+            System.arraycopy(starts, i + 1, starts, i, tail);
+            System.arraycopy(ends, i + 1, ends, i, tail);
+            System.arraycopy(ids, i + 1, ids, i, tail);
+            System.arraycopy(titles, i + 1, titles, i, tail);
+        }
+        size--;
+        titles[size] = null;
+        // maxLength는 줄이지 않는다(스캔 범위가 조금 넓어질 뿐 결과는 동일)
+    }
+
+    private void grow() {
+        int n = starts.length * 2;
+        starts = Arrays.copyOf(starts, n);
+        ends = Arrays.copyOf(ends, n);
+        ids = Arrays.copyOf(ids, n);
+        titles = Arrays.copyOf(titles, n);
+    }
+
+    /** 첫 번째 starts[i] >= key */
+    private int lowerBound(long key) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** 첫 번째 starts[i] > key */
+    private int upperBound(long key) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    static long toMinute(LocalDateTime dt) {
+        return dt.toEpochSecond(ZoneOffset.UTC) / 60L;
+    }
+
+    static LocalDateTime toDateTime(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60L, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,363 @@
+package com.company.meeting.reservation.index;
+
+import com.company.meeting.reservation.calendar.OperatingWindow;
+import com.company.meeting.reservation.calendar.RoomOperatingCalendar;
+import com.company.meeting.reservation.dto.ReservationRoomPolicy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/**
+ * SlotOccupancy
+ * - 회의실 1개의 "예약 가능한 슬롯" 비트맵(불변 스냅샷)
+ * - 하루 = slotsPerDay 비트(1 = 운영 중 + 예약/버퍼와 겹치지 않음), 날짜마다 wordsPerDay개의 long
+ *   예) slot 30분 → 48비트 → 하루 long 1개, 90일 ≈ 720바이트
+ *
+ * 파생 원천:
+ * - 운영 캘린더(예외 > 주간): 운영 구간 안에 "완전히" 들어가는 슬롯만 1
+ * - 정책: 예약 가능 기간(available_start/end) 밖의 날짜는 0
+ * - 예약(RoomBookings): [start-buffer, end+buffer)와 겹치는 슬롯은 0
+ *   → 슬롯 경계에 맞춘 새 예약은 "비트가 모두 1"이면 버퍼 포함 충돌 없음
+ *
+ * 범위:
+ * - firstDay(빌드 당일) ~ booking_open_days_ahead (예약 인덱스 범위를 넘지 않음)
+ *
+ * 재계산:
+ * - isCurrent()로 원천(예약 version, 캘린더/정책 객체, 날짜)이 그대로인지 확인 후 재사용
+ */
+public final class SlotOccupancy {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int roomId;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+    private final int wordsPerDay;
+    private final LocalDate firstDay;
+    private final int days;
+    private final long[] bits;
+
+    // 원천 식별(재사용 판단)
+    private final RoomOperatingCalendar calendar;
+    private final ReservationRoomPolicy policy;
+    private final RoomBookings bookings;
+    private final long bookingsVersion;
+
+    private SlotOccupancy(int roomId, int slotMinutes, LocalDate firstDay, int days,
+                          RoomOperatingCalendar calendar, ReservationRoomPolicy policy,
+                          RoomBookings bookings, long bookingsVersion) {
+        this.roomId = roomId;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = MINUTES_PER_DAY / slotMinutes;
+        this.wordsPerDay = (slotsPerDay + 63) >>> 6;
+        this.firstDay = firstDay;
+        this.days = days;
+        this.bits = new long[wordsPerDay * days];
+        this.calendar = calendar;
+        this.policy = policy;
+        this.bookings = bookings;
+        this.bookingsVersion = bookingsVersion;
+    }
+
+    // =========================================================
+    // 빌드
+    // =========================================================
+
+    /**
+     * 원천 데이터로 비트맵 생성
+     * - slot_minutes가 하루를 나누지 못하는 등 비정상 정책이면 null(호출 측이 기존 방식으로 처리)
+     */
+    public static SlotOccupancy build(int roomId, ReservationRoomPolicy policy,
+                                      RoomOperatingCalendar calendar, RoomBookings bookings) {
+        LocalDate today = LocalDate.now();
+        LocalDate last = today.plusDays(Math.max(0, policy.getBookingOpenDaysAhead()));
+        LocalDate coverLast = bookings.getCoverTo().toLocalDate().minusDays(1);
+        if (last.isAfter(coverLast)) last = coverLast;
+        int days = (int) Math.max(0, ChronoUnit.DAYS.between(today, last) + 1);
+
+        return buildRange(roomId, policy, calendar, bookings, today, days);
+    }
+
+    /**
+     * 지정 범위로 생성(인덱스 범위 밖 날짜를 임시로 계산할 때 등)
+     * - bookings는 [firstDay-buffer, firstDay+days+buffer) 예약을 담고 있어야 한다.
+     */
+    public static SlotOccupancy buildRange(int roomId, ReservationRoomPolicy policy, RoomOperatingCalendar calendar,
+                                           RoomBookings bookings, LocalDate firstDay, int days) {
+        int slot = policy.getSlotMinutes();
+        if (slot <= 0 || MINUTES_PER_DAY % slot != 0) return null;
+
+        long version = bookings.version(); // 먼저 읽어 두면 빌드 중 변경은 다음 isCurrent에서 걸린다.
+
+        SlotOccupancy occ = new SlotOccupancy(roomId, slot, firstDay, Math.max(0, days), calendar, policy, bookings, version);
+        occ.fillOperating(parseDate(policy.getAvailableStartDate()), parseDate(policy.getAvailableEndDate()));
+        occ.clearBookings(Math.max(0, policy.getBufferMinutes()));
+        return occ;
+    }
+
+    private void fillOperating(LocalDate availFrom, LocalDate availTo) {
+        for (int d = 0; d < days; d++) {
+            LocalDate date = firstDay.plusDays(d);
+            if (availFrom != null && date.isBefore(availFrom)) continue;
+            if (availTo != null && date.isAfter(availTo)) continue;
+
+            OperatingWindow w = calendar.windowFor(date);
+            if (w.isClosed()) continue;
+
+            int from = (w.getOpenMinute() + slotMinutes - 1) / slotMinutes; // 올림
+            int to = w.getCloseMinute() / slotMinutes;                       // 내림
+            setRange(d * wordsPerDay, from, to);
+        }
+    }
+
+    private void clearBookings(int buffer) {
+        LocalDateTime from = firstDay.atStartOfDay();
+        LocalDateTime to = firstDay.plusDays(days).atStartOfDay();
+
+        for (RoomBookings.Booking b : bookings.overlapping(from.minusMinutes(buffer), to.plusMinutes(buffer))) {
+            long s = minuteFromFirstDay(b.getStart()) - buffer;
+            long e = minuteFromFirstDay(b.getEnd()) + buffer;
+
+            long firstSlot = Math.floorDiv(s, slotMinutes);
+            long endSlot = Math.floorDiv(e + slotMinutes - 1, slotMinutes);
+            for (long abs = Math.max(0, firstSlot); abs < endSlot && abs < (long) days * slotsPerDay; ) {
+                int d = (int) (abs / slotsPerDay);
+                int sFrom = (int) (abs % slotsPerDay);
+                int sTo = (int) Math.min(slotsPerDay, endSlot - (long) d * slotsPerDay);
+                clearRange(d * wordsPerDay, sFrom, sTo);
+                abs = (long) (d + 1) * slotsPerDay;
+            }
+        }
+    }
+
+    // =========================================================
+    // 조회
+    // =========================================================
+
+    public int getRoomId() { return roomId; }
+    public int getSlotMinutes() { return slotMinutes; }
+    public int getSlotsPerDay() { return slotsPerDay; }
+    public LocalDate getFirstDay() { return firstDay; }
+    public int getDays() { return days; }
+
+    /**
+     * 원천 데이터가 그대로인지(재사용 가능 여부)
+     */
+    public boolean isCurrent(ReservationRoomPolicy policy, RoomOperatingCalendar calendar, RoomBookings bookings) {
+        return this.policy == policy
+                && this.calendar == calendar
+                && this.bookings == bookings
+                && bookings.version() == bookingsVersion
+                && firstDay.equals(LocalDate.now());
+    }
+
+    public boolean covers(LocalDate date) {
+        long d = ChronoUnit.DAYS.between(firstDay, date);
+        return d >= 0 && d < days;
+    }
+
+    /**
+     * [start, end)가 모두 예약 가능 슬롯인지(버퍼 포함)
+     * - 슬롯 경계가 아니면 바깥쪽 슬롯 경계로 넓혀 판단
+     * - 하루를 넘거나 범위 밖이면 false
+     */
+    public boolean isFree(LocalDateTime start, LocalDateTime end) {
+        LocalDate date = start.toLocalDate();
+        if (!covers(date) || !end.isAfter(start)) return false;
+
+        int sm = start.getHour() * 60 + start.getMinute();
+        long em = sm + ChronoUnit.MINUTES.between(start, end);
+        if (em > MINUTES_PER_DAY) return false;
+
+        int from = sm / slotMinutes;
+        int to = (int) ((em + slotMinutes - 1) / slotMinutes);
+        return allSet(dayOffset(date), from, to);
+    }
+
+    /**
+     * after 이후(포함) 처음으로 durationMinutes를 넣을 수 있는 시작 시각, 없으면 null
+     * - 시작은 슬롯 경계, 하루 안에서만 찾는다.
+     */
+    public LocalDateTime firstFreeAfter(LocalDateTime after, int durationMinutes) {
+        int need = slotsFor(durationMinutes);
+        if (need <= 0 || need > slotsPerDay) return null;
+
+        LocalDate date = after.toLocalDate();
+        if (date.isBefore(firstDay)) {
+            date = firstDay;
+            after = firstDay.atStartOfDay();
+        }
+
+        int minSlot = ((after.getHour() * 60 + after.getMinute()) + slotMinutes - 1) / slotMinutes;
+        for (; covers(date); date = date.plusDays(1), minSlot = 0) {
+            long[] starts = runStarts(dayOffset(date), need);
+            int s = nextSetBit(starts, minSlot);
+            if (s >= 0) return date.atStartOfDay().plusMinutes((long) s * slotMinutes);
+        }
+        return null;
+    }
+
+    /**
+     * 하루 예약 가능 슬롯 비트맵 복사본(bit i = i번째 슬롯), 범위 밖이면 null
+     */
+    public long[] freeSlots(LocalDate date) {
+        if (!covers(date)) return null;
+        int off = dayOffset(date);
+        return Arrays.copyOfRange(bits, off, off + wordsPerDay);
+    }
+
+    /**
+     * 하루 중 durationMinutes를 시작할 수 있는 슬롯 비트맵(bit i = i번째 슬롯에서 시작 가능)
+     * - 범위 밖이거나 길이가 비정상이면 null
+     */
+    public long[] freeStarts(LocalDate date, int durationMinutes) {
+        int need = slotsFor(durationMinutes);
+        if (!covers(date) || need <= 0 || need > slotsPerDay) return null;
+        return runStarts(dayOffset(date), need);
+    }
+
+    /**
+     * 슬롯 비트맵 → 시작 분(minute-of-day) 배열
+     */
+    public int[] toStartMinutes(long[] words) {
+        if (words == null) return new int[0];
+
+        int n = 0;
+        for (long w : words) n += Long.bitCount(w);
+
+        int[] out = new int[n];
+        int k = 0;
+        for (int i = nextSetBit(words, 0); i >= 0 && i < slotsPerDay; i = nextSetBit(words, i + 1)) {
+            out[k++] = i * slotMinutes;
+        }
+        return (k == n) ? out : Arrays.copyOf(out, k);
+    }
+
+    /**
+     * 슬롯 비트맵 → "0"/"1" 문자열(i번째 문자 = i번째 슬롯)
+     */
+    public String toBitString(long[] words) {
+        StringBuilder sb = new StringBuilder(slotsPerDay);
+        for (int i = 0; i < slotsPerDay; i++) {
+            boolean set = words != null && (words[i >>> 6] & (1L << (i & 63))) != 0;
+            sb.append(set ? '1' : '0');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * from 슬롯 이전 비트를 지운 복사본(지난 시간 제외 등)
+     */
+    public static long[] clearBefore(long[] words, int fromSlot) {
+        if (words == null) return null;
+        long[] out = words.clone();
+        for (int i = 0; i < out.length && fromSlot > 0; i++, fromSlot -= 64) {
+            out[i] &= (fromSlot >= 64) ? 0L : (-1L << fromSlot);
+        }
+        return out;
+    }
+
+    // =========================================================
+    // 비트 연산(하루 단위 word 배열)
+    // =========================================================
+
+    private int dayOffset(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(firstDay, date) * wordsPerDay;
+    }
+
+    private int slotsFor(int durationMinutes) {
+        if (durationMinutes <= 0) return 0;
+        return (durationMinutes + slotMinutes - 1) / slotMinutes;
+    }
+
+    private long minuteFromFirstDay(LocalDateTime t) {
+        return ChronoUnit.MINUTES.between(firstDay.atStartOfDay(), t);
+    }
+
+    private void setRange(int off, int from, int to) {
+        for (int i = from; i < to; ) {
+            int w = i >>> 6;
+            int hi = Math.min(to, (w + 1) << 6);
+            bits[off + w] |= mask(i & 63, hi - (w << 6));
+            i = hi;
+        }
+    }
+
+    private void clearRange(int off, int from, int to) {
+        for (int i = from; i < to; ) {
+            int w = i >>> 6;
+            int hi = Math.min(to, (w + 1) << 6);
+            bits[off + w] &= ~mask(i & 63, hi - (w << 6));
+            i = hi;
+        }
+    }
+
+    private boolean allSet(int off, int from, int to) {
+        if (from >= to || to > slotsPerDay) return false;
+        for (int i = from; i < to; ) {
+            int w = i >>> 6;
+            int hi = Math.min(to, (w + 1) << 6);
+            long m = mask(i & 63, hi - (w << 6));
+            if ((bits[off + w] & m) != m) return false;
+            i = hi;
+        }
+        return true;
+    }
+
+    /** 비트 [lo, hi) (0 <= lo < hi <= 64) */
+    private static long mask(int lo, int hi) {
+        long upper = (hi == 64) ? -1L : ((1L << hi) - 1);
+        return upper & (-1L << lo);
+    }
+
+    /**
+     * bit i = 슬롯 i..i+n-1이 모두 1
+     * - m &= (m >>> k)를 k=1,2,4..로 누적(word 간 자리 올림 포함) → O(log n) word 연산
+     */
+    private long[] runStarts(int off, int n) {
+        long[] m = Arrays.copyOfRange(bits, off, off + wordsPerDay);
+        int covered = 1;
+        while (covered < n) {
+            int k = Math.min(covered, n - covered);
+            long[] shifted = shiftDown(m, k);
+            for (int w = 0; w < m.length; w++) m[w] &= shifted[w];
+            covered += k;
+        }
+        return m;
+    }
+
+    /** 결과 bit i = 원본 bit i+k (배열 전체를 하나의 비트열로 본다) */
+    private static long[] shiftDown(long[] src, int k) {
+        long[] out = new long[src.length];
+        int ws = k >>> 6;
+        int bs = k & 63;
+        for (int w = 0; w + ws < src.length; w++) {
+            long lo = src[w + ws] >>> bs;
+            long hi = (bs == 0 || w + ws + 1 >= src.length) ? 0L : src[w + ws + 1] << (64 - bs);
+            out[w] = lo | hi;
+        }
+        return out;
+    }
+
+    private static int nextSetBit(long[] words, int from) {
+        int w = from >>> 6;
+        if (w >= words.length) return -1;
+        long word = words[w] & (-1L << (from & 63));
+        while (true) {
+            if (word != 0) return (w << 6) + Long.numberOfTrailingZeros(word);
+            if (++w >= words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    private static LocalDate parseDate(String s) {
+        if (s == null || s.isBlank()) return null;
+        try {
+            return LocalDate.parse(s.trim());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
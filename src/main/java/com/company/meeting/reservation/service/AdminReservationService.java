@@ -1,28 +1,54 @@
 package com.company.meeting.reservation.service;
 
+import com.company.meeting.common.db.UnitOfWork;
 import com.company.meeting.common.util.policy.RoomPolicy;
+import com.company.meeting.reservation.calendar.OperatingWindow;
+import com.company.meeting.reservation.calendar.RoomOperatingCalendar;
+import com.company.meeting.reservation.conflict.RoomWriteQueue;
 import com.company.meeting.reservation.dao.ReservationDAO;
 import com.company.meeting.reservation.dao.ReservationDAO.ReservationRow;
+import com.company.meeting.reservation.dao.ReservationDAO.SeriesSlot;
 import com.company.meeting.reservation.dto.ReservationRoomPolicy;
-import com.company.meeting.reservation.dto.RoomDayOperating;
+import com.company.meeting.reservation.dto.SeriesOccurrenceItem;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * AdminReservationService
  * - 관리자 예약 생성/수정/취소
  * - 정책 검증은 사용자와 동일하게 적용
+ * - 생성/수정은 정책 조회~충돌 체크까지 하나의 트랜잭션(UnitOfWork)으로 처리
+ * - 반복 예약(createSeries)은 회차 전체를 한 트랜잭션에서 일괄 검증/생성
  */
 public class AdminReservationService {
 
+    /**
+     * 반복 예약 1번 요청의 최대 회차 수
+     */
+    public static final int MAX_SERIES_OCCURRENCES = 100;
+
+    private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final ReservationDAO dao = new ReservationDAO();
 
     /**
      * 관리자 예약 생성(대리 예약)
      */
     public int create(int userId, int roomId, String dateStr, String startTimeStr, int durationMinutes, String title) throws Exception {
+        int id = RoomWriteQueue.run(roomId,
+                () -> UnitOfWork.inTransaction(() -> doCreate(userId, roomId, dateStr, startTimeStr, durationMinutes, title)));
+        ReservationService.evictCountCache(userId, roomId);
+        return id;
+    }
+
+    private int doCreate(int userId, int roomId, String dateStr, String startTimeStr, int durationMinutes, String title) throws Exception {
         // ✅ 기본 파라미터 방어
         if (userId <= 0) throw new IllegalArgumentException("userId가 올바르지 않습니다.");
         if (roomId <= 0) throw new IllegalArgumentException("roomId가 올바르지 않습니다.");
@@ -49,8 +75,8 @@ public class AdminReservationService {
         validateDurationAndSlot(policy, st, durationMinutes);
 
         // ✅ 운영시간 검증
-        RoomDayOperating op = dao.findOperatingForDate(roomId, date);
-        if (op == null || op.isClosed()) {
+        OperatingWindow op = dao.findOperatingCalendar(roomId).windowFor(date);
+        if (op.isClosed()) {
             throw new IllegalArgumentException("해당 일자는 휴무입니다.");
         }
         validateWithinOperating(op, date, st, durationMinutes);
@@ -73,12 +99,159 @@ public class AdminReservationService {
         );
     }
 
+    /**
+     * 관리자 반복 예약 생성(매일/매주 N회 또는 종료일까지)
+     * - 정책/운영시간은 한 번만 읽어 모든 회차를 메모리에서 검증
+     * - 충돌 체크는 회의실당 범위 잠금 조회 1번, INSERT도 1번(ReservationDAO.insertReservationSeries)
+     * - 회차별 결과: CREATED / CONFLICT / INVALID (일부 실패해도 나머지는 생성)
+     *
+     * @param repeat   DAILY | WEEKLY
+     * @param interval 반복 간격(일/주, 1 이상)
+     * @param count    회차 수(0이면 untilStr까지)
+     * @param untilStr 종료일(yyyy-MM-dd, 포함, optional)
+     * @return { requested, created, conflicts, invalid, items }
+     */
+    public Map<String, Object> createSeries(int userId, int roomId, String dateStr, String startTimeStr, int durationMinutes,
+                                            String title, String repeat, int interval, int count, String untilStr) throws Exception {
+        // ✅ 회차 펼치기(검증 전, DB 접근 없음)
+        List<LocalDate> dates = expandSeries(dateStr, repeat, interval, count, untilStr);
+
+        Map<String, Object> result = RoomWriteQueue.run(roomId,
+                () -> UnitOfWork.inTransaction(() -> doCreateSeries(userId, roomId, dates, startTimeStr, durationMinutes, title)));
+
+        if ((int) result.get("created") > 0) {
+            ReservationService.evictCountCache(userId, roomId);
+        }
+        return result;
+    }
+
+    private Map<String, Object> doCreateSeries(int userId, int roomId, List<LocalDate> dates, String startTimeStr,
+                                               int durationMinutes, String title) throws Exception {
+        if (userId <= 0) throw new IllegalArgumentException("userId가 올바르지 않습니다.");
+        if (roomId <= 0) throw new IllegalArgumentException("roomId가 올바르지 않습니다.");
+
+        LocalTime st = LocalTime.parse(startTimeStr.trim());
+
+        // ✅ 정책/운영시간: 회차 수와 관계없이 1번
+        ReservationRoomPolicy policy = dao.findRoomPolicy(roomId);
+        if (policy == null) throw new IllegalArgumentException("회의실 정책을 찾을 수 없습니다.");
+        if (!policy.isActive()) {
+            throw new IllegalArgumentException("비활성 회의실은 예약할 수 없습니다.");
+        }
+
+        // ✅ 모든 회차에 같은 값 → 요청 자체 오류
+        validateDurationAndSlot(policy, st, durationMinutes);
+        RoomPolicy.validateBufferMinutes(policy.getBufferMinutes());
+
+        RoomOperatingCalendar calendar = dao.findOperatingCalendar(roomId);
+
+        // ✅ 회차별 날짜 정책 검증(메모리) → 통과한 회차만 충돌 체크 대상
+        List<SeriesOccurrenceItem> items = new ArrayList<>();
+        List<SeriesSlot> slots = new ArrayList<>();
+        List<SeriesOccurrenceItem> slotItems = new ArrayList<>();
+
+        for (LocalDate date : dates) {
+            LocalDateTime start = date.atTime(st);
+            LocalDateTime end = start.plusMinutes(durationMinutes);
+
+            SeriesOccurrenceItem item = new SeriesOccurrenceItem();
+            item.setDate(date.toString());
+            item.setStartTime(start.format(DT_FMT));
+            item.setEndTime(end.format(DT_FMT));
+            items.add(item);
+
+            try {
+                validateAvailableRange(policy, date);
+                validateBookingOpenDays(policy, date);
+
+                OperatingWindow op = calendar.windowFor(date);
+                if (op.isClosed()) {
+                    throw new IllegalArgumentException("해당 일자는 휴무입니다.");
+                }
+                validateWithinOperating(op, date, st, durationMinutes);
+
+            } catch (IllegalArgumentException e) {
+                item.setStatus("INVALID");
+                item.setMessage(e.getMessage());
+                continue;
+            }
+
+            slots.add(new SeriesSlot(start, end));
+            slotItems.add(item);
+        }
+
+        // ✅ 충돌 체크 + insert(회의실당 1번)
+        dao.insertReservationSeries(userId, roomId, title, slots, policy.getBufferMinutes());
+
+        int created = 0;
+        int conflicts = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            SeriesSlot slot = slots.get(i);
+            SeriesOccurrenceItem item = slotItems.get(i);
+            if (slot.getId() > 0) {
+                item.setStatus("CREATED");
+                item.setId(slot.getId());
+                created++;
+            } else {
+                item.setStatus("CONFLICT");
+                item.setMessage(slot.getConflictMessage());
+                conflicts++;
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requested", items.size());
+        result.put("created", created);
+        result.put("conflicts", conflicts);
+        result.put("invalid", items.size() - slots.size());
+        result.put("items", items);
+        return result;
+    }
+
+    /**
+     * 반복 규칙 → 날짜 목록(시작일 포함)
+     */
+    private List<LocalDate> expandSeries(String dateStr, String repeat, int interval, int count, String untilStr) {
+        if (dateStr == null || dateStr.isBlank()) throw new IllegalArgumentException("date가 필요합니다.");
+        LocalDate first = LocalDate.parse(dateStr.trim());
+
+        String r = (repeat == null || repeat.isBlank()) ? "WEEKLY" : repeat.trim().toUpperCase();
+        if (!"DAILY".equals(r) && !"WEEKLY".equals(r)) {
+            throw new IllegalArgumentException("repeat는 DAILY 또는 WEEKLY만 가능합니다.");
+        }
+        if (interval < 1) throw new IllegalArgumentException("interval은 1 이상이어야 합니다.");
+
+        LocalDate until = (untilStr == null || untilStr.isBlank()) ? null : LocalDate.parse(untilStr.trim());
+        if (count <= 0 && until == null) throw new IllegalArgumentException("count 또는 until이 필요합니다.");
+        if (until != null && until.isBefore(first)) throw new IllegalArgumentException("until이 시작일보다 이전입니다.");
+        if (count > MAX_SERIES_OCCURRENCES) {
+            throw new IllegalArgumentException("반복 예약은 최대 " + MAX_SERIES_OCCURRENCES + "회까지 가능합니다.");
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            LocalDate d = "DAILY".equals(r) ? first.plusDays((long) i * interval) : first.plusWeeks((long) i * interval);
+            if (until != null && d.isAfter(until)) break;
+            if (count > 0 && dates.size() >= count) break;
+            if (dates.size() >= MAX_SERIES_OCCURRENCES) {
+                throw new IllegalArgumentException("반복 예약은 최대 " + MAX_SERIES_OCCURRENCES + "회까지 가능합니다.");
+            }
+            dates.add(d);
+        }
+        return dates;
+    }
+
     /**
      * 관리자 예약 수정
      * - title, time 변경 가능
      * - status=BOOKED만 수정 가능
      */
     public boolean update(int reservationId, int roomId, String dateStr, String startTimeStr, int durationMinutes, String title) throws Exception {
+        return RoomWriteQueue.run(roomId,
+                () -> UnitOfWork.inTransaction(() -> doUpdate(reservationId, roomId, dateStr, startTimeStr, durationMinutes, title)));
+    }
+
+    private boolean doUpdate(int reservationId, int roomId, String dateStr, String startTimeStr, int durationMinutes, String title) throws Exception {
         if (reservationId <= 0) throw new IllegalArgumentException("id가 올바르지 않습니다.");
         if (roomId <= 0) throw new IllegalArgumentException("roomId가 올바르지 않습니다.");
 
@@ -109,8 +282,8 @@ public class AdminReservationService {
         validateBookingOpenDays(policy, date);
         validateDurationAndSlot(policy, st, durationMinutes);
 
-        RoomDayOperating op = dao.findOperatingForDate(roomId, date);
-        if (op == null || op.isClosed()) {
+        OperatingWindow op = dao.findOperatingCalendar(roomId).windowFor(date);
+        if (op.isClosed()) {
             throw new IllegalArgumentException("해당 일자는 휴무입니다.");
         }
         validateWithinOperating(op, date, st, durationMinutes);
@@ -136,7 +309,12 @@ public class AdminReservationService {
      */
     public boolean cancel(int reservationId) throws Exception {
         if (reservationId <= 0) throw new IllegalArgumentException("id가 올바르지 않습니다.");
-        return dao.cancelReservationByAdmin(reservationId);
+
+        // 회의실별 대기열 키(예약의 회의실은 바뀌지 않는다)
+        ReservationRow row = dao.findReservationRowById(reservationId);
+        if (row == null) return false;
+
+        return RoomWriteQueue.run(row.getRoomId(), () -> dao.cancelReservationByAdmin(reservationId));
     }
 
     // =========================================================
@@ -188,18 +366,12 @@ public class AdminReservationService {
         }
     }
 
-    private void validateWithinOperating(RoomDayOperating op, LocalDate date, LocalTime st, int durationMinutes) {
-        // op.open/close는 "HH:mm" 형태
-        LocalTime open = LocalTime.parse(op.getOpenTime());
-        LocalTime close = LocalTime.parse(op.getCloseTime());
-
-        LocalDateTime start = date.atTime(st);
-        LocalDateTime end = start.plusMinutes(durationMinutes);
-
-        LocalDateTime openDt = date.atTime(open);
-        LocalDateTime closeDt = date.atTime(close);
+    private void validateWithinOperating(OperatingWindow op, LocalDate date, LocalTime st, int durationMinutes) {
+        // op.open/close는 minute-of-day 정수
+        int start = OperatingWindow.toMinute(st);
+        long end = start + (long) durationMinutes;
 
-        if (start.isBefore(openDt)) throw new IllegalArgumentException("운영 시작 시간 이전입니다.");
-        if (end.isAfter(closeDt)) throw new IllegalArgumentException("운영 종료 시간을 초과합니다.");
+        if (start < op.getOpenMinute()) throw new IllegalArgumentException("운영 시작 시간 이전입니다.");
+        if (end > op.getCloseMinute()) throw new IllegalArgumentException("운영 종료 시간을 초과합니다.");
     }
 }
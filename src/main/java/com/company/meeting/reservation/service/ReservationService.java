@@ -1,9 +1,14 @@
 package com.company.meeting.reservation.service;
 
+import com.company.meeting.common.db.UnitOfWork;
+import com.company.meeting.common.util.cache.TtlCache;
+import com.company.meeting.common.util.paging.CursorSlice;
+import com.company.meeting.common.util.paging.PageCursor;
+import com.company.meeting.reservation.calendar.OperatingWindow;
+import com.company.meeting.reservation.conflict.RoomWriteQueue;
 import com.company.meeting.reservation.dao.ReservationDAO;
 import com.company.meeting.reservation.dto.ReservationListItem;
 import com.company.meeting.reservation.dto.ReservationRoomPolicy;
-import com.company.meeting.reservation.dto.RoomDayOperating;
 import com.company.meeting.reservation.dto.RoomReservationItem;
 import com.company.meeting.reservation.dto.RoomReservationDayCount;
 
@@ -18,11 +23,15 @@ import java.util.Map;
  * ReservationService
  * - "즉시 예약" 정책 기준
  * - 검증(운영시간/slot/min/max/기간/충돌) 후 DAO 호출
+ * - 여러 DAO를 연달아 호출하는 메서드는 UnitOfWork로 커넥션(필요 시 트랜잭션)을 공유한다.
  */
 public class ReservationService {
 
     private static final DateTimeFormatter DT_IN = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-    private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm");
+
+    // ✅ 목록 총 건수 캐시(커서 모드 withTotal 전용)
+    private static final long COUNT_TTL_MS = 60_000L;
+    private static final TtlCache<String, Integer> COUNT_CACHE = new TtlCache<>(10_000, COUNT_TTL_MS);
 
     private final ReservationDAO reservationDAO = new ReservationDAO();
 
@@ -54,6 +63,11 @@ public class ReservationService {
     public Map<String, Object> listRoomReservations(int roomId, String q, int page, int size) throws SQLException {
         if (roomId <= 0) throw new IllegalArgumentException("roomId가 올바르지 않습니다.");
 
+        // ✅ count + 목록 조회를 커넥션 1개로
+        return UnitOfWork.readOnly(() -> doListRoomReservations(roomId, q, page, size));
+    }
+
+    private Map<String, Object> doListRoomReservations(int roomId, String q, int page, int size) throws SQLException {
         if (page < 1) page = 1;
         if (size < 1) size = 10;
 
@@ -79,6 +93,11 @@ public class ReservationService {
     }
 
     public Map<String, Object> listMyReservations(int userId, String q, int page, int size) throws SQLException {
+        // ✅ count + 목록 조회를 커넥션 1개로
+        return UnitOfWork.readOnly(() -> doListMyReservations(userId, q, page, size));
+    }
+
+    private Map<String, Object> doListMyReservations(int userId, String q, int page, int size) throws SQLException {
         if (page < 1) page = 1;
         if (size < 1) size = 10;
 
@@ -103,12 +122,103 @@ public class ReservationService {
         return result;
     }
 
+    // =========================================================
+    // ✅ 커서(keyset) 페이징 모드
+    // - /user/reservations/list, /admin/reservations/list 에서 cursor 파라미터를 보내면 사용
+    // - 목록은 쿼리 1번(size+1) / 총 건수는 withTotal=true일 때만, 그마저도 캐시(TTL)에서
+    // =========================================================
+
+    /**
+     * 내 예약 목록(커서 모드)
+     *
+     * @param cursorToken 이전 응답의 nextCursor(첫 페이지는 null/빈 값)
+     * @param withTotal   총 건수 포함 여부(캐시값, 최대 COUNT_TTL_MS만큼 늦을 수 있음)
+     */
+    public Map<String, Object> listMyReservationsByCursor(int userId, String q, String cursorToken, int size, boolean withTotal)
+            throws SQLException {
+        if (userId <= 0) throw new IllegalArgumentException("로그인이 필요합니다.");
+
+        PageCursor cursor = PageCursor.decode(cursorToken);
+        int safeSize = clampSize(size);
+
+        return UnitOfWork.readOnly(() -> {
+            CursorSlice<ReservationListItem> slice = reservationDAO.findMyReservationsByCursor(userId, q, cursor, safeSize);
+            Integer total = withTotal
+                    ? COUNT_CACHE.getOrLoad(countKey("U", userId, q), () -> reservationDAO.countMyReservations(userId, q))
+                    : null;
+            return toCursorResult(slice, safeSize, total);
+        });
+    }
+
+    /**
+     * 회의실 예약 목록(커서 모드, 관리자 회의실 상세)
+     */
+    public Map<String, Object> listRoomReservationsByCursor(int roomId, String q, String cursorToken, int size, boolean withTotal)
+            throws SQLException {
+        if (roomId <= 0) throw new IllegalArgumentException("roomId가 올바르지 않습니다.");
+
+        PageCursor cursor = PageCursor.decode(cursorToken);
+        int safeSize = clampSize(size);
+
+        return UnitOfWork.readOnly(() -> {
+            CursorSlice<ReservationListItem> slice = reservationDAO.findRoomReservationsByCursor(roomId, q, cursor, safeSize);
+            Integer total = withTotal
+                    ? COUNT_CACHE.getOrLoad(countKey("R", roomId, q), () -> reservationDAO.countRoomReservations(roomId, q))
+                    : null;
+            return toCursorResult(slice, safeSize, total);
+        });
+    }
+
+    /**
+     * 예약 생성 후 해당 회원/회의실의 건수 캐시 제거
+     * - 취소/수정은 건수(BOOKED+CANCELED 전체)를 바꾸지 않으므로 TTL에 맡긴다.
+     */
+    static void evictCountCache(int userId, int roomId) {
+        String u = "U:" + userId + ":";
+        String r = "R:" + roomId + ":";
+        COUNT_CACHE.invalidateIf(k -> k.startsWith(u) || k.startsWith(r));
+    }
+
+    private static String countKey(String owner, int ownerId, String q) {
+        return owner + ":" + ownerId + ":" + (q == null ? "" : q.trim());
+    }
+
+    private static int clampSize(int size) {
+        if (size < 1) return 10;
+        return Math.min(size, 100);
+    }
+
+    private Map<String, Object> toCursorResult(CursorSlice<ReservationListItem> slice, int size, Integer total) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", slice.getItems());
+
+        Map<String, Object> pageMeta = new HashMap<>();
+        pageMeta.put("size", size);
+        pageMeta.put("nextCursor", slice.getNextCursor());
+        pageMeta.put("hasNext", slice.isHasNext());
+        if (total != null) pageMeta.put("total", total);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("data", data);
+        result.put("page", pageMeta);
+        return result;
+    }
+
     /**
      * 예약 생성
+     * - 정책/운영시간 조회와 충돌 체크+insert를 하나의 트랜잭션(커넥션 1개)으로 처리
+     * - 같은 회의실 쓰기는 RoomWriteQueue에서 차례를 기다린 뒤 커넥션을 빌린다.
      * @param startAtStr "yyyy-MM-dd HH:mm"
      * @param durationMinutes 사용자가 선택한 예약 시간(분)
      */
     public int createReservation(int userId, int roomId, String title, String startAtStr, int durationMinutes) throws SQLException {
+        int id = RoomWriteQueue.run(roomId,
+                () -> UnitOfWork.inTransaction(() -> doCreateReservation(userId, roomId, title, startAtStr, durationMinutes)));
+        evictCountCache(userId, roomId);
+        return id;
+    }
+
+    private int doCreateReservation(int userId, int roomId, String title, String startAtStr, int durationMinutes) throws SQLException {
         if (userId <= 0) throw new IllegalArgumentException("로그인이 필요합니다.");
         if (roomId <= 0) throw new IllegalArgumentException("회의실 ID가 올바르지 않습니다.");
 
@@ -168,19 +278,17 @@ public class ReservationService {
         }
 
         // 5) 운영시간(예외 > 주간)
-        RoomDayOperating op = reservationDAO.findOperatingForDate(roomId, d);
+        OperatingWindow op = reservationDAO.findOperatingCalendar(roomId).windowFor(d);
         if (op.isClosed()) {
             String msg = "해당 날짜는 휴무입니다.";
             if (op.getReason() != null && !op.getReason().isBlank()) msg += " (" + op.getReason() + ")";
             throw new IllegalArgumentException(msg);
         }
 
-        LocalTime open = LocalTime.parse(op.getOpenTime(), TIME_FMT);
-        LocalTime close = LocalTime.parse(op.getCloseTime(), TIME_FMT);
-
         // 운영 범위 내 포함 (start>=open, end<=close)
-        if (start.toLocalTime().isBefore(open) || end.toLocalTime().isAfter(close)) {
-            throw new IllegalArgumentException("운영시간(" + op.getOpenTime() + " ~ " + op.getCloseTime() + ") 내에서만 예약 가능합니다.");
+        if (!op.contains(minuteOfDay, minuteOfDay + durationMinutes)) {
+            throw new IllegalArgumentException("운영시간(" + OperatingWindow.formatMinute(op.getOpenMinute())
+                    + " ~ " + OperatingWindow.formatMinute(op.getCloseMinute()) + ") 내에서만 예약 가능합니다.");
         }
 
         // 6) 충돌 체크 + insert
@@ -192,6 +300,10 @@ public class ReservationService {
         if (userId <= 0) throw new IllegalArgumentException("로그인이 필요합니다.");
         if (reservationId <= 0) throw new IllegalArgumentException("예약 ID가 올바르지 않습니다.");
 
-        return reservationDAO.cancelMyReservation(userId, reservationId);
+        // 회의실별 대기열 키(예약의 회의실은 바뀌지 않는다)
+        ReservationDAO.ReservationRow row = reservationDAO.findReservationRowById(reservationId);
+        if (row == null || row.getUserId() != userId) return false;
+
+        return RoomWriteQueue.run(row.getRoomId(), () -> reservationDAO.cancelMyReservation(userId, reservationId));
     }
 }
@@ -1,14 +1,23 @@
 package com.company.meeting.reservation.service;
 
+import com.company.meeting.common.db.UnitOfWork;
+import com.company.meeting.reservation.calendar.OperatingWindow;
+import com.company.meeting.reservation.calendar.RoomOperatingCalendar;
 import com.company.meeting.reservation.dao.ReservationDAO;
 import com.company.meeting.reservation.dto.ReservationRoomPolicy;
-import com.company.meeting.reservation.dto.RoomDayOperating;
+import com.company.meeting.reservation.dto.RoomDayMatrix;
 import com.company.meeting.reservation.dto.RoomReservationDayCount;
 import com.company.meeting.reservation.dto.RoomReservationItem;
+import com.company.meeting.reservation.index.SlotOccupancy;
+import com.company.meeting.room.dao.RoomDAO;
+import com.company.meeting.room.dto.RoomListItem;
 
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,18 +25,36 @@ import java.util.Map;
 /**
  * ReservationStatusService
  * - user/room/list 하단 "예약 현황" 카드에서 사용할 데이터 제공
- * - 일자(타임테이블): 운영시간 + slotMinutes + 예약목록
- * - 달력(월): 날짜별 예약 count
+ * - 일자(타임테이블): 운영시간 + slotMinutes + 예약목록 + 예약 가능 슬롯(서버 계산)
+ * - 달력(월): 날짜별 예약 count + 휴무일
+ * - 매트릭스(여러 회의실 × 최대 31일): 예약 분/운영 분/건수
+ * - 정책/운영시간/예약목록 조회는 UnitOfWork.readOnly로 읽기 커넥션 1개를 공유(replica 라우팅 가능)
  */
 public class ReservationStatusService {
 
+    private static final int MATRIX_MAX_DAYS = 31;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
     private final ReservationDAO reservationDAO = new ReservationDAO();
+    private final RoomDAO roomDAO = new RoomDAO();
 
     /**
      * 특정 일자 현황
      * @return Map(JSON 응답용)
      */
     public Map<String, Object> getDayStatus(int roomId, LocalDate date) throws SQLException {
+        return getDayStatus(roomId, date, 0);
+    }
+
+    /**
+     * 특정 일자 현황(+ durationMinutes로 시작 가능한 시각)
+     * @param durationMinutes 0이면 빈 슬롯 목록, 양수면 해당 길이로 시작 가능한 시각만
+     */
+    public Map<String, Object> getDayStatus(int roomId, LocalDate date, int durationMinutes) throws SQLException {
+        return UnitOfWork.readOnly(() -> doGetDayStatus(roomId, date, durationMinutes));
+    }
+
+    private Map<String, Object> doGetDayStatus(int roomId, LocalDate date, int durationMinutes) throws SQLException {
         ReservationRoomPolicy policy = reservationDAO.findRoomPolicy(roomId);
         if (policy == null) {
             throw new IllegalArgumentException("회의실 정책을 찾을 수 없습니다. (roomId=" + roomId + ")");
@@ -36,7 +63,7 @@ public class ReservationStatusService {
             throw new IllegalArgumentException("비활성화된 회의실입니다.");
         }
 
-        RoomDayOperating op = reservationDAO.findOperatingForDate(roomId, date);
+        OperatingWindow op = reservationDAO.findOperatingCalendar(roomId).windowFor(date);
         List<RoomReservationItem> reservations = reservationDAO.findRoomReservationsForDate(roomId, date);
 
         Map<String, Object> data = new HashMap<>();
@@ -48,18 +75,73 @@ public class ReservationStatusService {
 
         // 운영 정보
         data.put("closed", op.isClosed());
-        data.put("open", op.getOpenTime());
-        data.put("close", op.getCloseTime());
+        data.put("open", OperatingWindow.formatMinute(op.getOpenMinute()));
+        data.put("close", OperatingWindow.formatMinute(op.getCloseMinute()));
         data.put("reason", op.getReason());
 
         data.put("reservations", reservations);
+
+        putFreeSlots(data, roomId, date, policy, durationMinutes);
         return data;
     }
 
+    /**
+     * 예약 가능 슬롯(버퍼 제외 + 지난 시간 제외 + 오픈일수 밖 제외)
+     * - slotBitmap: i번째 문자 = (i * slotMinutes)분에 시작하는 슬롯이 비어 있으면 '1'
+     * - freeStarts: 시작 가능한 minute-of-day 배열
+     *   - durationMinutes 없음: 빈 슬롯 시작 시각
+     *   - durationMinutes 있음: 그 길이를 넣을 수 있는 시작 시각(정책 min/max/slot 위반이면 빈 배열)
+     * - 정책상 슬롯 계산이 불가능하면(slot이 하루를 나누지 못함 등) 필드를 내리지 않는다.
+     */
+    private void putFreeSlots(Map<String, Object> data, int roomId, LocalDate date,
+                              ReservationRoomPolicy policy, int durationMinutes) throws SQLException {
+        LocalDate today = LocalDate.now();
+        boolean bookable = !date.isBefore(today) && !date.isAfter(today.plusDays(policy.getBookingOpenDaysAhead()));
+
+        // ✅ 지난 날짜/오픈일수 밖: 빈 슬롯이 없으므로 예약 조회/비트맵 계산 없이 전부 0
+        if (!bookable) {
+            int slot = policy.getSlotMinutes();
+            if (slot <= 0 || MINUTES_PER_DAY % slot != 0) return;
+
+            data.put("slotBitmap", "0".repeat(MINUTES_PER_DAY / slot));
+            data.put("freeStarts", new int[0]);
+            if (durationMinutes > 0) data.put("durationMinutes", durationMinutes);
+            return;
+        }
+
+        SlotOccupancy occ = reservationDAO.findSlotOccupancy(roomId, date);
+        if (occ == null) return;
+
+        long[] free = occ.freeSlots(date);
+        long[] starts = free;
+        if (durationMinutes > 0) {
+            boolean validDuration = durationMinutes >= policy.getMinMinutes()
+                    && durationMinutes <= policy.getMaxMinutes()
+                    && durationMinutes % occ.getSlotMinutes() == 0;
+            starts = validDuration ? occ.freeStarts(date, durationMinutes) : null;
+        }
+
+        // 오늘: 이미 지난 슬롯 제외
+        if (date.equals(today)) {
+            LocalTime now = LocalTime.now();
+            int fromSlot = (now.getHour() * 60 + now.getMinute() + occ.getSlotMinutes() - 1) / occ.getSlotMinutes();
+            free = SlotOccupancy.clearBefore(free, fromSlot);
+            starts = SlotOccupancy.clearBefore(starts, fromSlot);
+        }
+
+        data.put("slotBitmap", occ.toBitString(free));
+        data.put("freeStarts", occ.toStartMinutes(starts));
+        if (durationMinutes > 0) data.put("durationMinutes", durationMinutes);
+    }
+
     /**
      * 월 현황(달력)
      */
     public Map<String, Object> getMonthStatus(int roomId, YearMonth ym) throws SQLException {
+        return UnitOfWork.readOnly(() -> doGetMonthStatus(roomId, ym));
+    }
+
+    private Map<String, Object> doGetMonthStatus(int roomId, YearMonth ym) throws SQLException {
         ReservationRoomPolicy policy = reservationDAO.findRoomPolicy(roomId);
         if (policy == null) {
             throw new IllegalArgumentException("회의실 정책을 찾을 수 없습니다. (roomId=" + roomId + ")");
@@ -70,10 +152,88 @@ public class ReservationStatusService {
 
         List<RoomReservationDayCount> days = reservationDAO.countRoomReservationsByMonth(roomId, ym);
 
+        // ✅ 휴무일(예외 > 주간): 캘린더에서 한 번에 계산(날짜별 쿼리 없음)
+        List<String> closedDates = new ArrayList<>();
+        RoomOperatingCalendar calendar = reservationDAO.findOperatingCalendar(roomId);
+        for (Map.Entry<LocalDate, OperatingWindow> e : calendar.windowsFor(ym.atDay(1), ym.atEndOfMonth()).entrySet()) {
+            if (e.getValue().isClosed()) closedDates.add(e.getKey().toString());
+        }
+
         Map<String, Object> data = new HashMap<>();
         data.put("roomId", roomId);
         data.put("month", ym.toString()); // yyyy-MM
         data.put("days", days);
+        data.put("closedDates", closedDates);
         return data;
     }
+
+    /**
+     * 여러 회의실 × 기간 현황 매트릭스
+     * - 예약 합계: (회의실, 날짜) GROUP BY 쿼리 1번
+     * - 운영 분: 운영 캘린더(캐시, 없는 회의실만 한 번에 로딩)
+     * @param roomIds 비어 있으면 활성 회의실 전체
+     */
+    public RoomDayMatrix getMatrix(List<Integer> roomIds, LocalDate from, LocalDate to) throws SQLException {
+        if (from == null || to == null) throw new IllegalArgumentException("from/to가 필요합니다.");
+        if (to.isBefore(from)) throw new IllegalArgumentException("to는 from 이후여야 합니다.");
+
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MATRIX_MAX_DAYS) {
+            throw new IllegalArgumentException("기간은 최대 " + MATRIX_MAX_DAYS + "일까지 조회할 수 있습니다.");
+        }
+
+        return UnitOfWork.readOnly(() -> doGetMatrix(roomIds, from, to, (int) days));
+    }
+
+    private RoomDayMatrix doGetMatrix(List<Integer> roomIds, LocalDate from, LocalDate to, int days) throws SQLException {
+        List<RoomListItem> rooms = roomDAO.findRoomsForStatus(roomIds);
+
+        RoomDayMatrix matrix = new RoomDayMatrix();
+        matrix.setFrom(from.toString());
+        matrix.setTo(to.toString());
+        matrix.setDays(days);
+        if (rooms.isEmpty()) return matrix;
+
+        List<Integer> ids = new ArrayList<>(rooms.size());
+        for (RoomListItem r : rooms) ids.add(r.getId());
+
+        Map<Integer, Map<LocalDate, int[]>> totals = reservationDAO.sumRoomDayTotals(ids, from, to);
+        Map<Integer, RoomOperatingCalendar> calendars = reservationDAO.findOperatingCalendars(ids);
+
+        for (RoomListItem r : rooms) {
+            RoomDayMatrix.Row row = new RoomDayMatrix.Row();
+            row.setRoomId(r.getId());
+            row.setName(r.getName());
+            row.setActive(r.isActive());
+
+            int[] booked = new int[days];
+            int[] open = new int[days];
+            int[] counts = new int[days];
+
+            Map<LocalDate, int[]> byDay = totals.get(r.getId());
+            RoomOperatingCalendar cal = calendars.get(r.getId());
+
+            int d = 0;
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1), d++) {
+                if (byDay != null) {
+                    int[] t = byDay.get(date);
+                    if (t != null) {
+                        counts[d] = t[0];
+                        booked[d] = t[1];
+                    }
+                }
+                if (cal != null) {
+                    OperatingWindow w = cal.windowFor(date);
+                    open[d] = w.isClosed() ? 0 : (w.getCloseMinute() - w.getOpenMinute());
+                }
+            }
+
+            row.setBookedMinutes(booked);
+            row.setOpenMinutes(open);
+            row.setCounts(counts);
+            matrix.getRooms().add(row);
+        }
+
+        return matrix;
+    }
 }
@@ -0,0 +1,118 @@
+package com.company.meeting.reservation.service;
+
+import com.company.meeting.reservation.calendar.OperatingWindow;
+import com.company.meeting.reservation.dao.ReservationDAO;
+import com.company.meeting.reservation.dao.ReservationDAO.FreeRoomCandidate;
+import com.company.meeting.reservation.dto.FreeRoomItem;
+import com.company.meeting.reservation.dto.ReservationRoomPolicy;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RoomAvailabilityService
+ * - 빈 회의실 찾기: 날짜/시작/길이/최소 인원/위치로 "지금 바로 예약 가능한" 회의실 목록
+ * - 회의실별 타임테이블을 하나씩 여는 대신 쿼리 1번(후보 + 충돌 제외 + 운영시간)으로 응답한다.
+ *
+ * 판정(예약 생성 검증과 동일 기준):
+ * - 활성, 수용 인원, 버퍼 포함 충돌 없음 (DB)
+ * - 예약 가능 기간, 오픈일수, slot 경계/배수, min/max, 운영시간 안 (메모리)
+ *
+ * 정렬(best fit):
+ * - 남는 좌석(capacity - minCapacity)이 적은 순 → 같은 인원이면 회의실 ID 순
+ */
+public class RoomAvailabilityService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ReservationDAO reservationDAO = new ReservationDAO();
+
+    public Map<String, Object> findFreeRooms(
+            String dateStr, String startStr, int durationMinutes,
+            int minCapacity, String location, int limit
+    ) throws SQLException {
+
+        if (dateStr == null || dateStr.isBlank()) throw new IllegalArgumentException("date가 필요합니다.");
+        if (startStr == null || startStr.isBlank()) throw new IllegalArgumentException("start가 필요합니다.");
+        if (durationMinutes <= 0) throw new IllegalArgumentException("예약 시간을 선택하세요.");
+
+        LocalDate date = LocalDate.parse(dateStr.trim());
+        LocalTime st = LocalTime.parse(startStr.trim());
+
+        LocalDateTime start = date.atTime(st);
+        LocalDateTime end = start.plusMinutes(durationMinutes);
+
+        if (!start.toLocalDate().equals(end.toLocalDate())) {
+            throw new IllegalArgumentException("예약은 하루 안에서만 가능합니다.");
+        }
+        if (start.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("지난 시간은 예약할 수 없습니다.");
+        }
+
+        int cap = Math.max(1, minCapacity);
+        int lim = (limit <= 0) ? 20 : Math.min(limit, MAX_LIMIT);
+
+        List<FreeRoomCandidate> candidates = reservationDAO.findFreeRoomCandidates(start, end, cap, location);
+
+        int startMinute = OperatingWindow.toMinute(st);
+        LocalDate today = LocalDate.now();
+
+        List<FreeRoomItem> rooms = new ArrayList<>();
+        for (FreeRoomCandidate c : candidates) {
+            if (!isBookable(c.getPolicy(), c.getWindow(), date, startMinute, durationMinutes, today)) continue;
+
+            rooms.add(toItem(c));
+            if (rooms.size() >= lim) break; // 후보는 이미 best fit 순
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("date", date.toString());
+        data.put("start", OperatingWindow.formatMinute(startMinute));
+        data.put("durationMinutes", durationMinutes);
+        data.put("minCapacity", cap);
+        data.put("count", rooms.size());
+        data.put("rooms", rooms);
+        return data;
+    }
+
+    /**
+     * 정책/운영시간 판정(ReservationService 생성 검증과 같은 규칙, 예외 대신 boolean)
+     */
+    private boolean isBookable(ReservationRoomPolicy p, OperatingWindow w, LocalDate date,
+                               int startMinute, int durationMinutes, LocalDate today) {
+
+        if (p.getAvailableStartDate() != null && date.isBefore(LocalDate.parse(p.getAvailableStartDate()))) return false;
+        if (p.getAvailableEndDate() != null && date.isAfter(LocalDate.parse(p.getAvailableEndDate()))) return false;
+        if (date.isAfter(today.plusDays(p.getBookingOpenDaysAhead()))) return false;
+
+        int slot = p.getSlotMinutes();
+        if (durationMinutes < p.getMinMinutes() || durationMinutes > p.getMaxMinutes()) return false;
+        if (slot > 0 && (durationMinutes % slot != 0 || startMinute % slot != 0)) return false;
+
+        return w.contains(startMinute, startMinute + durationMinutes);
+    }
+
+    private FreeRoomItem toItem(FreeRoomCandidate c) {
+        ReservationRoomPolicy p = c.getPolicy();
+        OperatingWindow w = c.getWindow();
+
+        FreeRoomItem it = new FreeRoomItem();
+        it.setRoomId(c.getRoomId());
+        it.setName(c.getName());
+        it.setLocation(c.getLocation());
+        it.setCapacity(c.getCapacity());
+        it.setSlotMinutes(p.getSlotMinutes());
+        it.setMinMinutes(p.getMinMinutes());
+        it.setMaxMinutes(p.getMaxMinutes());
+        it.setBufferMinutes(p.getBufferMinutes());
+        it.setOpenTime(OperatingWindow.formatMinute(w.getOpenMinute()));
+        it.setCloseTime(OperatingWindow.formatMinute(w.getCloseMinute()));
+        return it;
+    }
+}
@@ -1,6 +1,11 @@
 package com.company.meeting.room.dao;
 
 import com.company.meeting.common.db.DBConnection;
+import com.company.meeting.common.db.UnitOfWork;
+import com.company.meeting.common.util.search.SearchQuery;
+import com.company.meeting.reservation.dao.OperatingCalendarCache;
+import com.company.meeting.reservation.dao.RoomPolicyCache;
+import com.company.meeting.reservation.index.BookingIndex;
 import com.company.meeting.room.dto.RoomDetail;
 import com.company.meeting.room.dto.RoomListItem;
 import com.company.meeting.room.dto.RoomOperatingHour;
@@ -16,27 +21,49 @@ import java.util.List;
  * RoomDAO
  * - room + room_operating_hours CRUD
  * - 생성/수정 시 운영시간(7일)을 트랜잭션으로 함께 처리한다.
+ * - 생성/수정/삭제가 반영되면 예약 정책 캐시(RoomPolicyCache)를 무효화한다.
  */
 public class RoomDAO {
 
     private static final DateTimeFormatter TIME_FMT = DateTimeFormatter.ofPattern("HH:mm");
 
+    /**
+     * 회의실 검색 조건(이름 또는 위치)
+     * - FULLTEXT(ngram): MATCH(name, location), 바인딩 1개
+     * - LIKE(짧은 검색어 등): 기존과 동일, 바인딩 2개
+     */
+    private static String nameOrLocationFilter(SearchQuery sq) {
+        if (sq.isFulltext()) {
+            return "MATCH(name, location) AGAINST(? IN BOOLEAN MODE)";
+        }
+        return "(name LIKE ? OR IFNULL(location,'') LIKE ?)";
+    }
+
+    /**
+     * nameOrLocationFilter 바인딩
+     * @return 다음 바인딩 위치
+     */
+    private static int bindNameOrLocation(PreparedStatement ps, int idx, SearchQuery sq) throws SQLException {
+        if (sq.isEmpty()) return idx;
+        ps.setString(idx++, sq.bindValue());
+        if (!sq.isFulltext()) {
+            ps.setString(idx++, sq.bindValue());
+        }
+        return idx;
+    }
+
     public int countRoomsByQuery(String q) throws SQLException {
         String base = "SELECT COUNT(*) FROM room";
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
-        String sql = hasQ
-                ? base + " WHERE name LIKE ? OR IFNULL(location,'') LIKE ?"
-                : base;
+        String sql = sq.isEmpty()
+                ? base
+                : base + " WHERE " + nameOrLocationFilter(sq);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(1, like);
-                ps.setString(2, like);
-            }
+            bindNameOrLocation(ps, 1, sq);
 
             try (ResultSet rs = ps.executeQuery()) {
                 rs.next();
@@ -46,26 +73,21 @@ public class RoomDAO {
     }
 
     public List<RoomListItem> findRoomsByQuery(String q, int offset, int size) throws SQLException {
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
         String sql = ""
                 + "SELECT id, name, location, capacity, is_active, slot_minutes, buffer_minutes, updated_at "
                 + "FROM room "
-                + (hasQ ? "WHERE name LIKE ? OR IFNULL(location,'') LIKE ? " : "")
+                + (sq.isEmpty() ? "" : "WHERE " + nameOrLocationFilter(sq) + " ")
                 + "ORDER BY id DESC "
                 + "LIMIT ? OFFSET ?";
 
         List<RoomListItem> list = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            int idx = 1;
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(idx++, like);
-                ps.setString(idx++, like);
-            }
+            int idx = bindNameOrLocation(ps, 1, sq);
             ps.setInt(idx++, size);
             ps.setInt(idx, offset);
 
@@ -103,7 +125,7 @@ public class RoomDAO {
                 + "WHERE room_id = ? "
                 + "ORDER BY dow ASC";
 
-        try (Connection conn = DBConnection.getConnection()) {
+        try (Connection conn = DBConnection.getReadConnection()) {
             RoomDetail detail = null;
 
             try (PreparedStatement ps = conn.prepareStatement(sqlRoom)) {
@@ -237,6 +259,7 @@ public class RoomDAO {
                 }
 
                 conn.commit();
+                onRoomChanged(roomId);
                 return roomId;
 
             } catch (Exception ex) {
@@ -325,6 +348,7 @@ public class RoomDAO {
                 }
 
                 conn.commit();
+                onRoomChanged(room.getId());
                 return updated == 1;
 
             } catch (Exception ex) {
@@ -345,7 +369,9 @@ public class RoomDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
             ps.setInt(1, roomId);
-            return ps.executeUpdate() == 1;
+            boolean deleted = ps.executeUpdate() == 1;
+            if (deleted) onRoomChanged(roomId);
+            return deleted;
         }
     }
 
@@ -370,7 +396,9 @@ public class RoomDAO {
 
                 ps.setInt(1, id);
                 try {
-                    deleted += ps.executeUpdate();
+                    int n = ps.executeUpdate();
+                    deleted += n;
+                    if (n > 0) onRoomChanged(id);
                 } catch (java.sql.SQLException ex) {
                     // ✅ 특정 ID만 실패해도 전체 중단하지 않음(부분 성공 허용)
                     // 로그를 남기고 싶으면 여기서 logger 처리
@@ -381,23 +409,31 @@ public class RoomDAO {
         return deleted;
     }
 
+    /**
+     * 회의실 변경 반영 후 처리
+     * - 예약 정책/운영 캘린더/예약 인덱스 무효화(트랜잭션 안이면 실제 commit 이후)
+     */
+    private void onRoomChanged(int roomId) {
+        UnitOfWork.afterCommit(() -> {
+            RoomPolicyCache.invalidate(roomId);
+            OperatingCalendarCache.invalidate(roomId);
+            BookingIndex.invalidate(roomId); // 삭제 시 예약 CASCADE
+        });
+    }
+
     // ✅ 사용자용: 활성 회의실만 카운트
     public int countActiveRoomsByQuery(String q) throws SQLException {
         String base = "SELECT COUNT(*) FROM room WHERE is_active = 1";
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
-        String sql = hasQ
-                ? base + " AND (name LIKE ? OR IFNULL(location,'') LIKE ?)"
-                : base;
+        String sql = sq.isEmpty()
+                ? base
+                : base + " AND " + nameOrLocationFilter(sq);
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(1, like);
-                ps.setString(2, like);
-            }
+            bindNameOrLocation(ps, 1, sq);
 
             try (ResultSet rs = ps.executeQuery()) {
                 rs.next();
@@ -408,27 +444,22 @@ public class RoomDAO {
 
     // ✅ 사용자용: 활성 회의실만 조회
     public List<RoomListItem> findActiveRoomsByQuery(String q, int offset, int size) throws SQLException {
-        boolean hasQ = (q != null && !q.trim().isEmpty());
+        SearchQuery sq = SearchQuery.of(q);
 
         String sql = ""
                 + "SELECT id, name, location, capacity, is_active, slot_minutes, buffer_minutes, updated_at "
                 + "FROM room "
                 + "WHERE is_active = 1 "
-                + (hasQ ? "AND (name LIKE ? OR IFNULL(location,'') LIKE ?) " : "")
+                + (sq.isEmpty() ? "" : "AND " + nameOrLocationFilter(sq) + " ")
                 + "ORDER BY id DESC "
                 + "LIMIT ? OFFSET ?";
 
         List<RoomListItem> list = new ArrayList<>();
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = DBConnection.getReadConnection();
              PreparedStatement ps = conn.prepareStatement(sql)) {
 
-            int idx = 1;
-            if (hasQ) {
-                String like = "%" + q.trim() + "%";
-                ps.setString(idx++, like);
-                ps.setString(idx++, like);
-            }
+            int idx = bindNameOrLocation(ps, 1, sq);
             ps.setInt(idx++, size);
             ps.setInt(idx, offset);
 
@@ -452,4 +483,51 @@ public class RoomDAO {
         return list;
     }
 
+    /**
+     * 현황 매트릭스용 회의실 목록(ID 순)
+     * - ids가 비어 있으면 활성 회의실 전체, 있으면 해당 ID만(비활성 포함)
+     */
+    public List<RoomListItem> findRoomsForStatus(List<Integer> ids) throws SQLException {
+        boolean byIds = ids != null && !ids.isEmpty();
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT id, name, location, capacity, is_active, slot_minutes, buffer_minutes, updated_at ")
+                .append("FROM room ");
+        if (byIds) {
+            sql.append("WHERE id IN (");
+            for (int i = 0; i < ids.size(); i++) sql.append(i == 0 ? "?" : ",?");
+            sql.append(") ");
+        } else {
+            sql.append("WHERE is_active = 1 ");
+        }
+        sql.append("ORDER BY id ASC");
+
+        List<RoomListItem> list = new ArrayList<>();
+
+        try (Connection conn = DBConnection.getReadConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+
+            if (byIds) {
+                int idx = 1;
+                for (Integer id : ids) ps.setInt(idx++, id);
+            }
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    list.add(new RoomListItem(
+                            rs.getInt("id"),
+                            rs.getString("name"),
+                            rs.getString("location"),
+                            rs.getInt("capacity"),
+                            rs.getInt("is_active") == 1,
+                            rs.getInt("slot_minutes"),
+                            rs.getInt("buffer_minutes"),
+                            rs.getString("updated_at")
+                    ));
+                }
+            }
+        }
+
+        return list;
+    }
 }
@@ -0,0 +1,51 @@
+package com.company.meeting.user;
+
+import com.company.meeting.common.util.api.ApiResponse;
+import com.company.meeting.common.util.json.JsonUtil;
+import com.company.meeting.reservation.service.RoomAvailabilityService;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * RoomAvailableServlet
+ * - POST /user/rooms/available
+ * - 빈 회의실 찾기(모든 활성 회의실 대상, 1회 요청)
+ * - params: date(yyyy-MM-dd), start(HH:mm), durationMinutes, minCapacity(선택, 기본 1), location(선택), limit(선택, 기본 20)
+ */
+@WebServlet("/user/rooms/available")
+public class RoomAvailableServlet extends HttpServlet {
+
+    private final RoomAvailabilityService service = new RoomAvailabilityService();
+
+    @Override
+    protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            Map<String, Object> data = service.findFreeRooms(
+                    req.getParameter("date"),
+                    req.getParameter("start"),
+                    parseInt(req.getParameter("durationMinutes"), 0),
+                    parseInt(req.getParameter("minCapacity"), 1),
+                    req.getParameter("location"),
+                    parseInt(req.getParameter("limit"), 20)
+            );
+
+            JsonUtil.writeJson(resp, ApiResponse.ok(data));
+        } catch (Exception e) {
+            JsonUtil.writeJson(resp, ApiResponse.fail(e.getMessage() == null ? "요청 처리 실패" : e.getMessage()));
+        }
+    }
+
+    private int parseInt(String s, int def) {
+        try {
+            return Integer.parseInt(String.valueOf(s).trim());
+        } catch (Exception ignore) {
+            return def;
+        }
+    }
+}
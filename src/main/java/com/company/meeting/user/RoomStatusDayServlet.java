@@ -16,7 +16,7 @@ import java.util.Map;
 /**
  * RoomStatusDayServlet
  * - POST /user/rooms/status/day
- * - params: roomId, date(yyyy-MM-dd)
+ * - params: roomId, date(yyyy-MM-dd), durationMinutes(선택: 해당 길이로 시작 가능한 시각만 freeStarts에)
  */
 @WebServlet("/user/rooms/status/day")
 public class RoomStatusDayServlet extends HttpServlet {
@@ -39,7 +39,7 @@ public class RoomStatusDayServlet extends HttpServlet {
             }
 
             LocalDate date = LocalDate.parse(dateStr.trim());
-            Map<String, Object> data = service.getDayStatus(roomId, date);
+            Map<String, Object> data = service.getDayStatus(roomId, date, parseInt(req.getParameter("durationMinutes"), 0));
 
             JsonUtil.writeJson(resp, ApiResponse.ok(data));
         } catch (Exception e) {
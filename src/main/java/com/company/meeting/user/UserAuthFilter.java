@@ -25,7 +25,7 @@ import java.io.IOException;
  * 세션 키:
  *  - LOGIN_USER
  */
-@WebFilter("/user/*")
+@WebFilter(urlPatterns = "/user/*", asyncSupported = true)
 public class UserAuthFilter implements Filter {
 
     @Override
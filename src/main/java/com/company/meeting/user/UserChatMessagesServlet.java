@@ -4,6 +4,7 @@ import com.company.meeting.common.util.api.ApiResponse;
 import com.company.meeting.common.util.json.JsonUtil;
 import com.company.meeting.chat.dto.ChatMessageItem;
 import com.company.meeting.chat.dto.ChatThreadDTO;
+import com.company.meeting.chat.live.ChatLongPoll;
 import com.company.meeting.chat.service.ChatService;
 
 import jakarta.servlet.annotation.WebServlet;
@@ -20,13 +21,17 @@ import java.util.Map;
  *
  * Request:
  * - sinceId: 마지막 메시지 ID(없으면 0)
+ * - wait=1: 롱폴링(sinceId 이후 메시지가 없으면 새 메시지/시간 초과까지 대기, ChatLongPoll)
  *
  * Response(ApiResponse):
- * - data: { threadId, items: [...] }
+ * - data: { threadId, items: [...], longPoll }
+ *   - longPoll=true면 바로 다시 조회, false(서버가 대기하지 못함)면 2초 후 다시 조회
  */
-@WebServlet("/user/chat/messages")
+@WebServlet(urlPatterns = "/user/chat/messages", asyncSupported = true)
 public class UserChatMessagesServlet extends HttpServlet {
 
+    static final String SESSION_THREAD_ID = "CHAT_THREAD_ID";
+
     private final ChatService chatService = new ChatService();
 
     @Override
@@ -60,18 +65,74 @@ public class UserChatMessagesServlet extends HttpServlet {
                 sinceId = 0;
             }
 
-            // thread 보장
-            ChatThreadDTO thread = chatService.ensureThread(userId);
+            boolean wait = "1".equals(req.getParameter("wait"));
+
+            // thread 보장(롱폴링은 매 요청 ensureThread를 하지 않도록 세션에 보관)
+            int threadId = threadIdOf(session, userId);
+
+            // ✅ 롱폴링: 이 서버가 아는 최신 id가 sinceId 이하이고 최근(timeoutMs 안)에 DB로 확인했으면 바로 대기
+            if (wait && !ChatLongPoll.mayHaveNewer(threadId, sinceId)) {
+                final long since = sinceId;
+                if (ChatLongPoll.park(req, resp, threadId, since,
+                        (r, signalled) -> writeMessages(r, threadId, since, signalled, true))) {
+                    return;
+                }
+            }
 
             // 메시지 조회(최초 50개 / 이후 신규)
-            List<ChatMessageItem> items = chatService.listMessages(thread.getId(), sinceId, 50);
+            // 롱폴링 DB 확인 시각이 지났으면 버퍼를 거치지 않는다(다른 서버에서 저장된 메시지 확인).
+            boolean dbCheck = wait && !ChatLongPoll.recentlyChecked(threadId);
+            List<ChatMessageItem> items = dbCheck
+                    ? chatService.refreshMessages(threadId, sinceId, 50)
+                    : chatService.listMessages(threadId, sinceId, 50);
+
+            // 대기 전 확인(observed)은 DB 기준으로만 기록
+            if (wait && items.isEmpty() && !dbCheck) {
+                items = chatService.refreshMessages(threadId, sinceId, 50);
+            }
+
+            if (wait && items.isEmpty()) {
+                ChatLongPoll.observed(threadId, sinceId);
+                final long since = sinceId;
+                if (ChatLongPoll.park(req, resp, threadId, since,
+                        (r, signalled) -> writeMessages(r, threadId, since, signalled, true))) {
+                    return;
+                }
+            }
+
+            // 대기하지 못했으면(비활성/대기 상한) longPoll=false → 클라이언트가 잠시 쉬었다가 다시 조회
+            writeItems(resp, threadId, items, wait && !items.isEmpty());
+
+        } catch (Exception e) {
+            resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            resp.getWriter().write(JsonUtil.toJson(ApiResponse.fail("채팅 메시지 조회 중 오류가 발생했습니다.")));
+        }
+    }
 
-            Map<String, Object> data = new HashMap<>();
-            data.put("threadId", thread.getId());
-            data.put("items", items);
+    /**
+     * 세션에 보관한 thread id(없으면 ensureThread 후 보관)
+     */
+    private int threadIdOf(HttpSession session, int userId) throws Exception {
+        Object cached = session.getAttribute(SESSION_THREAD_ID);
+        if (cached instanceof Integer && (Integer) cached > 0) return (Integer) cached;
 
-            resp.setStatus(HttpServletResponse.SC_OK);
-            resp.getWriter().write(JsonUtil.toJson(ApiResponse.ok(data)));
+        ChatThreadDTO thread = chatService.ensureThread(userId);
+        session.setAttribute(SESSION_THREAD_ID, thread.getId());
+        return thread.getId();
+    }
+
+    /**
+     * 롱폴링 응답
+     * - 깨어났을 때: 이 서버에 저장된 메시지 → 버퍼(없으면 primary)
+     * - 시간 초과: 버퍼를 거치지 않고 DB(replica)로 확인(다른 서버에서 저장된 메시지)
+     */
+    private void writeMessages(HttpServletResponse resp, int threadId, long sinceId,
+                               boolean signalled, boolean longPoll) throws IOException {
+        try {
+            List<ChatMessageItem> items = signalled
+                    ? chatService.listMessages(threadId, sinceId, 50)
+                    : chatService.refreshMessages(threadId, sinceId, 50);
+            writeItems(resp, threadId, items, longPoll);
 
         } catch (Exception e) {
             resp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -79,6 +140,19 @@ public class UserChatMessagesServlet extends HttpServlet {
         }
     }
 
+    private void writeItems(HttpServletResponse resp, int threadId, List<ChatMessageItem> items,
+                            boolean longPoll) throws IOException {
+        Map<String, Object> data = new HashMap<>();
+        data.put("threadId", threadId);
+        data.put("items", items);
+        data.put("longPoll", longPoll);
+
+        resp.setContentType("application/json; charset=UTF-8");
+        resp.setCharacterEncoding("UTF-8");
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.getWriter().write(JsonUtil.toJson(ApiResponse.ok(data)));
+    }
+
     /**
      * ✅ 로그인 세션 객체에서 id 추출
      * - 우선순위: getId() -> getUserId() -> field(id) 시도
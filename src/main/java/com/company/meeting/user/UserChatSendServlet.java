@@ -1,5 +1,6 @@
 package com.company.meeting.user;
 
+import com.company.meeting.common.idempotency.IdempotencyFilter;
 import com.company.meeting.common.util.api.ApiResponse;
 import com.company.meeting.common.util.json.JsonUtil;
 import com.company.meeting.chat.dto.ChatMessageItem;
@@ -69,6 +70,7 @@ public class UserChatSendServlet extends HttpServlet {
             // 저장 + 저장된 메시지 반환
             ChatMessageItem saved = chatService.sendUserMessage(thread.getId(), userId, content);
 
+            IdempotencyFilter.markSucceeded(req);
             resp.setStatus(HttpServletResponse.SC_OK);
             resp.getWriter().write(JsonUtil.toJson(ApiResponse.ok(saved)));
 
@@ -0,0 +1,137 @@
+package com.company.meeting.user;
+
+import com.company.meeting.chat.dto.ChatMessageItem;
+import com.company.meeting.chat.live.ChatSocketConfigurator;
+import com.company.meeting.chat.live.ChatSocketHub;
+import com.company.meeting.chat.service.ChatService;
+import com.company.meeting.user.dto.UserDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.websocket.CloseReason;
+import jakarta.websocket.EndpointConfig;
+import jakarta.websocket.OnClose;
+import jakarta.websocket.OnError;
+import jakarta.websocket.OnMessage;
+import jakarta.websocket.OnOpen;
+import jakarta.websocket.Session;
+import jakarta.websocket.server.ServerEndpoint;
+
+import java.io.IOException;
+
+/**
+ * UserChatSocketEndpoint
+ * - WS /user/chat/ws : 회원 1:1 채팅 소켓(로그인 세션 필요)
+ * - 연결 시 내 thread를 구독 → 관리자/내 메시지가 저장되는 즉시 { type:"message", item } 수신
+ *
+ * 클라이언트 → 서버:
+ * - { type:"send", clientId, content } → 저장 후 { type:"ack", clientId, item } 또는 { type:"error", clientId, message }
+ * - { type:"ping" } → 무시(유휴 시간 초과 방지)
+ *
+ * 소켓을 쓸 수 없으면 클라이언트는 기존 POST /user/chat/messages(롱폴링), /user/chat/send로 동작한다.
+ */
+@ServerEndpoint(value = "/user/chat/ws", configurator = ChatSocketConfigurator.class)
+public class UserChatSocketEndpoint {
+
+    private static final ObjectMapper OM = new ObjectMapper();
+    private static final long IDLE_TIMEOUT_MS = readLong("meeting.chat.ws.idleTimeoutMs", 120_000L);
+
+    private final ChatService chatService = new ChatService();
+
+    private ChatSocketHub.Subscriber subscriber;
+    private int userId;
+    private int threadId;
+
+    @OnOpen
+    public void onOpen(Session session, EndpointConfig config) throws IOException {
+        HttpSession hs = (HttpSession) config.getUserProperties().get(ChatSocketConfigurator.HTTP_SESSION);
+        Object login = null;
+        try {
+            login = (hs == null) ? null : hs.getAttribute("LOGIN_USER");
+        } catch (IllegalStateException ignore) {
+            // 세션 만료
+        }
+        if (!(login instanceof UserDTO) || ((UserDTO) login).getId() <= 0) {
+            session.close(new CloseReason(CloseReason.CloseCodes.VIOLATED_POLICY, "login required"));
+            return;
+        }
+
+        try {
+            userId = ((UserDTO) login).getId();
+            threadId = threadIdOf(hs, userId);
+        } catch (Exception e) {
+            session.close(new CloseReason(CloseReason.CloseCodes.UNEXPECTED_CONDITION, "thread error"));
+            return;
+        }
+
+        session.setMaxIdleTimeout(IDLE_TIMEOUT_MS);
+        subscriber = ChatSocketHub.join(threadId, session, false);
+    }
+
+    @OnMessage
+    public void onMessage(String text) {
+        if (subscriber == null) return;
+
+        String clientId = null;
+        try {
+            JsonNode node = OM.readTree(text);
+            String type = node.path("type").asText("");
+            clientId = node.hasNonNull("clientId") ? node.get("clientId").asText() : null;
+
+            if ("ping".equals(type)) return;
+            if (!"send".equals(type)) {
+                subscriber.send(ChatSocketHub.errorFrame(clientId, "지원하지 않는 요청입니다."));
+                return;
+            }
+
+            // ✅ POST /user/chat/send와 같은 검증
+            String content = node.path("content").asText("").trim();
+            if (content.isBlank()) {
+                subscriber.send(ChatSocketHub.errorFrame(clientId, "메시지를 입력하세요."));
+                return;
+            }
+            if (content.length() > 1000) {
+                subscriber.send(ChatSocketHub.errorFrame(clientId, "메시지는 1000자 이하여야 합니다."));
+                return;
+            }
+
+            // 저장 → (ChatEvents) 구독자 push, 보낸 소켓에는 ack
+            ChatMessageItem saved = chatService.sendUserMessage(threadId, userId, content);
+            subscriber.send(ChatSocketHub.frame("ack", clientId, saved));
+
+        } catch (Exception e) {
+            subscriber.send(ChatSocketHub.errorFrame(clientId, "메시지 전송 중 오류가 발생했습니다."));
+        }
+    }
+
+    @OnClose
+    public void onClose() {
+        ChatSocketHub.leave(subscriber);
+    }
+
+    @OnError
+    public void onError(Throwable t) {
+        ChatSocketHub.leave(subscriber);
+    }
+
+    /**
+     * 세션에 보관한 thread id(UserChatMessagesServlet과 공유, 없으면 ensureThread 후 보관)
+     */
+    private int threadIdOf(HttpSession hs, int userId) throws Exception {
+        Object cached = hs.getAttribute(UserChatMessagesServlet.SESSION_THREAD_ID);
+        if (cached instanceof Integer && (Integer) cached > 0) return (Integer) cached;
+
+        int id = chatService.ensureThread(userId).getId();
+        hs.setAttribute(UserChatMessagesServlet.SESSION_THREAD_ID, id);
+        return id;
+    }
+
+    private static long readLong(String key, long def) {
+        try {
+            return Math.max(1_000L, Long.parseLong(System.getProperty(key, String.valueOf(def)).trim()));
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+}
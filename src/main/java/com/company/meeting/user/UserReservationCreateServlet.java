@@ -1,5 +1,6 @@
 package com.company.meeting.user;
 
+import com.company.meeting.common.idempotency.IdempotencyFilter;
 import com.company.meeting.common.util.api.ApiResponse;
 import com.company.meeting.common.util.json.JsonUtil;
 import com.company.meeting.reservation.service.ReservationService;
@@ -48,6 +49,7 @@ public class UserReservationCreateServlet extends HttpServlet {
             Map<String, Object> data = new HashMap<>();
             data.put("id", newId);
 
+            IdempotencyFilter.markSucceeded(req);
             JsonUtil.writeJson(resp, ApiResponse.ok(data));
 
         } catch (Exception e) {
@@ -15,6 +15,10 @@ import java.util.Map;
 /**
  * UserReservationsListServlet
  * - POST /user/reservations/list : 내 예약 목록 JSON
+ *
+ * 모드:
+ * - page 모드(기존): page/size → page { page, size, total, totalPages }
+ * - 커서 모드: cursor(첫 페이지는 빈 값)/size/withTotal → page { size, nextCursor, hasNext, total? }
  */
 @WebServlet("/user/reservations/list")
 public class UserReservationsListServlet extends HttpServlet {
@@ -36,7 +40,11 @@ public class UserReservationsListServlet extends HttpServlet {
             int size = parseInt(req.getParameter("size"), 10);
             String q = req.getParameter("q");
 
-            Map<String, Object> r = reservationService.listMyReservations(userId, q, page, size);
+            // ✅ cursor 파라미터가 있으면 커서 모드(빈 값 = 첫 페이지)
+            String cursor = req.getParameter("cursor");
+            Map<String, Object> r = (cursor != null)
+                    ? reservationService.listMyReservationsByCursor(userId, q, cursor, size, parseBool(req.getParameter("withTotal")))
+                    : reservationService.listMyReservations(userId, q, page, size);
             JsonUtil.writeJson(resp, ApiResponse.ok(r.get("data"), r.get("page")));
 
         } catch (Exception e) {
@@ -47,4 +55,8 @@ public class UserReservationsListServlet extends HttpServlet {
     private int parseInt(String v, int def) {
         try { return Integer.parseInt(v); } catch (Exception ignore) { return def; }
     }
+
+    private boolean parseBool(String v) {
+        return "true".equalsIgnoreCase(v) || "1".equals(v);
+    }
 }
@@ -1,6 +1,9 @@
 package com.company.meeting.user.dao;
 
 import com.company.meeting.common.db.DBConnection;
+import com.company.meeting.common.db.UnitOfWork;
+import com.company.meeting.reservation.dao.RoomDayStatsDAO;
+import com.company.meeting.reservation.index.BookingIndex;
 import com.company.meeting.user.dto.UserDTO;
 
 import java.sql.*;
@@ -70,7 +73,7 @@ public class UserDAO {
         String sql = "SELECT COUNT(*) FROM user";
 
         try (
-                Connection conn = DBConnection.getConnection();
+                Connection conn = DBConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql);
                 ResultSet rs = pstmt.executeQuery()
         ) {
@@ -102,7 +105,7 @@ public class UserDAO {
         }
 
         try (
-                Connection conn = DBConnection.getConnection();
+                Connection conn = DBConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)
         ) {
             if (hasQuery) {
@@ -153,7 +156,7 @@ public class UserDAO {
         List<UserDTO> users = new ArrayList<>();
 
         try (
-                Connection conn = DBConnection.getConnection();
+                Connection conn = DBConnection.getReadConnection();
                 PreparedStatement pstmt = conn.prepareStatement(sql)
         ) {
             int idx = 1;
@@ -265,12 +268,35 @@ public class UserDAO {
 
         String sql = "DELETE FROM user WHERE id = ? AND role = 'USER'";
 
-        try (
-                Connection conn = DBConnection.getConnection();
-                PreparedStatement pstmt = conn.prepareStatement(sql)
-        ) {
-            pstmt.setInt(1, userId);
-            return pstmt.executeUpdate();
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+
+            try {
+                // ✅ 회원 예약이 CASCADE로 삭제되므로 일별 롤업에서 먼저 차감(같은 트랜잭션)
+                new RoomDayStatsDAO().subtractUserBookings(conn, userId);
+
+                int deleted;
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setInt(1, userId);
+                    deleted = pstmt.executeUpdate();
+                }
+
+                if (deleted > 0) {
+                    conn.commit();
+                } else {
+                    conn.rollback(); // 대상 없음(ADMIN 등) → 차감 취소
+                }
+
+                // ✅ 예약 인덱스 전체 무효화(회의실을 알 수 없음)
+                if (deleted > 0) UnitOfWork.afterCommit(BookingIndex::clear);
+                return deleted;
+
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
 
         } catch (SQLException e) {
             throw new RuntimeException("회원 삭제 실패(userId=" + userId + ")", e);
@@ -2,6 +2,8 @@
  * 관리자 대화관리(채팅문의) - 목록 페이지 스크립트
  * - 최근 메시지 내용(lastMessagePreview) + 최근시간(lastMessageAt)까지 표시
  * - 최근 메시지는 1줄 + overflow 시 CSS로 ... 처리
+ * - 실시간 갱신: /admin/chat/threads/stream(SSE)의 thread 이벤트로 해당 행만 갱신
+ *   - 전체 목록 조회는 처음/검색/페이지 이동/재연결 시에만
  */
 
 (() => {
@@ -58,6 +60,11 @@
     totalElements: 0,
   };
 
+  // ✅ 실시간 갱신(SSE)
+  let stream = null;
+  let streamConnectedOnce = false;
+  let reloadTimer = null;
+
   function bindEvents() {
     elBtnSearch?.addEventListener("click", () => {
       state.page = 1;
@@ -100,13 +107,17 @@
     });
   }
 
-  async function loadThreads() {
-    renderLoading();
+  /**
+   * @param quiet true면 로딩 표시/오류 모달 없이 조용히 다시 조회(실시간 갱신용)
+   */
+  async function loadThreads(quiet = false) {
+    if (!quiet) renderLoading();
 
     try {
       const res = await apiListThreads();
 
       if (!res || res.ok !== true) {
+        if (quiet) return;
         showModal("오류", (res && res.message) ? res.message : "목록을 불러오지 못했습니다.");
         renderEmpty("데이터를 불러오지 못했습니다.");
         return;
@@ -127,6 +138,7 @@
       renderPagination();
 
     } catch (e) {
+      if (quiet) return;
       showModal("오류", e.message || "요청 처리 중 오류가 발생했습니다.");
       renderEmpty("데이터를 불러오는 중 오류가 발생했습니다.");
     }
@@ -184,7 +196,7 @@
           <!-- ✅ 한 줄 + ... 처리: CSS 클래스 적용 -->
           <td class="td-ellipsis" title="${escapeHtml(lastPreview)}">${escapeHtml(lastPreview)}</td>
 
-          <td>${escapeHtml(lastAt)}</td>
+          <td class="td-last-at">${escapeHtml(lastAt)}</td>
           <td>${escapeHtml(createdAt)}</td>
           <td>
             <button type="button"
@@ -224,6 +236,73 @@
   }
 
 
+  // =========================================================
+  // 실시간 갱신(SSE)
+  // =========================================================
+
+  function startStream() {
+    if (!window.EventSource || stream) return;
+
+    stream = new EventSource(ctx + "/admin/chat/threads/stream");
+
+    // ✅ 재연결 직후: 끊겨 있던 동안의 변경을 목록 재조회로 메운다.
+    stream.addEventListener("ready", () => {
+      if (streamConnectedOnce) scheduleReload();
+      streamConnectedOnce = true;
+    });
+
+    stream.addEventListener("thread", (e) => {
+      let delta = null;
+      try {
+        delta = JSON.parse(e.data);
+      } catch (err) {
+        return;
+      }
+      if (delta && delta.threadId != null) applyDelta(delta);
+    });
+
+    // 오류 시 EventSource가 자동 재연결(503 등 서버 거절이면 종료 → 실시간 갱신 없이 동작)
+  }
+
+  /**
+   * thread 변경분 반영
+   * - 현재 페이지에 있는 행: 최근 메시지/시간 갱신, 1페이지면 맨 위로
+   * - 없는 행: 1페이지 + 검색어 없음일 때만 목록 재조회(새 대화가 맨 위에 와야 하므로)
+   */
+  function applyDelta(delta) {
+    const row = elTbody.querySelector(`tr[data-thread-id="${CSS.escape(String(delta.threadId))}"]`);
+
+    if (!row) {
+      if (state.page === 1 && !state.q) scheduleReload();
+      return;
+    }
+
+    const preview = normalizeOneLine(delta.lastMessagePreview);
+    const elPreview = row.querySelector(".td-ellipsis");
+    if (elPreview) {
+      elPreview.textContent = preview;
+      elPreview.title = preview;
+    }
+
+    const elLastAt = row.querySelector(".td-last-at");
+    if (elLastAt && delta.lastMessageAt) elLastAt.textContent = delta.lastMessageAt;
+
+    if (state.page === 1 && elTbody.firstElementChild !== row) {
+      elTbody.insertBefore(row, elTbody.firstElementChild);
+    }
+  }
+
+  /**
+   * 연속 이벤트를 묶어 1번만 재조회
+   */
+  function scheduleReload() {
+    if (reloadTimer) return;
+    reloadTimer = setTimeout(() => {
+      reloadTimer = null;
+      loadThreads(true);
+    }, 500);
+  }
+
   function renderPagination() {
     const totalPages = Math.max(1, Number(state.totalPages || 1));
     const current = Math.min(Math.max(1, Number(state.page || 1)), totalPages);
@@ -266,6 +345,7 @@
   function init() {
     bindEvents();
     loadThreads();
+    startStream();
   }
 
   if (document.readyState === "loading") {
@@ -2,9 +2,12 @@
  * 관리자 채팅 팝업 스크립트
  * - GET /admin/chat/messages?threadId&sinceId&limit
  * - POST /admin/chat/send (threadId, content)
+ * - WS /admin/chat/ws?threadId (push 수신 + 전송)
  *
  * 구현 방식:
- * - sinceId 기반 폴링(2초)으로 신규 메시지 수신
+ * - 웹소켓으로 신규 메시지 수신/전송
+ * - 소켓을 쓸 수 없거나 끊기면 sinceId 기반 롱폴링(wait=1) + POST 전송
+ *   - 서버가 대기하지 못하면(longPoll=false) 2초 후 다시 조회
  * - 전송 성공 시 즉시 리스트에 append
  *
  * 주의:
@@ -22,8 +25,17 @@
   const elBtnClose = document.getElementById("btnClose");
 
   let sinceId = 0;
-  let pollingTimer = null;
+  let pollingActive = false;
   let polling = false;
+  const seenIds = new Set(); // 전송 응답/push/조회가 같은 메시지를 여러 번 줄 수 있음
+
+  // 소켓 상태
+  const WS_URL = (location.protocol === "https:" ? "wss://" : "ws://") + location.host
+    + ctx + "/admin/chat/ws?threadId=" + encodeURIComponent(threadId);
+  let socket = null;
+  let pingTimer = null;
+  let clientSeq = 0;
+  const pendingAcks = new Map(); // clientId → { resolve, reject, timer }
 
   // -------------------------
   // 공통 유틸
@@ -81,7 +93,13 @@
   }
 
   function appendMessages(items) {
-    if (!Array.isArray(items) || items.length === 0) return;
+    if (!Array.isArray(items)) return;
+    items = items.filter((it) => !seenIds.has(Number(it.id)));
+    if (items.length === 0) return;
+    items.forEach((it) => {
+      seenIds.add(Number(it.id));
+      if (Number(it.id) > sinceId) sinceId = Number(it.id);
+    });
 
     // 첫 로딩 시 "empty" 메시지 제거
     const empty = elList.querySelector(".chat-empty");
@@ -95,10 +113,11 @@
   // -------------------------
   // API
   // -------------------------
-  async function apiGetMessages() {
+  async function apiGetMessages(wait) {
     const url = ctx + "/admin/chat/messages?threadId=" + encodeURIComponent(threadId)
       + "&sinceId=" + encodeURIComponent(sinceId)
-      + "&limit=50";
+      + "&limit=50"
+      + (wait ? "&wait=1" : "");
 
     return await fetchJson(url, { method: "GET" });
   }
@@ -121,39 +140,136 @@
   // -------------------------
   // 폴링
   // -------------------------
-  async function pollOnce() {
-    if (polling) return;
+  /**
+   * @returns {Promise<boolean>} true면 바로 다시 조회해도 됨(서버가 대기했거나 새 메시지 있음)
+   */
+  async function pollOnce(wait) {
+    if (polling) return false;
     polling = true;
 
     try {
-      const res = await apiGetMessages();
+      const res = await apiGetMessages(wait);
       const data = res.data || {};
       const items = Array.isArray(data.items) ? data.items : [];
       const next = Number(data.nextSinceId || sinceId);
 
-      if (items.length > 0) {
-        appendMessages(items);
-      }
+      // ✅ 대기 중에 내가 보낸 메시지는 전송 응답으로 이미 그렸으므로 건너뜀(appendMessages)
+      appendMessages(items);
       if (next > sinceId) sinceId = next;
 
+      return items.length > 0 || data.longPoll === true;
+
     } catch (e) {
       // ✅ 폴링 에러는 조용히 (필요하면 배너로 변경)
       console.warn("[poll error]", e.message);
+      return false;
 
     } finally {
       polling = false;
     }
   }
 
-  function startPolling() {
-    if (pollingTimer) return;
-    pollingTimer = setInterval(pollOnce, 2000);
+  async function startPolling() {
+    if (pollingActive) return;
+    pollingActive = true;
+
+    while (pollingActive && !isSocketOpen()) {
+      const again = await pollOnce(true);
+      if (!again) await new Promise((r) => setTimeout(r, 2000));
+    }
   }
 
   function stopPolling() {
-    if (!pollingTimer) return;
-    clearInterval(pollingTimer);
-    pollingTimer = null;
+    pollingActive = false;
+  }
+
+  // -------------------------
+  // 웹소켓
+  // -------------------------
+  function isSocketOpen() {
+    return socket && socket.readyState === WebSocket.OPEN;
+  }
+
+  /**
+   * 소켓 연결
+   * - 연결되면 놓친 메시지 1번 조회 후 push만 받음
+   * - 연결 실패/끊김이면 롱폴링으로 전환
+   */
+  function connectSocket() {
+    if (!("WebSocket" in window)) {
+      startPolling();
+      return;
+    }
+
+    let ws;
+    try {
+      ws = new WebSocket(WS_URL);
+    } catch (e) {
+      startPolling();
+      return;
+    }
+    socket = ws;
+
+    ws.onopen = () => {
+      pollOnce(false); // 최초 조회 ~ 구독 사이 메시지
+      pingTimer = setInterval(() => {
+        if (ws.readyState === WebSocket.OPEN) ws.send(JSON.stringify({ type: "ping" }));
+      }, 30000);
+    };
+
+    ws.onmessage = (ev) => {
+      let f;
+      try { f = JSON.parse(ev.data); } catch (e) { return; }
+
+      if (f.type === "message" && f.item) {
+        appendMessages([f.item]);
+      } else if (f.type === "ack" || f.type === "error") {
+        const p = pendingAcks.get(f.clientId);
+        if (!p) return;
+        pendingAcks.delete(f.clientId);
+        clearTimeout(p.timer);
+        if (f.type === "ack") p.resolve(f.item);
+        else p.reject(new Error(f.message || "전송 실패"));
+      }
+    };
+
+    ws.onclose = () => {
+      if (socket === ws) socket = null;
+      if (pingTimer) { clearInterval(pingTimer); pingTimer = null; }
+
+      pendingAcks.forEach((p) => {
+        clearTimeout(p.timer);
+        p.reject(new Error("연결이 끊겼습니다. 메시지 목록을 확인 후 다시 시도하세요."));
+      });
+      pendingAcks.clear();
+
+      startPolling();
+    };
+  }
+
+  function closeSocket() {
+    if (!socket) return;
+    const ws = socket;
+    socket = null;
+    ws.onclose = null;
+    if (pingTimer) { clearInterval(pingTimer); pingTimer = null; }
+    try { ws.close(); } catch (e) { /* ignore */ }
+  }
+
+  /**
+   * 소켓으로 전송 → ack(저장된 1건) 대기
+   */
+  function sendViaSocket(content) {
+    return new Promise((resolve, reject) => {
+      const clientId = "c" + (++clientSeq);
+      const timer = setTimeout(() => {
+        pendingAcks.delete(clientId);
+        reject(new Error("응답 시간이 초과되었습니다. 메시지 목록을 확인 후 다시 시도하세요."));
+      }, 10000);
+
+      pendingAcks.set(clientId, { resolve, reject, timer });
+      socket.send(JSON.stringify({ type: "send", clientId, content }));
+    });
   }
 
   // -------------------------
@@ -166,12 +282,13 @@
     elBtnSend.disabled = true;
 
     try {
-      const res = await apiSendMessage(msg);
-      const saved = res.data?.item;
+      // ✅ 소켓이 열려 있으면 소켓으로(push와 같은 연결)
+      const saved = isSocketOpen()
+        ? await sendViaSocket(msg)
+        : (await apiSendMessage(msg)).data?.item;
 
       if (saved) {
         appendMessages([saved]);
-        if (Number(saved.id) > sinceId) sinceId = Number(saved.id);
       }
 
       elTxt.value = "";
@@ -197,9 +314,10 @@
       }
     });
 
-    // 창 닫힐 때 폴링 정리
+    // 창 닫힐 때 폴링/소켓 정리
     window.addEventListener("beforeunload", () => {
       stopPolling();
+      closeSocket();
     });
   }
 
@@ -215,8 +333,8 @@
     bindEvents();
 
     // ✅ 첫 로딩: 전체 한번 가져오기 (sinceId=0)
-    pollOnce().then(() => {
-      startPolling();
+    pollOnce(false).then(() => {
+      connectSocket();
     });
   }
 
@@ -743,11 +743,14 @@
           if (!st) throw new Error("시작시간이 필요합니다.");
           if (!dur) throw new Error("예약시간이 올바르지 않습니다.");
 
-          await callCreate(userId, d, st, dur, title);
+          createKey = createKey || newIdempotencyKey();
+          await callCreate(userId, d, st, dur, title, createKey);
+          createKey = null;
           closeOverlay();
           await loadDayStatus();
           showModal("예약이 생성되었습니다.", "info");
         } catch (e) {
+          if (!keepIdempotencyKey(e)) createKey = null;
           showModal("생성 실패: " + (e.message || e), "error");
         }
       });
@@ -843,7 +846,10 @@
     // =========================================================
     // ✅ API calls
     // =========================================================
-    async function callCreate(userId, date, startTime, durationMinutes, title) {
+    // ✅ 생성 요청 멱등 키(더블클릭/재시도 시 같은 키)
+    let createKey = null;
+
+    async function callCreate(userId, date, startTime, durationMinutes, title, idempotencyKey) {
       const body = new URLSearchParams({
         roomId: String(currentRoomId),
         userId: String(userId),
@@ -855,7 +861,7 @@
 
       return fetchJson(API_CREATE, {
         method: "POST",
-        headers: { "Content-Type": "application/x-www-form-urlencoded; charset=UTF-8" },
+        headers: { "Content-Type": "application/x-www-form-urlencoded; charset=UTF-8", "Idempotency-Key": idempotencyKey },
         credentials: "same-origin",
         body: body.toString(),
         throwOnOkFalse: true
@@ -157,6 +157,32 @@ async function fetchJson(url, options) {
   return json;
 }
 
+/**
+ * 멱등 키 생성(Idempotency-Key 헤더용)
+ * - 같은 사용자 동작(더블클릭/재시도)에는 같은 키를 다시 보내야 서버가 중복 실행하지 않는다.
+ *
+ * @returns {string}
+ */
+function newIdempotencyKey() {
+  if (window.crypto && typeof window.crypto.randomUUID === 'function') {
+    return window.crypto.randomUUID();
+  }
+  return Date.now().toString(36) + '-' + Math.random().toString(36).slice(2, 12);
+}
+
+/**
+ * 실패 후에도 멱등 키를 유지해야 하는지(= 서버가 처리했는지 모름 → 같은 키로 재시도)
+ * - 네트워크 오류, 처리 중(409), 서버 오류(5xx)
+ *
+ * @param {Error} e fetchJson이 던진 에러
+ * @returns {boolean}
+ */
+function keepIdempotencyKey(e) {
+  if (e instanceof TypeError) return true;
+  const status = e && e.status;
+  return status === 409 || (status >= 500);
+}
+
 /**
  * 쿼리스트링 생성 유틸
  * - 값이 null/undefined/빈문자열이면 제외(기본)
@@ -1,7 +1,9 @@
 /**
  * user/chat-widget.js
  * - 우측 하단 플로팅 채팅 위젯
- * - 2초 폴링으로 신규 메시지 수신
+ * - 웹소켓(/user/chat/ws)으로 신규 메시지 수신/전송(서버 push)
+ * - 소켓을 쓸 수 없거나 끊기면 롱폴링(wait=1) + POST 전송으로 동작
+ *   - 서버가 대기하지 못하면(longPoll=false) 2초 후 다시 조회(기존 폴링과 동일)
  *
  * 전제:
  * - common.js: fetchJson / showModal / escapeHtml 존재(없어도 최소 동작하도록 방어)
@@ -13,6 +15,7 @@
   const ctx = (window.__MEETING__ && window.__MEETING__.ctx) ? window.__MEETING__.ctx : "";
   const API_MESSAGES = ctx + "/user/chat/messages";
   const API_SEND = ctx + "/user/chat/send";
+  const WS_URL = (location.protocol === "https:" ? "wss://" : "ws://") + location.host + ctx + "/user/chat/ws";
 
   // ✅ CSS를 페이지마다 직접 넣기 귀찮으니, JS가 자동 삽입(없으면)
   function ensureCss() {
@@ -47,8 +50,15 @@
 
   // 상태
   let isOpen = false;
-  let pollTimer = null;
+  let pollSeq = 0; // 위젯을 다시 열면 이전 조회 루프/소켓 종료
   let lastId = 0;
+  let seenIds = new Set(); // 전송 응답/push/조회가 같은 메시지를 여러 번 줄 수 있음
+
+  // 소켓 상태
+  let socket = null;
+  let pingTimer = null;
+  let clientSeq = 0;
+  const pendingAcks = new Map(); // clientId → { resolve, reject, timer }
   let isLoading = false;
 
   // DOM refs
@@ -135,27 +145,159 @@
 
     // 최초 로드
     lastId = 0;
+    seenIds = new Set();
     bodyEl.innerHTML = "<div style='color:rgba(0,0,0,0.7); font-size:13px;'>불러오는 중...</div>";
 
-    loadMessages(true);
-
-    // 폴링 시작
-    pollTimer = setInterval(function () {
-      loadMessages(false);
-    }, 2000);
+    // 최초 로드 후 소켓 연결(안 되면 롱폴링)
+    const seq = ++pollSeq;
+    loadMessages(true).then(function () {
+      connectSocket(seq);
+    });
   }
 
   function closeWidget() {
     isOpen = false;
     widgetEl.classList.remove("open");
+    pollSeq++;
+    closeSocket();
+  }
+
+  // ===== 웹소켓 =====
+
+  /**
+   * 소켓 연결
+   * - 연결되면 놓친 메시지 1번 조회 후 push만 받음
+   * - 연결 실패/끊김이면 이번 열람 동안은 롱폴링으로 전환
+   */
+  function connectSocket(seq) {
+    if (!("WebSocket" in window)) {
+      pollLoop(seq);
+      return;
+    }
+
+    let ws;
+    try {
+      ws = new WebSocket(WS_URL);
+    } catch (e) {
+      pollLoop(seq);
+      return;
+    }
+    socket = ws;
+
+    ws.onopen = function () {
+      if (seq !== pollSeq) { ws.close(); return; }
+      loadMessages(false, false); // 최초 조회 ~ 구독 사이 메시지
+      pingTimer = setInterval(function () {
+        if (ws.readyState === WebSocket.OPEN) ws.send(JSON.stringify({ type: "ping" }));
+      }, 30000);
+    };
+
+    ws.onmessage = function (ev) {
+      let f;
+      try { f = JSON.parse(ev.data); } catch (e) { return; }
+
+      if (f.type === "message" && f.item) {
+        appendFresh([f.item]);
+      } else if (f.type === "ack" || f.type === "error") {
+        const p = pendingAcks.get(f.clientId);
+        if (!p) return;
+        pendingAcks.delete(f.clientId);
+        clearTimeout(p.timer);
+        if (f.type === "ack") p.resolve(f.item);
+        else p.reject(new Error(f.message || "전송 실패"));
+      }
+    };
+
+    ws.onclose = function () {
+      if (socket === ws) socket = null;
+      if (pingTimer) { clearInterval(pingTimer); pingTimer = null; }
+      rejectPendingAcks();
 
-    if (pollTimer) {
-      clearInterval(pollTimer);
-      pollTimer = null;
+      // 아직 열려 있으면 폴링으로 계속 수신
+      if (isOpen && seq === pollSeq) pollLoop(seq);
+    };
+  }
+
+  function closeSocket() {
+    if (pingTimer) { clearInterval(pingTimer); pingTimer = null; }
+    if (socket) {
+      const ws = socket;
+      socket = null;
+      try { ws.close(); } catch (e) { /* ignore */ }
     }
+    rejectPendingAcks();
   }
 
-  async function loadMessages(isFirst) {
+  function isSocketOpen() {
+    return socket && socket.readyState === WebSocket.OPEN;
+  }
+
+  function rejectPendingAcks() {
+    pendingAcks.forEach(function (p) {
+      clearTimeout(p.timer);
+      p.reject(new Error("연결이 끊겼습니다. 메시지 목록을 확인 후 다시 시도하세요."));
+    });
+    pendingAcks.clear();
+  }
+
+  /**
+   * 소켓으로 전송 → ack(저장된 1건) 대기
+   */
+  function sendViaSocket(text) {
+    return new Promise(function (resolve, reject) {
+      const clientId = "c" + (++clientSeq);
+      const timer = setTimeout(function () {
+        pendingAcks.delete(clientId);
+        reject(new Error("응답 시간이 초과되었습니다. 메시지 목록을 확인 후 다시 시도하세요."));
+      }, 10000);
+
+      pendingAcks.set(clientId, { resolve: resolve, reject: reject, timer: timer });
+      socket.send(JSON.stringify({ type: "send", clientId: clientId, content: text }));
+    });
+  }
+
+  /**
+   * 아직 그리지 않은 메시지만 추가
+   */
+  function appendFresh(items) {
+    const fresh = items.filter(function (m) { return !seenIds.has(Number(m.id || 0)); });
+    if (fresh.length === 0) return;
+
+    // ✅ 스크롤이 하단 근처면 자동 스크롤
+    const nearBottom = isScrollNearBottom(bodyEl);
+
+    fresh.forEach(function (m) {
+      const id = Number(m.id || 0);
+      seenIds.add(id);
+      appendMessage(m);
+      lastId = Math.max(lastId, id);
+    });
+
+    if (nearBottom) scrollToBottom(bodyEl);
+  }
+
+  /**
+   * 롱폴링 루프
+   * - 응답이 오면 바로 다음 조회(서버가 대기)
+   * - 서버가 대기하지 못했거나(longPoll=false) 오류면 2초 쉬었다가 다시 조회
+   */
+  async function pollLoop(seq) {
+    while (isOpen && seq === pollSeq && !isSocketOpen()) {
+      const r = await loadMessages(false);
+      if (!(r && r.again)) await sleep(2000);
+    }
+  }
+
+  function sleep(ms) {
+    return new Promise(function (resolve) { setTimeout(resolve, ms); });
+  }
+
+  /**
+   * @param {boolean} isFirst 최초 조회(목록 초기화)
+   * @param {boolean} [wait] 롱폴링(기본: 최초가 아니면 true)
+   * @returns {Promise<{again:boolean}|undefined>} again=true면 바로 다시 조회해도 됨
+   */
+  async function loadMessages(isFirst, wait) {
     if (isLoading) return;
     isLoading = true;
 
@@ -166,7 +308,9 @@
         return;
       }
 
-      const body = new URLSearchParams({ sinceId: String(lastId) });
+      const params = { sinceId: String(lastId) };
+      if (wait === undefined ? !isFirst : wait) params.wait = "1";
+      const body = new URLSearchParams(params);
 
       const json = await fetchJson(API_MESSAGES, {
         method: "POST",
@@ -181,17 +325,10 @@
 
       if (isFirst) bodyEl.innerHTML = "";
 
-      if (items.length > 0) {
-        // ✅ 스크롤이 하단 근처면 자동 스크롤
-        const nearBottom = isScrollNearBottom(bodyEl);
-
-        items.forEach(function (m) {
-          appendMessage(m);
-          lastId = Math.max(lastId, Number(m.id || 0));
-        });
+      // ✅ 대기 중에 내가 보낸 메시지는 전송 응답으로 이미 그렸으므로 건너뜀
+      appendFresh(items);
 
-        if (nearBottom) scrollToBottom(bodyEl);
-      }
+      return { again: items.length > 0 || data.longPoll === true };
 
     } catch (e) {
       // 최초 1번만 에러를 사용자에게 알려도 충분
@@ -203,6 +340,9 @@
     }
   }
 
+  // ✅ 전송 멱등 키(같은 메시지 재시도 시 같은 키)
+  let sendKey = null;
+
   async function sendMessage() {
     const text = (inputEl.value || "").trim();
     if (!text) {
@@ -213,11 +353,23 @@
     try {
       btnSendEl.disabled = true;
 
+      // ✅ 소켓이 열려 있으면 소켓으로(push와 같은 연결)
+      if (isSocketOpen()) {
+        const item = await sendViaSocket(text);
+        if (item) {
+          appendFresh([item]);
+          scrollToBottom(bodyEl);
+        }
+        inputEl.value = "";
+        return;
+      }
+
       const body = new URLSearchParams({ content: text });
+      sendKey = sendKey || newIdempotencyKey();
 
       const json = await fetchJson(API_SEND, {
         method: "POST",
-        headers: { "Content-Type": "application/x-www-form-urlencoded" },
+        headers: { "Content-Type": "application/x-www-form-urlencoded", "Idempotency-Key": sendKey },
         credentials: "same-origin",
         body: body.toString(),
         throwOnOkFalse: true
@@ -226,14 +378,15 @@
       // 서버가 저장된 1건을 반환
       const saved = json.data;
       if (saved) {
-        appendMessage(saved);
-        lastId = Math.max(lastId, Number(saved.id || 0));
+        appendFresh([saved]);
         scrollToBottom(bodyEl);
       }
 
+      sendKey = null;
       inputEl.value = "";
 
     } catch (e) {
+      if (!keepIdempotencyKey(e)) sendKey = null;
       if (typeof showModal === "function") showModal("전송 실패: " + (e.message || e), "error");
     } finally {
       btnSendEl.disabled = false;
@@ -1,6 +1,8 @@
 /**
  * user/reservation/list.js
- * - 내 예약 목록: AJAX + 페이징 + 취소
+ * - 내 예약 목록: AJAX + 커서 페이징(이전/다음) + 취소
+ *   - 서버 커서 모드(cursor/nextCursor) 사용: 깊은 페이지도 조회 비용 일정
+ *   - 총 건수는 첫 페이지에서만 요청(withTotal, 서버 캐시값)
  *
  * 전제:
  * - common.js: fetchJson / showModal / escapeHtml / renderPagination
@@ -14,7 +16,8 @@
   const API_LIST = ctx + "/user/reservations/list";
   const API_CANCEL = ctx + "/user/reservations/cancel";
 
-  const state = { page: 1, size: 10, q: "" };
+  // cursor: 현재 페이지 커서("" = 첫 페이지), prevCursors: 이전 페이지로 돌아가기 위한 스택
+  const state = { size: 10, q: "", cursor: "", prevCursors: [], nextCursor: null };
 
   const tbody = document.getElementById("tableBody");
   const totalEl = document.getElementById("totalElements");
@@ -31,7 +34,7 @@
 
     btnSearch.addEventListener("click", () => {
       state.q = (inputQ.value || "").trim();
-      state.page = 1;
+      resetCursor();
       load();
     });
 
@@ -39,14 +42,14 @@
       if (e.key === "Enter") {
         e.preventDefault();
         state.q = (inputQ.value || "").trim();
-        state.page = 1;
+        resetCursor();
         load();
       }
     });
 
     selectSize.addEventListener("change", () => {
       state.size = parseInt(selectSize.value, 10) || 10;
-      state.page = 1;
+      resetCursor();
       load();
     });
   });
@@ -55,10 +58,12 @@
     tbody.innerHTML = "<tr><td colspan='6' class='text-center text-muted'>데이터를 불러오는 중...</td></tr>";
 
     try {
+      const first = (state.prevCursors.length === 0);
       const body = new URLSearchParams({
-        page: String(state.page),
+        cursor: state.cursor,
         size: String(state.size),
-        q: state.q
+        q: state.q,
+        withTotal: first ? "1" : "0"
       });
 
       const json = await fetchJson(API_LIST, {
@@ -70,18 +75,13 @@
       });
 
       const items = (json && json.data && Array.isArray(json.data.items)) ? json.data.items : [];
-      const total = (json && json.page && json.page.total != null) ? json.page.total : items.length;
-      totalEl.textContent = String(total);
+      const page = (json && json.page) ? json.page : {};
+      if (page.total != null) totalEl.textContent = String(page.total);
 
-      render(items);
+      state.nextCursor = page.hasNext ? page.nextCursor : null;
 
-      if (typeof renderPagination === "function") {
-        const p = normalizePage(json && json.page ? json.page : null);
-        renderPagination("#pagination", p, (newPage) => {
-          state.page = newPage;
-          load();
-        });
-      }
+      render(items);
+      renderCursorPager();
 
     } catch (e) {
       totalEl.textContent = "0";
@@ -90,12 +90,59 @@
     }
   }
 
-  function normalizePage(p) {
-    const page = p && p.page != null ? parseInt(p.page, 10) : 1;
-    const size = p && p.size != null ? parseInt(p.size, 10) : state.size;
-    const totalPages = p && p.totalPages != null ? parseInt(p.totalPages, 10) : 1;
-    const totalElements = p && p.total != null ? parseInt(p.total, 10) : 0;
-    return { page, size, totalPages, totalElements };
+  function resetCursor() {
+    state.cursor = "";
+    state.prevCursors = [];
+    state.nextCursor = null;
+  }
+
+  /**
+   * 이전/다음 버튼(커서 모드는 임의 페이지 이동이 없으므로 번호 버튼 대신)
+   * - 스타일은 renderPagination과 같은 클래스 사용
+   */
+  function renderCursorPager() {
+    const el = document.getElementById("pagination");
+    if (!el) return;
+
+    const hasPrev = state.prevCursors.length > 0;
+    const hasNext = !!state.nextCursor;
+    if (!hasPrev && !hasNext) {
+      el.innerHTML = "";
+      return;
+    }
+
+    el.innerHTML = "";
+    const wrap = document.createElement("div");
+    wrap.className = "pagination";
+
+    wrap.appendChild(makePagerBtn("‹ 이전", !hasPrev, () => {
+      state.cursor = state.prevCursors.pop();
+      load();
+    }));
+
+    const cur = document.createElement("button");
+    cur.type = "button";
+    cur.className = "pagination-btn active";
+    cur.textContent = String(state.prevCursors.length + 1);
+    wrap.appendChild(cur);
+
+    wrap.appendChild(makePagerBtn("다음 ›", !hasNext, () => {
+      state.prevCursors.push(state.cursor);
+      state.cursor = state.nextCursor;
+      load();
+    }));
+
+    el.appendChild(wrap);
+  }
+
+  function makePagerBtn(label, disabled, onClick) {
+    const b = document.createElement("button");
+    b.type = "button";
+    b.className = "pagination-btn" + (disabled ? " disabled" : "");
+    b.textContent = label;
+    b.disabled = disabled;
+    if (!disabled) b.addEventListener("click", onClick);
+    return b;
   }
 
   function render(rows) {
@@ -152,6 +152,9 @@
     return { closed, open, close };
   }
 
+  // ✅ 더블클릭/재시도 시 같은 키(서버가 최초 응답을 재사용)
+  let createKey = null;
+
   async function create() {
     try {
       const roomId = parseInt((elRoomId.value || "0"), 10);
@@ -173,20 +176,24 @@
         title: (elTitle.value || "").trim()
       });
 
+      createKey = createKey || newIdempotencyKey();
+
       const json = await fetchJson(API_CREATE, {
         method: "POST",
-        headers: { "Content-Type": "application/x-www-form-urlencoded" },
+        headers: { "Content-Type": "application/x-www-form-urlencoded", "Idempotency-Key": createKey },
         credentials: "same-origin",
         body: body.toString(),
         throwOnOkFalse: true
       });
 
+      createKey = null;
       showModal("예약이 완료되었습니다.", "success");
 
       // 완료 후 내 예약으로 이동
       window.location.href = ctx + "/user/reservations";
 
     } catch (e) {
+      if (!keepIdempotencyKey(e)) createKey = null;
       showModal("예약 실패: " + (e.message || e), "error");
     }
   }
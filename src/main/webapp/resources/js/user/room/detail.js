@@ -304,7 +304,7 @@
   }
 
   /**
-   * data: { open, close, slotMinutes, reservations:[{start,end,title}] }
+   * data: { open, close, slotMinutes, slotBitmap, freeStarts, reservations:[{start,end,title}] }
    */
   function renderDayTimeline(data) {
     // ✅ 운영시간/슬롯 정보
@@ -372,6 +372,14 @@
           + "  </div>"
           + "</div>"
         );
+      } else if (!isSlotBookable(data.slotBitmap, slotStart, slotMinutes)) {
+        // ✅ 예약은 없지만 버퍼/지난 시간 등으로 서버가 예약 불가로 계산한 슬롯
+        rows.push(
+          "<div class='timetable-row'>"
+          + "  <div class='timetable-time'>" + escapeHtml(timeLabel) + "</div>"
+          + "  <div class='timetable-cell busy'>예약 불가</div>"
+          + "</div>"
+        );
       } else {
         rows.push(
           "<div class='timetable-row'>"
@@ -391,6 +399,17 @@
       + "</div>";
   }
 
+  /**
+   * ✅ 서버 계산 슬롯 비트맵(slotBitmap) 확인
+   * - i번째 문자 = (i * slotMinutes)분 슬롯 예약 가능 여부('1')
+   * - 비트맵이 없으면(구버전 응답) 예약 가능으로 본다.
+   */
+  function isSlotBookable(bitmap, slotStartMin, slotMinutes) {
+    if (typeof bitmap !== "string" || !bitmap) return true;
+    const i = Math.floor(slotStartMin / slotMinutes);
+    return bitmap.charAt(i) === "1";
+  }
+
   /**
    * ✅ 예약 시작/끝 필드명 흡수
    * - 서버 응답 DTO가 start/end 또는 startTime/endTime 등으로 바뀌어도 대응